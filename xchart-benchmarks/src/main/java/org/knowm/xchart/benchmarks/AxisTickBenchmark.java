@@ -0,0 +1,87 @@
+package org.knowm.xchart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYChartBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paints a small XYChart, where formatting the tick labels takes much of the time, with the X axis
+ * of dates or numbers and the Y axis linear or logarithmic. Run with -prof gc for the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class AxisTickBenchmark {
+
+  private static final int POINTS = 20;
+
+  @Param({"number", "date"})
+  public String xAxis;
+
+  @Param({"false", "true"})
+  public boolean yAxisLogarithmic;
+
+  private XYChart chart;
+  private BufferedImage image;
+  private Graphics2D graphics2D;
+
+  @Setup
+  public void setup() {
+
+    chart = new XYChartBuilder().width(800).height(600).title("Ticks").build();
+    chart.getStyler().setYAxisLogarithmic(yAxisLogarithmic);
+    List<Double> yData = new ArrayList<>();
+    for (int i = 0; i < POINTS; i++) {
+      yData.add(1 + i * i * 37.5);
+    }
+    if (xAxis.equals("date")) {
+      List<Date> xData = new ArrayList<>();
+      for (int i = 0; i < POINTS; i++) {
+        xData.add(new Date(1_600_000_000_000L + i * 3_600_000L));
+      }
+      chart.addSeries("ticks", xData, yData);
+    } else {
+      List<Double> xData = new ArrayList<>();
+      for (int i = 0; i < POINTS; i++) {
+        xData.add(i * 0.25);
+      }
+      chart.addSeries("ticks", xData, yData);
+    }
+
+    image = new BufferedImage(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB);
+    graphics2D = image.createGraphics();
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    graphics2D.dispose();
+  }
+
+  @Benchmark
+  public BufferedImage paint() {
+
+    chart.paint(graphics2D, chart.getWidth(), chart.getHeight());
+    return image;
+  }
+}
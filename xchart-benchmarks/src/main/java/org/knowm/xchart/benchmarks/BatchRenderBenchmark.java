@@ -0,0 +1,85 @@
+package org.knowm.xchart.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.BitmapEncoder;
+import org.knowm.xchart.BitmapEncoder.BitmapFormat;
+import org.knowm.xchart.XYChart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes a batch of 16 charts as PNG, one after another with saveBitmap and concurrently with
+ * saveBitmaps on a pool of the given number of threads. Compare the threads on a machine with at
+ * least as many cores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class BatchRenderBenchmark {
+
+  private static final int CHARTS = 16;
+
+  @Param({"1", "2", "4", "8"})
+  public int threads;
+
+  private List<XYChart> charts;
+  private List<ByteArrayOutputStream> streams;
+  private ExecutorService executor;
+
+  @Setup
+  public void setup() {
+
+    charts = new ArrayList<>(CHARTS);
+    streams = new ArrayList<>(CHARTS);
+    for (int i = 0; i < CHARTS; i++) {
+      charts.add(Charts.getSineXYChart(800, 600, 1000));
+      streams.add(new ByteArrayOutputStream(1 << 20));
+    }
+    executor = Executors.newFixedThreadPool(threads);
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public List<ByteArrayOutputStream> sequential() throws IOException {
+
+    for (int i = 0; i < CHARTS; i++) {
+      streams.get(i).reset();
+      BitmapEncoder.saveBitmap(charts.get(i), streams.get(i), BitmapFormat.PNG);
+    }
+    return streams;
+  }
+
+  @Benchmark
+  public List<ByteArrayOutputStream> concurrent() throws IOException {
+
+    for (ByteArrayOutputStream stream : streams) {
+      stream.reset();
+    }
+    BitmapEncoder.saveBitmaps(charts, streams, BitmapFormat.PNG, executor);
+    return streams;
+  }
+}
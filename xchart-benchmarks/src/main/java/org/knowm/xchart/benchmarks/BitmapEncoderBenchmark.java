@@ -0,0 +1,83 @@
+package org.knowm.xchart.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.BitmapEncoder;
+import org.knowm.xchart.BitmapEncoder.BitmapFormat;
+import org.knowm.xchart.BitmapEncoder.PNGFilter;
+import org.knowm.xchart.BufferedImagePool;
+import org.knowm.xchart.XYChart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Paints and encodes an 800x600 XYChart as PNG and JPEG, each operation painting the chart */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class BitmapEncoderBenchmark {
+
+  private XYChart chart;
+  private BufferedImagePool pool;
+  private ByteArrayOutputStream stream;
+
+  @Setup
+  public void setup() {
+
+    chart = Charts.getSineXYChart(800, 600, 1000);
+    pool = new BufferedImagePool(1);
+    stream = new ByteArrayOutputStream(1 << 20);
+  }
+
+  @Benchmark
+  public int pngImageIO() throws IOException {
+
+    stream.reset();
+    BitmapEncoder.saveBitmap(chart, stream, BitmapFormat.PNG);
+    return stream.size();
+  }
+
+  @Benchmark
+  public int pngFast() throws IOException {
+
+    stream.reset();
+    BitmapEncoder.savePNG(chart, stream, 1, PNGFilter.NONE, pool);
+    return stream.size();
+  }
+
+  /** The compression level of a file about as small as the ImageIO one */
+  @Benchmark
+  public int pngLevel6() throws IOException {
+
+    stream.reset();
+    BitmapEncoder.savePNG(chart, stream, 6, PNGFilter.NONE, pool);
+    return stream.size();
+  }
+
+  @Benchmark
+  public int jpgImageIO() throws IOException {
+
+    stream.reset();
+    BitmapEncoder.saveBitmap(chart, stream, BitmapFormat.JPG);
+    return stream.size();
+  }
+
+  @Benchmark
+  public int jpgPooled() throws IOException {
+
+    stream.reset();
+    BitmapEncoder.saveJPG(chart, stream, 0.9f, pool);
+    return stream.size();
+  }
+}
@@ -0,0 +1,78 @@
+package org.knowm.xchart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.CategoryChart;
+import org.knowm.xchart.CategoryChartBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Paints a stacked bar CategoryChart into a BufferedImage */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class CategoryChartPaintBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int categories;
+
+  @Param({"5"})
+  public int seriesCount;
+
+  private CategoryChart chart;
+  private BufferedImage image;
+  private Graphics2D graphics2D;
+
+  @Setup
+  public void setup() {
+
+    chart = new CategoryChartBuilder().width(800).height(600).title("Stacked Bars").build();
+    chart.getStyler().setStacked(true);
+    chart.getStyler().setLegendVisible(false);
+    chart.getStyler().setXAxisTicksVisible(false);
+
+    Random random = new Random(42);
+    double[] xData = new double[categories];
+    for (int i = 0; i < categories; i++) {
+      xData[i] = i;
+    }
+    for (int s = 0; s < seriesCount; s++) {
+      double[] yData = new double[categories];
+      for (int i = 0; i < categories; i++) {
+        yData[i] = random.nextInt(100);
+      }
+      chart.addSeries("series " + s, xData, yData);
+    }
+
+    image = new BufferedImage(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB);
+    graphics2D = image.createGraphics();
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    graphics2D.dispose();
+  }
+
+  @Benchmark
+  public BufferedImage paint() {
+
+    chart.paint(graphics2D, chart.getWidth(), chart.getHeight());
+    return image;
+  }
+}
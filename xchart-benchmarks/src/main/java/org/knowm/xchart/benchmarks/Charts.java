@@ -0,0 +1,47 @@
+package org.knowm.xchart.benchmarks;
+
+import java.util.Random;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYChartBuilder;
+import org.knowm.xchart.style.XYStyler.DecimationMode;
+import org.knowm.xchart.style.markers.SeriesMarkers;
+
+/** Charts shared by the benchmarks */
+final class Charts {
+
+  private Charts() {}
+
+  /** A line chart of a noisy sine wave with the given number of points */
+  static XYChart getSineXYChart(int width, int height, int points) {
+
+    double[] xData = new double[points];
+    double[] yData = new double[points];
+    for (int i = 0; i < points; i++) {
+      xData[i] = i;
+      yData[i] = Math.sin(i * 20.0 / points) + Math.cos(i * 1.7) * 0.1;
+    }
+
+    XYChart chart = new XYChartBuilder().width(width).height(height).title("Sine").build();
+    chart.addSeries("sine", xData, yData).setMarker(SeriesMarkers.NONE);
+    return chart;
+  }
+
+  /** An 800x600 line chart of a random walk with the given number of points */
+  static XYChart getRandomWalkXYChart(int points, DecimationMode decimationMode) {
+
+    double[] xData = new double[points];
+    double[] yData = new double[points];
+    Random random = new Random(42);
+    double y = 0;
+    for (int i = 0; i < points; i++) {
+      y += random.nextGaussian();
+      xData[i] = i;
+      yData[i] = y;
+    }
+
+    XYChart chart = new XYChartBuilder().width(800).height(600).title("Paint").build();
+    chart.getStyler().setDecimationMode(decimationMode);
+    chart.addSeries("random walk", xData, yData).setMarker(SeriesMarkers.NONE);
+    return chart;
+  }
+}
@@ -0,0 +1,93 @@
+package org.knowm.xchart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.HeatMapChart;
+import org.knowm.xchart.HeatMapChartBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Paints a square HeatMapChart grid into a BufferedImage */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+@State(Scope.Thread)
+public class HeatMapChartPaintBenchmark {
+
+  /** The number of cells per side */
+  @Param({"100", "500", "1000"})
+  public int size;
+
+  /** Dense double[] heat data instead of {x, y, value} triples */
+  @Param({"false", "true"})
+  public boolean dense;
+
+  private HeatMapChart chart;
+  private BufferedImage image;
+  private Graphics2D graphics2D;
+
+  @Setup
+  public void setup() {
+
+    chart = new HeatMapChartBuilder().width(1000).height(1000).title("Heat Map").build();
+    chart.getStyler().setXAxisTicksVisible(false);
+    chart.getStyler().setYAxisTicksVisible(false);
+
+    List<Integer> xData = new ArrayList<>();
+    List<Integer> yData = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      xData.add(i);
+      yData.add(i);
+    }
+    Random random = new Random(42);
+    double[] denseHeatData = new double[size * size];
+    List<Number[]> heatData = new ArrayList<>();
+    for (int y = 0; y < size; y++) {
+      for (int x = 0; x < size; x++) {
+        denseHeatData[y * size + x] = random.nextInt(1000);
+        if (!dense) {
+          heatData.add(new Number[] {x, y, denseHeatData[y * size + x]});
+        }
+      }
+    }
+    if (dense) {
+      chart.addSeries("heat", xData, yData, denseHeatData);
+    } else {
+      chart.addSeries("heat", xData, yData, heatData);
+    }
+
+    image = new BufferedImage(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB);
+    graphics2D = image.createGraphics();
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    graphics2D.dispose();
+  }
+
+  @Benchmark
+  public BufferedImage paint() {
+
+    chart.paint(graphics2D, chart.getWidth(), chart.getHeight());
+    return image;
+  }
+}
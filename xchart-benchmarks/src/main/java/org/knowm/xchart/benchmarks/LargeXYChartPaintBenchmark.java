@@ -0,0 +1,63 @@
+package org.knowm.xchart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.style.XYStyler.DecimationMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Paints a decimated line XYChart of a random walk of 10M points into a BufferedImage */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+@State(Scope.Thread)
+public class LargeXYChartPaintBenchmark {
+
+  @Param({"10000000"})
+  public int points;
+
+  @Param({"MinMax", "LTTB"})
+  public DecimationMode decimationMode;
+
+  private XYChart chart;
+  private BufferedImage image;
+  private Graphics2D graphics2D;
+
+  @Setup
+  public void setup() {
+
+    chart = Charts.getRandomWalkXYChart(points, decimationMode);
+
+    image = new BufferedImage(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB);
+    graphics2D = image.createGraphics();
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    graphics2D.dispose();
+  }
+
+  @Benchmark
+  public BufferedImage paint() {
+
+    chart.paint(graphics2D, chart.getWidth(), chart.getHeight());
+    return image;
+  }
+}
@@ -0,0 +1,71 @@
+package org.knowm.xchart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JPanel;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.internal.chartpart.ToolTips;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Hit-tests the tooltips of a painted XYChart at random mouse positions, as on mouse moves */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class ToolTipsBenchmark {
+
+  private static final int MOUSE_EVENTS = 1024;
+
+  @Param({"1000", "100000"})
+  public int points;
+
+  private ToolTips toolTips;
+  private MouseEvent[] mouseEvents;
+  private int next;
+
+  @Setup
+  public void setup() {
+
+    XYChart chart = Charts.getSineXYChart(800, 600, points);
+    chart.getStyler().setToolTipsEnabled(true);
+    toolTips = new ToolTips(chart);
+
+    BufferedImage image =
+        new BufferedImage(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics2D = image.createGraphics();
+    chart.paint(graphics2D, chart.getWidth(), chart.getHeight());
+    graphics2D.dispose();
+
+    JPanel panel = new JPanel();
+    Random random = new Random(42);
+    mouseEvents = new MouseEvent[MOUSE_EVENTS];
+    for (int i = 0; i < MOUSE_EVENTS; i++) {
+      int x = random.nextInt(chart.getWidth());
+      int y = random.nextInt(chart.getHeight());
+      mouseEvents[i] = new MouseEvent(panel, MouseEvent.MOUSE_MOVED, 0, 0, x, y, 0, false);
+    }
+  }
+
+  @Benchmark
+  public ToolTips mouseMoved() {
+
+    toolTips.mouseMoved(mouseEvents[next]);
+    next = (next + 1) % MOUSE_EVENTS;
+    return toolTips;
+  }
+}
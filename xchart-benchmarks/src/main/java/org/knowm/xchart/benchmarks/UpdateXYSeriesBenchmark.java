@@ -0,0 +1,76 @@
+package org.knowm.xchart.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.StreamingXYSeries;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYChartBuilder;
+import org.knowm.xchart.XYSeries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The throughput of feeding new points into a chart, by replacing a sliding window of data with
+ * updateXYSeries and by appending to a StreamingXYSeries
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class UpdateXYSeriesBenchmark {
+
+  @Param({"1000", "100000"})
+  public int windowSize;
+
+  private XYChart chart;
+  private StreamingXYSeries streamingSeries;
+  private double[] xData;
+  private double[] yData;
+  private int next;
+
+  @Setup
+  public void setup() {
+
+    xData = new double[windowSize];
+    yData = new double[windowSize];
+    for (int i = 0; i < windowSize; i++) {
+      xData[i] = i;
+      yData[i] = Math.sin(i / 100.0);
+    }
+    next = windowSize;
+
+    chart = new XYChartBuilder().build();
+    chart.addSeries("window", xData, yData);
+    streamingSeries = chart.addStreamingSeries("stream", windowSize);
+  }
+
+  /** Shifts the window by one point and replaces the series data */
+  @Benchmark
+  public XYSeries updateXYSeries() {
+
+    System.arraycopy(xData, 1, xData, 0, windowSize - 1);
+    System.arraycopy(yData, 1, yData, 0, windowSize - 1);
+    xData[windowSize - 1] = next;
+    yData[windowSize - 1] = Math.sin(next / 100.0);
+    next++;
+    return chart.updateXYSeries("window", xData, yData, null);
+  }
+
+  @Benchmark
+  public StreamingXYSeries append() {
+
+    streamingSeries.append(next, Math.sin(next / 100.0));
+    next++;
+    return streamingSeries;
+  }
+}
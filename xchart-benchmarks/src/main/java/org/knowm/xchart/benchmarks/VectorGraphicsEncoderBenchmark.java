@@ -0,0 +1,58 @@
+package org.knowm.xchart.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.VectorGraphicsEncoder;
+import org.knowm.xchart.VectorGraphicsEncoder.VectorGraphicsFormat;
+import org.knowm.xchart.XYChart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Writes an XYChart as SVG and PDF */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class VectorGraphicsEncoderBenchmark {
+
+  @Param({"1000", "100000"})
+  public int points;
+
+  private XYChart chart;
+  private ByteArrayOutputStream stream;
+
+  @Setup
+  public void setup() {
+
+    chart = Charts.getSineXYChart(800, 600, points);
+    stream = new ByteArrayOutputStream(1 << 20);
+  }
+
+  @Benchmark
+  public int svg() throws IOException {
+
+    stream.reset();
+    VectorGraphicsEncoder.saveVectorGraphic(chart, stream, VectorGraphicsFormat.SVG);
+    return stream.size();
+  }
+
+  @Benchmark
+  public int pdf() throws IOException {
+
+    stream.reset();
+    VectorGraphicsEncoder.saveVectorGraphic(chart, stream, VectorGraphicsFormat.PDF);
+    return stream.size();
+  }
+}
@@ -0,0 +1,110 @@
+package org.knowm.xchart.demo.charts.realtime;
+
+import java.util.Timer;
+import java.util.TimerTask;
+import org.knowm.xchart.StreamingXYSeries;
+import org.knowm.xchart.SwingWrapper;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYChartBuilder;
+import org.knowm.xchart.demo.charts.ExampleChart;
+import org.knowm.xchart.demo.charts.RealtimeExampleChart;
+import org.knowm.xchart.style.markers.SeriesMarkers;
+
+/**
+ * Real-time XY Chart with a Streaming Series
+ *
+ * <p>Demonstrates the following:
+ *
+ * <ul>
+ *   <li>real-time chart updates with SwingWrapper
+ *   <li>appending to a fixed capacity streaming series instead of replacing the data
+ */
+public class RealtimeChart07 implements ExampleChart<XYChart>, RealtimeExampleChart {
+
+  private static final String SERIES_NAME = "series1";
+  private static final int CAPACITY = 500;
+
+  private XYChart xyChart;
+  private StreamingXYSeries series;
+  private int x;
+
+  public static void main(String[] args) {
+
+    // Setup the panel
+    final RealtimeChart07 realtimeChart07 = new RealtimeChart07();
+    realtimeChart07.go();
+  }
+
+  private void go() {
+
+    final SwingWrapper<XYChart> swingWrapper = new SwingWrapper<XYChart>(getChart());
+    swingWrapper.displayChart();
+
+    // Simulate a data feed
+    TimerTask chartUpdaterTask =
+        new TimerTask() {
+
+          @Override
+          public void run() {
+
+            javax.swing.SwingUtilities.invokeLater(
+                new Runnable() {
+
+                  @Override
+                  public void run() {
+
+                    updateData();
+                    swingWrapper.repaintChart();
+                  }
+                });
+          }
+        };
+
+    Timer timer = new Timer();
+    timer.scheduleAtFixedRate(chartUpdaterTask, 0, 50);
+  }
+
+  @Override
+  public XYChart getChart() {
+
+    // Create Chart
+    xyChart =
+        new XYChartBuilder()
+            .width(500)
+            .height(400)
+            .title("Real-time Streaming XY Chart")
+            .xAxisTitle("Sample")
+            .yAxisTitle("Value")
+            .build();
+    xyChart.getStyler().setLegendVisible(false);
+
+    series = xyChart.addStreamingSeries(SERIES_NAME, CAPACITY);
+    series.setMarker(SeriesMarkers.NONE);
+    for (int i = 0; i < CAPACITY / 2; i++) {
+      appendPoint();
+    }
+
+    return xyChart;
+  }
+
+  @Override
+  public void updateData() {
+
+    // append a few new points, the oldest ones drop out once the capacity is reached
+    for (int i = 0; i < 5; i++) {
+      appendPoint();
+    }
+  }
+
+  private void appendPoint() {
+
+    series.append(x, Math.sin(x / 20.0) * 50 + Math.random() * 10);
+    x++;
+  }
+
+  @Override
+  public String getExampleChartName() {
+
+    return getClass().getSimpleName() + " - Real-time Streaming XY Chart";
+  }
+}
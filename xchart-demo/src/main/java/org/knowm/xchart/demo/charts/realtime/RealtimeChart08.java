@@ -0,0 +1,109 @@
+package org.knowm.xchart.demo.charts.realtime;
+
+import java.util.Timer;
+import java.util.TimerTask;
+import org.knowm.xchart.OHLCChart;
+import org.knowm.xchart.OHLCChartBuilder;
+import org.knowm.xchart.StreamingOHLCSeries;
+import org.knowm.xchart.SwingWrapper;
+import org.knowm.xchart.demo.charts.ExampleChart;
+import org.knowm.xchart.demo.charts.RealtimeExampleChart;
+import org.knowm.xchart.internal.series.Series.DataType;
+
+/**
+ * Real-time OHLC Chart with a Streaming Series of Ticks
+ *
+ * <p>Demonstrates the following:
+ *
+ * <ul>
+ *   <li>real-time chart updates with SwingWrapper
+ *   <li>merging ticks into candles of one second
+ *   <li>candles merged into wider ones for painting, as there are too many to fit the chart
+ */
+public class RealtimeChart08 implements ExampleChart<OHLCChart>, RealtimeExampleChart {
+
+  private static final String SERIES_NAME = "ticks";
+  private static final long CANDLE_INTERVAL = 1000;
+  private static final int CAPACITY = 3600;
+  private static final long TICK_INTERVAL = 50;
+
+  private OHLCChart ohlcChart;
+  private StreamingOHLCSeries series;
+  private long time = System.currentTimeMillis() - 10 * 60 * 1000;
+  private double price = 100;
+
+  public static void main(String[] args) {
+
+    // Setup the panel
+    final RealtimeChart08 realtimeChart08 = new RealtimeChart08();
+    realtimeChart08.go();
+  }
+
+  private void go() {
+
+    final SwingWrapper<OHLCChart> swingWrapper = new SwingWrapper<OHLCChart>(getChart());
+    swingWrapper.displayChart();
+
+    // Simulate a data feed
+    TimerTask chartUpdaterTask =
+        new TimerTask() {
+
+          @Override
+          public void run() {
+
+            // ticks can be added from any thread
+            updateData();
+            javax.swing.SwingUtilities.invokeLater(swingWrapper::repaintChart);
+          }
+        };
+
+    Timer timer = new Timer();
+    timer.scheduleAtFixedRate(chartUpdaterTask, 0, 200);
+  }
+
+  @Override
+  public OHLCChart getChart() {
+
+    // Create Chart
+    ohlcChart =
+        new OHLCChartBuilder()
+            .width(800)
+            .height(600)
+            .title("Real-time Streaming OHLC Chart")
+            .xAxisTitle("Time")
+            .yAxisTitle("Price")
+            .build();
+    ohlcChart.getStyler().setLegendVisible(false);
+    ohlcChart.getStyler().setDatePattern("HH:mm:ss");
+
+    series = ohlcChart.addStreamingSeries(SERIES_NAME, CANDLE_INTERVAL, CAPACITY, DataType.Date);
+    // ten minutes of ticks, 600 candles of a second
+    while (time < System.currentTimeMillis()) {
+      addTick();
+    }
+
+    return ohlcChart;
+  }
+
+  @Override
+  public void updateData() {
+
+    // add the ticks up to now, they are merged into the candle of their second
+    while (time < System.currentTimeMillis()) {
+      addTick();
+    }
+  }
+
+  private void addTick() {
+
+    price = Math.max(1, price + (Math.random() - 0.5) * 0.5);
+    series.addTick(time, price, (long) (Math.random() * 100));
+    time += TICK_INTERVAL;
+  }
+
+  @Override
+  public String getExampleChartName() {
+
+    return getClass().getSimpleName() + " - Real-time Streaming OHLC Chart";
+  }
+}
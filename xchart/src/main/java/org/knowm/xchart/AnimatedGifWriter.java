@@ -0,0 +1,176 @@
+package org.knowm.xchart;
+
+import com.madgag.gif.fmsware.AnimatedGifEncoder;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Writes an animated GIF into a stream one frame at a time, so the frames don't all have to be in
+ * memory at once. The color quantization and compression of the frames, which takes most of the
+ * time, runs concurrently on an executor, and the frames are written in the order they were added
+ * as soon as they are encoded. At most a given number of frames are encoded at a time, addFrame
+ * waits for the oldest one to be written before taking more.
+ *
+ * <p>The output is the same as that of AnimatedGifEncoder given the same frames. Not thread safe,
+ * frames should be added from one thread.
+ */
+public class AnimatedGifWriter {
+
+  private static final byte[] HEADER = "GIF89a".getBytes(StandardCharsets.US_ASCII);
+  private static final int TRAILER = 0x3b;
+
+  private final OutputStream out;
+  private final int repeat;
+  private final int delay;
+  private final Executor executor;
+  private final int maxPendingFrames;
+
+  // the frames being encoded, in the order they were added
+  private final Deque<CompletableFuture<byte[]>> pendingFrames = new ArrayDeque<>();
+
+  // the size of the first frame, which all frames are scaled to
+  private int width;
+  private int height;
+  private int frameCount;
+
+  /**
+   * Constructor - encodes frames on the common fork-join pool, two per thread of the pool at most
+   *
+   * @param out the stream to write to, which is not closed by finish
+   * @param repeat repeat times, less than 0 does not repeat,0 countless times
+   * @param delay delay time in milliseconds
+   */
+  public AnimatedGifWriter(OutputStream out, int repeat, int delay) {
+
+    this(
+        out, repeat, delay, ForkJoinPool.commonPool(), 2 * ForkJoinPool.getCommonPoolParallelism());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param out the stream to write to, which is not closed by finish
+   * @param repeat repeat times, less than 0 does not repeat,0 countless times
+   * @param delay delay time in milliseconds
+   * @param executor the executor to encode the frames on
+   * @param maxPendingFrames the number of frames encoded at a time at most, which bounds the memory
+   *     used
+   */
+  public AnimatedGifWriter(
+      OutputStream out, int repeat, int delay, Executor executor, int maxPendingFrames) {
+
+    if (maxPendingFrames < 1) {
+      throw new IllegalArgumentException("Max pending frames must be at least 1!!!");
+    }
+    this.out = out;
+    this.repeat = repeat;
+    this.delay = delay;
+    this.executor = executor;
+    this.maxPendingFrames = maxPendingFrames;
+  }
+
+  /**
+   * Adds a frame. The image is encoded concurrently, so it must not be changed afterwards, e.g.
+   * paint each frame of a chart into a new image.
+   *
+   * @param image
+   * @throws IOException if writing an earlier frame fails
+   */
+  public void addFrame(BufferedImage image) throws IOException {
+
+    if (frameCount == 0) {
+      width = image.getWidth();
+      height = image.getHeight();
+      out.write(HEADER);
+    }
+    boolean isFirstFrame = frameCount++ == 0;
+    int frameWidth = width;
+    int frameHeight = height;
+    pendingFrames.add(
+        CompletableFuture.supplyAsync(
+            () ->
+                new FrameEncoder()
+                    .encode(image, frameWidth, frameHeight, isFirstFrame, repeat, delay),
+            executor));
+
+    while (pendingFrames.size() > maxPendingFrames) {
+      writeFrame(pendingFrames.remove());
+    }
+  }
+
+  /**
+   * Waits for the frames to be encoded and writes them and the end of the GIF. Does not close the
+   * stream.
+   *
+   * @throws IOException
+   */
+  public void finish() throws IOException {
+
+    if (frameCount == 0) {
+      out.write(HEADER);
+    }
+    while (!pendingFrames.isEmpty()) {
+      writeFrame(pendingFrames.remove());
+    }
+    out.write(TRAILER);
+    out.flush();
+  }
+
+  public int getFrameCount() {
+
+    return frameCount;
+  }
+
+  private void writeFrame(CompletableFuture<byte[]> frame) throws IOException {
+
+    try {
+      out.write(frame.join());
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Encodes a single frame into the bytes AnimatedGifEncoder writes for it. The first frame comes
+   * with the logical screen descriptor, global color table and loop extension, any other frame with
+   * a local color table, so the frames don't depend on each other and can be encoded concurrently.
+   */
+  private static class FrameEncoder extends AnimatedGifEncoder {
+
+    byte[] encode(
+        BufferedImage image,
+        int width,
+        int height,
+        boolean isFirstFrame,
+        int repeatTimes,
+        int delayTime) {
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      setSize(width, height);
+      setRepeat(repeatTimes);
+      setDelay(delayTime);
+      start(bytes);
+      // without the header, which is written once for the whole GIF
+      bytes.reset();
+      firstFrame = isFirstFrame;
+      addFrame(image);
+      return bytes.toByteArray();
+    }
+  }
+}
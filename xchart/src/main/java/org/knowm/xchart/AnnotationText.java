@@ -4,9 +4,9 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.internal.chartpart.Annotation;
 
 public class AnnotationText extends Annotation {
@@ -44,8 +44,7 @@ public class AnnotationText extends Annotation {
     g.setFont(styler.getAnnotationTextFont());
 
     FontRenderContext frc = g.getFontRenderContext();
-    TextLayout tl = new TextLayout(text, styler.getAnnotationTextFont(), frc);
-    Shape shape = tl.getOutline(null);
+    Shape shape = TextLayoutCache.getOutline(text, styler.getAnnotationTextFont(), frc);
 
     Rectangle2D textBounds = shape.getBounds2D();
 
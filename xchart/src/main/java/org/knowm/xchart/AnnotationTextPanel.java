@@ -5,13 +5,13 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.internal.chartpart.Annotation;
 import org.knowm.xchart.internal.chartpart.Chart;
 
@@ -114,8 +114,8 @@ public class AnnotationTextPanel extends Annotation {
       double lineHeight = entry.getValue().getHeight();
 
       FontRenderContext frc = g.getFontRenderContext();
-      TextLayout tl = new TextLayout(entry.getKey(), styler.getAnnotationTextPanelFont(), frc);
-      Shape shape = tl.getOutline(null);
+      Shape shape =
+          TextLayoutCache.getOutline(entry.getKey(), styler.getAnnotationTextPanelFont(), frc);
       AffineTransform orig = g.getTransform();
       AffineTransform at = new AffineTransform();
       at.translate(xOffset, yOffset + lineHeight + multiLineOffset);
@@ -134,9 +134,8 @@ public class AnnotationTextPanel extends Annotation {
     Font infoPanelFont = styler.getAnnotationTextPanelFont();
     Map<String, Rectangle2D> textBounds = new LinkedHashMap<>(lines.size());
     for (String line : lines) {
-      TextLayout textLayout =
-          new TextLayout(line, infoPanelFont, new FontRenderContext(null, true, false));
-      Shape shape = textLayout.getOutline(null);
+      Shape shape =
+          TextLayoutCache.getOutline(line, infoPanelFont, new FontRenderContext(null, true, false));
       Rectangle2D bounds = shape.getBounds2D();
       textBounds.put(line, bounds);
     }
@@ -0,0 +1,160 @@
+package org.knowm.xchart;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * An XYDataSource reading float, int or short arrays as they are, instead of copying them into
+ * double arrays like XYChart.addSeries(String, float[], float[]) does. This halves the memory of
+ * float and int data and quarters that of short data. Only the points painted are widened to
+ * double, see DataSourceXYSeries.
+ *
+ * <p>The X data is either given as double, e.g. epoch milliseconds which don't fit a float, or of
+ * the same type as the Y data, or generated as 1, 2, 3... The arrays are read, not copied, so they
+ * must not be changed after adding the series.
+ */
+public class ArrayXYDataSource implements XYDataSource {
+
+  private final int size;
+  private final IntToDoubleFunction xValues;
+  private final IntToDoubleFunction yValues;
+
+  private ArrayXYDataSource(
+      int xLength, IntToDoubleFunction xValues, int yLength, IntToDoubleFunction yValues) {
+
+    if (xValues != null && xLength != yLength) {
+      throw new IllegalArgumentException("X and Y-Axis sizes are not the same!!!");
+    }
+    this.size = yLength;
+    this.xValues = xValues != null ? xValues : index -> index + 1;
+    this.yValues = yValues;
+  }
+
+  /**
+   * Creates a data source of float Y data, the X data is generated as 1, 2, 3...
+   *
+   * @param yData
+   * @return
+   */
+  public static ArrayXYDataSource of(float[] yData) {
+
+    return new ArrayXYDataSource(0, null, yData.length, index -> yData[index]);
+  }
+
+  /**
+   * Creates a data source of float X and Y data
+   *
+   * @param xData
+   * @param yData
+   * @return
+   */
+  public static ArrayXYDataSource of(float[] xData, float[] yData) {
+
+    return new ArrayXYDataSource(
+        xData.length, index -> xData[index], yData.length, index -> yData[index]);
+  }
+
+  /**
+   * Creates a data source of double X and float Y data
+   *
+   * @param xData
+   * @param yData
+   * @return
+   */
+  public static ArrayXYDataSource of(double[] xData, float[] yData) {
+
+    return new ArrayXYDataSource(
+        xData.length, index -> xData[index], yData.length, index -> yData[index]);
+  }
+
+  /**
+   * Creates a data source of int Y data, the X data is generated as 1, 2, 3...
+   *
+   * @param yData
+   * @return
+   */
+  public static ArrayXYDataSource of(int[] yData) {
+
+    return new ArrayXYDataSource(0, null, yData.length, index -> yData[index]);
+  }
+
+  /**
+   * Creates a data source of int X and Y data
+   *
+   * @param xData
+   * @param yData
+   * @return
+   */
+  public static ArrayXYDataSource of(int[] xData, int[] yData) {
+
+    return new ArrayXYDataSource(
+        xData.length, index -> xData[index], yData.length, index -> yData[index]);
+  }
+
+  /**
+   * Creates a data source of double X and int Y data
+   *
+   * @param xData
+   * @param yData
+   * @return
+   */
+  public static ArrayXYDataSource of(double[] xData, int[] yData) {
+
+    return new ArrayXYDataSource(
+        xData.length, index -> xData[index], yData.length, index -> yData[index]);
+  }
+
+  /**
+   * Creates a data source of short Y data, the X data is generated as 1, 2, 3...
+   *
+   * @param yData
+   * @return
+   */
+  public static ArrayXYDataSource of(short[] yData) {
+
+    return new ArrayXYDataSource(0, null, yData.length, index -> yData[index]);
+  }
+
+  /**
+   * Creates a data source of short X and Y data
+   *
+   * @param xData
+   * @param yData
+   * @return
+   */
+  public static ArrayXYDataSource of(short[] xData, short[] yData) {
+
+    return new ArrayXYDataSource(
+        xData.length, index -> xData[index], yData.length, index -> yData[index]);
+  }
+
+  /**
+   * Creates a data source of double X and short Y data
+   *
+   * @param xData
+   * @param yData
+   * @return
+   */
+  public static ArrayXYDataSource of(double[] xData, short[] yData) {
+
+    return new ArrayXYDataSource(
+        xData.length, index -> xData[index], yData.length, index -> yData[index]);
+  }
+
+  @Override
+  public int size() {
+
+    return size;
+  }
+
+  @Override
+  public double getX(int index) {
+
+    return xValues.applyAsDouble(index);
+  }
+
+  @Override
+  public double getY(int index) {
+
+    return yValues.applyAsDouble(index);
+  }
+}
@@ -9,9 +9,20 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
 import javax.imageio.ImageTypeSpecifier;
@@ -21,11 +32,16 @@ import javax.imageio.metadata.IIOInvalidTreeException;
 import javax.imageio.metadata.IIOMetadata;
 import javax.imageio.metadata.IIOMetadataNode;
 import javax.imageio.stream.FileImageOutputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 import org.knowm.xchart.internal.chartpart.Chart;
 
 /** A helper class with static methods for saving Charts as bitmaps */
 public final class BitmapEncoder {
 
+  /** Idle JPEG writers, an ImageWriter can't be shared between threads but can be re-used */
+  private static final Queue<ImageWriter> JPEG_WRITERS = new ConcurrentLinkedQueue<>();
+
   /** Constructor - Private constructor to prevent instantiation */
   private BitmapEncoder() {}
 
@@ -109,7 +125,8 @@ public final class BitmapEncoder {
   /**
    * Save list of Charts into a given stream. Does not close the target stream automatically at the
    * end of the operation. Function assumes that all charts are the same size (width, height).
-   * Number of charts should equal rows multiplied by cols.
+   * Number of charts should equal rows multiplied by cols. The charts are painted concurrently, on
+   * the common fork-join pool, each distinct chart once.
    *
    * @param charts
    * @param rows number of rows
@@ -126,13 +143,145 @@ public final class BitmapEncoder {
       BitmapEncoder.BitmapFormat bitmapFormat)
       throws IOException {
 
-    List<BufferedImage> chartImages = new LinkedList<>();
-    for (T c : charts) chartImages.add(getBufferedImage(c));
+    // a chart can't be painted by two tasks at once, so each one is painted once for all its cells
+    Map<T, Integer> uniqueIndices = new IdentityHashMap<>();
+    List<T> uniqueCharts = new ArrayList<>(charts.size());
+    for (T chart : charts) {
+      if (uniqueIndices.putIfAbsent(chart, uniqueCharts.size()) == null) {
+        uniqueCharts.add(chart);
+      }
+    }
+    List<BufferedImage> uniqueImages = getBufferedImages(uniqueCharts, ForkJoinPool.commonPool());
+    List<BufferedImage> chartImages = new ArrayList<>(charts.size());
+    for (T chart : charts) {
+      chartImages.add(uniqueImages.get(uniqueIndices.get(chart)));
+    }
 
     BufferedImage bufferedImage = mergeImages(chartImages, rows, cols);
     ImageIO.write(bufferedImage, bitmapFormat.toString().toLowerCase(), targetStream);
   }
 
+  /**
+   * Write Charts into the given streams concurrently, on the common fork-join pool. Does not close
+   * the target streams automatically at the end of the operation.
+   *
+   * @param charts the charts, each one may only be in the list once
+   * @param targetStreams a stream for each chart, in the same order
+   * @param bitmapFormat
+   * @throws IOException if writing any of the charts fails
+   */
+  public static <T extends Chart<?, ?>> void saveBitmaps(
+      List<T> charts, List<? extends OutputStream> targetStreams, BitmapFormat bitmapFormat)
+      throws IOException {
+
+    saveBitmaps(charts, targetStreams, bitmapFormat, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Write Charts into the given streams concurrently, on the given executor, e.g. a fixed thread
+   * pool or on Java 21+ a virtual thread per task executor. Does not close the target streams
+   * automatically at the end of the operation. Returns once all charts are written or have failed.
+   *
+   * <p>A chart isn't thread safe, so it must not be painted or modified anywhere else while this
+   * runs, and each chart may only be in the list once. The text layouts and formats cached while
+   * painting are kept per thread, so different charts don't share any of them.
+   *
+   * @param charts the charts, each one may only be in the list once
+   * @param targetStreams a stream for each chart, in the same order
+   * @param bitmapFormat
+   * @param executor
+   * @throws IOException if writing any of the charts fails
+   */
+  public static <T extends Chart<?, ?>> void saveBitmaps(
+      List<T> charts,
+      List<? extends OutputStream> targetStreams,
+      BitmapFormat bitmapFormat,
+      Executor executor)
+      throws IOException {
+
+    if (charts.size() != targetStreams.size()) {
+      throw new IllegalArgumentException("Number of charts and target streams are not the same!!!");
+    }
+    checkNotShared(charts);
+
+    List<CompletableFuture<?>> futures = new ArrayList<>(charts.size());
+    for (int i = 0; i < charts.size(); i++) {
+      T chart = charts.get(i);
+      OutputStream targetStream = targetStreams.get(i);
+      futures.add(
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  saveBitmap(chart, targetStream, bitmapFormat);
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              },
+              executor));
+    }
+    try {
+      join(futures);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Paints Charts into BufferedImages concurrently, on the given executor. Each chart may only be
+   * in the list once and must not be painted or modified anywhere else while this runs. The images
+   * are the same as those of getBufferedImage.
+   *
+   * @param charts
+   * @param executor
+   * @return the images, in the same order as the charts
+   */
+  public static <T extends Chart<?, ?>> List<BufferedImage> getBufferedImages(
+      List<T> charts, Executor executor) {
+
+    checkNotShared(charts);
+
+    List<CompletableFuture<BufferedImage>> futures = new ArrayList<>(charts.size());
+    for (T chart : charts) {
+      futures.add(CompletableFuture.supplyAsync(() -> getBufferedImage(chart), executor));
+    }
+    join(futures);
+
+    List<BufferedImage> bufferedImages = new ArrayList<>(futures.size());
+    for (CompletableFuture<BufferedImage> future : futures) {
+      bufferedImages.add(future.join());
+    }
+    return bufferedImages;
+  }
+
+  /** Charts aren't thread safe, so the same chart must not be painted by two tasks at once */
+  private static void checkNotShared(List<? extends Chart<?, ?>> charts) {
+
+    Set<Chart<?, ?>> uniqueCharts = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Chart<?, ?> chart : charts) {
+      if (!uniqueCharts.add(chart)) {
+        throw new IllegalArgumentException(
+            "The same Chart instance can't be rendered concurrently, it is in the list twice!!!");
+      }
+    }
+  }
+
+  /** Waits for all tasks and rethrows the failure of a failed one */
+  private static void join(List<? extends CompletableFuture<?>> futures) {
+
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
   /**
    * Save a chart as a PNG with a custom DPI. The default DPI is 72, which is fine for displaying
    * charts on a computer monitor, but for printing charts, a DPI of around 300 is much better.
@@ -231,19 +380,87 @@ public final class BitmapEncoder {
 
     BufferedImage bufferedImage = getBufferedImage(chart);
 
-    Iterator<ImageWriter> iter = ImageIO.getImageWritersByFormatName("jpeg");
-    ImageWriter writer = iter.next();
-    // instantiate an ImageWriteParam object with default compression options
-    ImageWriteParam iwp = writer.getDefaultWriteParam();
-    iwp.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
-    iwp.setCompressionQuality(quality);
-    File file = new File(fileName);
+    try (FileImageOutputStream output = new FileImageOutputStream(new File(fileName))) {
+      writeJPG(bufferedImage, output, quality);
+    }
+  }
 
-    try (FileImageOutputStream output = new FileImageOutputStream(file)) {
+  /**
+   * Write a Chart as a JPEG into a given stream, re-using the JPEG writers of previous calls. Does
+   * not close the target stream automatically at the end of the operation.
+   *
+   * @param chart
+   * @param targetStream
+   * @param quality - a float between 0 and 1 (1 = maximum quality)
+   * @param pool - the pool to take the image the chart is painted into from, or null
+   * @throws IOException
+   */
+  public static <T extends Chart<?, ?>> void saveJPG(
+      T chart, OutputStream targetStream, float quality, BufferedImagePool pool)
+      throws IOException {
+
+    BufferedImage bufferedImage = getBufferedImage(chart, pool);
+    try (ImageOutputStream output = new MemoryCacheImageOutputStream(targetStream)) {
+      writeJPG(bufferedImage, output, quality);
+    } finally {
+      if (pool != null) {
+        pool.release(bufferedImage);
+      }
+    }
+  }
+
+  private static void writeJPG(BufferedImage bufferedImage, ImageOutputStream output, float quality)
+      throws IOException {
+
+    ImageWriter writer = JPEG_WRITERS.poll();
+    if (writer == null) {
+      writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    }
+    try {
+      // instantiate an ImageWriteParam object with default compression options
+      ImageWriteParam iwp = writer.getDefaultWriteParam();
+      iwp.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      iwp.setCompressionQuality(quality);
       writer.setOutput(output);
-      IIOImage image = new IIOImage(bufferedImage, null, null);
-      writer.write(null, image, iwp);
+      writer.write(null, new IIOImage(bufferedImage, null, null), iwp);
+      writer.reset();
+    } catch (IOException | RuntimeException e) {
       writer.dispose();
+      throw e;
+    }
+    JPEG_WRITERS.offer(writer);
+  }
+
+  /**
+   * Write a Chart as a PNG into a given stream with a built in PNG encoder, with a choice of
+   * compression level and row filter. At level 1 it encodes an 800x600 chart about 2 to 3 times as
+   * fast as ImageIO into a somewhat larger file, at level 6 about as fast into a smaller file. Does
+   * not close the target stream automatically at the end of the operation.
+   *
+   * @param chart
+   * @param targetStream
+   * @param compressionLevel - 0 (no compression, fastest) to 9 (smallest), charts compress well
+   *     even at low levels, while levels above 6 are much slower
+   * @param filter - the PNG row filter. NONE is the fastest, and of charts, with their large areas
+   *     of one color, usually also makes the smallest files. The other filters suit photos.
+   * @param pool - the pool to take the image the chart is painted into from, or null
+   * @throws IOException
+   */
+  public static <T extends Chart<?, ?>> void savePNG(
+      T chart,
+      OutputStream targetStream,
+      int compressionLevel,
+      PNGFilter filter,
+      BufferedImagePool pool)
+      throws IOException {
+
+    BufferedImage bufferedImage = getBufferedImage(chart, pool);
+    try {
+      PNGEncoder.write(bufferedImage, targetStream, compressionLevel, filter);
+    } finally {
+      if (pool != null) {
+        pool.release(bufferedImage);
+      }
     }
   }
 
@@ -271,10 +488,27 @@ public final class BitmapEncoder {
 
   public static <T extends Chart<?, ?>> BufferedImage getBufferedImage(T chart) {
 
+    return getBufferedImage(chart, null);
+  }
+
+  /**
+   * Paints a Chart into an image taken from the given pool. The image should be given back to the
+   * pool once it's no longer used.
+   *
+   * @param chart
+   * @param pool - the pool to take the image from, or null for a new image
+   * @return
+   */
+  public static <T extends Chart<?, ?>> BufferedImage getBufferedImage(
+      T chart, BufferedImagePool pool) {
+
     BufferedImage bufferedImage =
-        new BufferedImage(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB);
+        pool == null
+            ? new BufferedImage(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB)
+            : pool.acquire(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB);
     Graphics2D graphics2D = bufferedImage.createGraphics();
     chart.paint(graphics2D, chart.getWidth(), chart.getHeight());
+    graphics2D.dispose();
     return bufferedImage;
   }
 
@@ -305,4 +539,13 @@ public final class BitmapEncoder {
     BMP,
     GIF
   }
+
+  /** The PNG row filters, in the order of their filter type numbers */
+  public enum PNGFilter {
+    NONE,
+    SUB,
+    UP,
+    AVERAGE,
+    PAETH
+  }
 }
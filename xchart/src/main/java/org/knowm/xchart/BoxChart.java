@@ -154,7 +154,8 @@ public class BoxChart extends Chart<BoxStyler, BoxSeries> {
 
     axisPair.paint(g);
     plot.paint(g);
-    chartTitle.paint(g);
-    annotations.forEach(x -> x.paint(g));
+    Graphics2D foreground = getForegroundGraphics(g);
+    chartTitle.paint(foreground);
+    annotations.forEach(x -> x.paint(foreground));
   }
 }
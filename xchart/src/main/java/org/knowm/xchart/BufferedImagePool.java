@@ -0,0 +1,121 @@
+package org.knowm.xchart;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A pool of BufferedImages keyed by width, height and image type, for rendering many charts of the
+ * same size, e.g. on a server, without allocating a new image for each one. Images handed out by
+ * acquire are cleared, the same as a new image, and should be given back with release once they are
+ * written. This class is thread safe.
+ */
+public class BufferedImagePool {
+
+  private final int maxImagesPerSize;
+  private final Map<Key, Deque<BufferedImage>> freeImages = new HashMap<>();
+
+  /**
+   * Constructor
+   *
+   * @param maxImagesPerSize the maximum number of free images kept per width, height and type, e.g.
+   *     the number of threads rendering charts
+   */
+  public BufferedImagePool(int maxImagesPerSize) {
+
+    if (maxImagesPerSize < 1) {
+      throw new IllegalArgumentException("Max images per size must be greater than zero!!!");
+    }
+    this.maxImagesPerSize = maxImagesPerSize;
+  }
+
+  /**
+   * Gets a cleared image from the pool or a new one if there is no free image of that size and type
+   *
+   * @param width
+   * @param height
+   * @param imageType - e.g. BufferedImage.TYPE_INT_RGB
+   * @return
+   */
+  public BufferedImage acquire(int width, int height, int imageType) {
+
+    BufferedImage image;
+    synchronized (freeImages) {
+      Deque<BufferedImage> images = freeImages.get(new Key(width, height, imageType));
+      image = images == null ? null : images.pollLast();
+    }
+    if (image == null) {
+      return new BufferedImage(width, height, imageType);
+    }
+    clear(image);
+    return image;
+  }
+
+  /**
+   * Gives an image back to the pool. It must not be used afterwards. Images beyond the max number
+   * per size are left to the garbage collector.
+   *
+   * @param image
+   */
+  public void release(BufferedImage image) {
+
+    Key key = new Key(image.getWidth(), image.getHeight(), image.getType());
+    synchronized (freeImages) {
+      Deque<BufferedImage> images = freeImages.computeIfAbsent(key, k -> new ArrayDeque<>());
+      if (images.size() < maxImagesPerSize) {
+        images.addLast(image);
+      }
+    }
+  }
+
+  /** Removes all free images */
+  public void clear() {
+
+    synchronized (freeImages) {
+      freeImages.clear();
+    }
+  }
+
+  /** Sets all pixels to 0, the contents of a new image */
+  private static void clear(BufferedImage image) {
+
+    Graphics2D graphics2D = image.createGraphics();
+    graphics2D.setComposite(AlphaComposite.Clear);
+    graphics2D.fillRect(0, 0, image.getWidth(), image.getHeight());
+    graphics2D.dispose();
+  }
+
+  private static class Key {
+
+    private final int width;
+    private final int height;
+    private final int imageType;
+
+    Key(int width, int height, int imageType) {
+
+      this.width = width;
+      this.height = height;
+      this.imageType = imageType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return width == key.width && height == key.height && imageType == key.imageType;
+    }
+
+    @Override
+    public int hashCode() {
+
+      return (31 * width + height) * 31 + imageType;
+    }
+  }
+}
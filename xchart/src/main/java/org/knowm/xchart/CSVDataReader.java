@@ -0,0 +1,229 @@
+package org.knowm.xchart;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.knowm.xchart.CSVImporter.DataOrientation;
+
+/**
+ * Reads the X, Y and error bar values of a CSV file straight from its bytes into double arrays,
+ * without a String per line or value. The file is read in chunks into a reused buffer, so the heap
+ * holds little more than the values read.
+ */
+class CSVDataReader {
+
+  private static final int CHUNK_SIZE = 1 << 16;
+
+  // X, Y and error bars, any further rows or columns are ignored
+  private static final int SERIES_DATA_COUNT = 3;
+
+  // the mantissas and powers of ten a double holds exactly, multiplying or dividing those is
+  // rounded once, so the result is the same as that of Double.parseDouble
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+  private static final double[] EXACT_POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+  private static final int MAX_EXPONENT_DIGITS = 6;
+
+  private final boolean isRows;
+
+  private final double[][] values = new double[SERIES_DATA_COUNT][16];
+  private final int[] sizes = new int[SERIES_DATA_COUNT];
+
+  // the bytes of the value being read, as a value may span two chunks
+  private byte[] token = new byte[32];
+  private int tokenLength;
+  private int row;
+  private int column;
+
+  private CSVDataReader(DataOrientation dataOrientation) {
+
+    this.isRows = dataOrientation == DataOrientation.Rows;
+  }
+
+  /**
+   * Reads a CSV file
+   *
+   * @param csvFile
+   * @param dataOrientation whether the X, Y and error bar values are the first three rows or the
+   *     first three columns
+   * @return the X, Y and error bar values, the error bar values are empty if there are none
+   * @throws IOException
+   * @throws NumberFormatException if a value isn't a number
+   */
+  static double[][] read(Path csvFile, DataOrientation dataOrientation) throws IOException {
+
+    CSVDataReader reader = new CSVDataReader(dataOrientation);
+    try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+      while (channel.read(buffer) != -1) {
+        reader.read(buffer.array(), buffer.position());
+        buffer.clear();
+      }
+    }
+    reader.endValue(true);
+
+    double[][] seriesData = new double[SERIES_DATA_COUNT][];
+    for (int i = 0; i < SERIES_DATA_COUNT; i++) {
+      seriesData[i] = Arrays.copyOf(reader.values[i], reader.sizes[i]);
+    }
+    return seriesData;
+  }
+
+  private void read(byte[] chunk, int length) {
+
+    for (int i = 0; i < length; i++) {
+      byte b = chunk[i];
+      if (b == '\n') {
+        endValue(true);
+      } else if (b == ',') {
+        endValue(false);
+      } else {
+        if (tokenLength == token.length) {
+          token = Arrays.copyOf(token, token.length * 2);
+        }
+        token[tokenLength++] = b;
+      }
+    }
+  }
+
+  private void endValue(boolean isEndOfLine) {
+
+    int from = 0;
+    int to = tokenLength;
+    while (from < to && token[from] <= ' ') {
+      from++;
+    }
+    while (to > from && token[to - 1] <= ' ') {
+      to--;
+    }
+    tokenLength = 0;
+
+    // an empty line, or nothing after a trailing comma
+    boolean isEmpty = from == to;
+    if (isEmpty && isEndOfLine) {
+      if (column > 0) {
+        row++;
+      }
+      column = 0;
+      return;
+    }
+
+    int index = isRows ? row : column;
+    if (index < SERIES_DATA_COUNT) {
+      add(index, parseDouble(token, from, to));
+    }
+    if (isEndOfLine) {
+      row++;
+      column = 0;
+    } else {
+      column++;
+    }
+  }
+
+  private void add(int index, double value) {
+
+    if (sizes[index] == values[index].length) {
+      values[index] = Arrays.copyOf(values[index], values[index].length * 2);
+    }
+    values[index][sizes[index]++] = value;
+  }
+
+  /**
+   * Parses plain decimal numbers like -12.5 or 1.5e-3 directly from the bytes. Anything else,
+   * including numbers with more digits than a double holds exactly, is passed on to
+   * Double.parseDouble, so the result is always the same as that of Double.parseDouble.
+   *
+   * @param bytes
+   * @param from
+   * @param to
+   * @return
+   * @throws NumberFormatException if the bytes aren't a number
+   */
+  static double parseDouble(byte[] bytes, int from, int to) {
+
+    int i = from;
+    boolean isNegative = false;
+    if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+      isNegative = bytes[i] == '-';
+      i++;
+    }
+
+    long mantissa = 0;
+    int exponent = 0;
+    int digits = 0;
+    for (; i < to && isDigit(bytes[i]); i++, digits++) {
+      mantissa = mantissa * 10 + (bytes[i] - '0');
+      if (mantissa > MAX_EXACT_MANTISSA) {
+        return parseDoubleSlow(bytes, from, to);
+      }
+    }
+    if (i < to && bytes[i] == '.') {
+      for (i++; i < to && isDigit(bytes[i]); i++, digits++) {
+        mantissa = mantissa * 10 + (bytes[i] - '0');
+        exponent--;
+        if (mantissa > MAX_EXACT_MANTISSA) {
+          return parseDoubleSlow(bytes, from, to);
+        }
+      }
+    }
+    if (digits == 0) {
+      return parseDoubleSlow(bytes, from, to);
+    }
+
+    if (i < to && (bytes[i] == 'e' || bytes[i] == 'E')) {
+      i++;
+      boolean isExponentNegative = false;
+      if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+        isExponentNegative = bytes[i] == '-';
+        i++;
+      }
+      int exponentStart = i;
+      int explicitExponent = 0;
+      for (; i < to && isDigit(bytes[i]); i++) {
+        explicitExponent = explicitExponent * 10 + (bytes[i] - '0');
+      }
+      int exponentDigits = i - exponentStart;
+      if (exponentDigits == 0 || exponentDigits > MAX_EXPONENT_DIGITS) {
+        return parseDoubleSlow(bytes, from, to);
+      }
+      exponent += isExponentNegative ? -explicitExponent : explicitExponent;
+    }
+    // e.g. a hexadecimal number, or a type suffix like 1.5f
+    if (i != to) {
+      return parseDoubleSlow(bytes, from, to);
+    }
+
+    double value;
+    if (mantissa == 0) {
+      value = 0.0;
+    } else if (exponent >= 0 && exponent < EXACT_POWERS_OF_TEN.length) {
+      value = mantissa * EXACT_POWERS_OF_TEN[exponent];
+    } else if (exponent < 0 && -exponent < EXACT_POWERS_OF_TEN.length) {
+      value = mantissa / EXACT_POWERS_OF_TEN[-exponent];
+    } else {
+      return parseDoubleSlow(bytes, from, to);
+    }
+    return isNegative ? -value : value;
+  }
+
+  private static boolean isDigit(byte b) {
+
+    return b >= '0' && b <= '9';
+  }
+
+  private static double parseDoubleSlow(byte[] bytes, int from, int to) {
+
+    String dataPoint = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+    try {
+      return Double.parseDouble(dataPoint);
+    } catch (NumberFormatException e) {
+      throw new NumberFormatException("Error parsing >" + dataPoint + "<!!!");
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package org.knowm.xchart;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes values of a CSV file straight into a byte buffer, without a String per row or value, and
+ * flushes the buffer to the output stream whenever it's full.
+ */
+class CSVDataWriter {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  // enough for any double, e.g. -1.2345678901234567E-308
+  private static final int MAX_VALUE_LENGTH = 32;
+
+  private static final byte[] LINE_SEPARATOR =
+      System.getProperty("line.separator").getBytes(StandardCharsets.US_ASCII);
+
+  // the range Double.toString writes without an exponent
+  private static final double MIN_PLAIN = 1e-3;
+  private static final double MAX_PLAIN = 1e7;
+
+  // the mantissas and powers of ten a double holds exactly, dividing those is rounded once, so the
+  // quotient is the double Double.parseDouble reads back from the digits
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+  private static final double[] EXACT_POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  private final OutputStream out;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int size;
+
+  CSVDataWriter(OutputStream out) {
+
+    this.out = out;
+  }
+
+  void writeValue(double value) throws IOException {
+
+    if (size > buffer.length - MAX_VALUE_LENGTH) {
+      flush();
+    }
+    size = format(value, buffer, size);
+  }
+
+  void writeSeparator() throws IOException {
+
+    if (size == buffer.length) {
+      flush();
+    }
+    buffer[size++] = ',';
+  }
+
+  void writeLineSeparator() throws IOException {
+
+    if (size > buffer.length - LINE_SEPARATOR.length) {
+      flush();
+    }
+    System.arraycopy(LINE_SEPARATOR, 0, buffer, size, LINE_SEPARATOR.length);
+    size += LINE_SEPARATOR.length;
+  }
+
+  /** Writes the buffered bytes to the output stream, without flushing the output stream itself */
+  void flush() throws IOException {
+
+    out.write(buffer, 0, size);
+    size = 0;
+  }
+
+  /**
+   * Writes the value as a decimal which Double.parseDouble reads back as the same double. Values
+   * Double.toString writes without an exponent are written the same way, e.g. 0.1 or 42.0, with the
+   * fewest digits that read back exactly, found with plain long and double arithmetic. Any other
+   * value, and any value needing more digits than a double holds exactly, is written by
+   * Double.toString.
+   *
+   * @param value
+   * @param bytes
+   * @param offset
+   * @return the offset after the value
+   */
+  static int format(double value, byte[] bytes, int offset) {
+
+    double abs = Math.abs(value);
+    // written so that NaN isn't in the range
+    if (abs >= MIN_PLAIN && abs < MAX_PLAIN) {
+      for (int decimals = 0; decimals < EXACT_POWERS_OF_TEN.length; decimals++) {
+        double scaled = abs * EXACT_POWERS_OF_TEN[decimals];
+        if (scaled > MAX_EXACT_MANTISSA) {
+          break;
+        }
+        long mantissa = Math.round(scaled);
+        if (mantissa / EXACT_POWERS_OF_TEN[decimals] == abs) {
+          return writePlain(value < 0, mantissa, decimals, bytes, offset);
+        }
+      }
+    }
+    String string = Double.toString(value);
+    for (int i = 0; i < string.length(); i++) {
+      bytes[offset++] = (byte) string.charAt(i);
+    }
+    return offset;
+  }
+
+  private static int writePlain(
+      boolean isNegative, long mantissa, int decimals, byte[] bytes, int offset) {
+
+    // whole numbers are written with a trailing .0, like Double.toString does
+    if (decimals == 0) {
+      mantissa *= 10;
+      decimals = 1;
+    }
+    int digits = 1;
+    for (long rest = mantissa / 10; rest != 0; rest /= 10) {
+      digits++;
+    }
+    // at least the 0 of 0.5
+    int integerDigits = Math.max(1, digits - decimals);
+    if (isNegative) {
+      bytes[offset++] = '-';
+    }
+    int end = offset + integerDigits + 1 + decimals;
+    int i = end;
+    for (int d = 0; d < decimals; d++) {
+      bytes[--i] = (byte) ('0' + mantissa % 10);
+      mantissa /= 10;
+    }
+    bytes[--i] = '.';
+    do {
+      bytes[--i] = (byte) ('0' + mantissa % 10);
+      mantissa /= 10;
+    } while (mantissa != 0);
+    return end;
+  }
+}
@@ -1,14 +1,26 @@
 package org.knowm.xchart;
 
 import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * This class is used to export Chart data to a folder containing one or more CSV files. The parent
  * folder's name is the title of the chart. Each series becomes a CSV file in the folder. The
  * series' name becomes the CSV files' name.
+ *
+ * <p>The values are formatted straight into a byte buffer, which is written to the file whenever
+ * it's full, so even long series are written quickly and without building whole rows in memory. The
+ * series of a chart are written concurrently, and the files can be gzipped.
  */
 public class CSVExporter {
 
+  private static final int GZIP_BUFFER_SIZE = 1 << 16;
+
   /**
    * Export all XYChart series as rows in separate CSV files.
    *
@@ -17,9 +29,39 @@ public class CSVExporter {
    */
   public static void writeCSVRows(XYChart chart, String path2Dir) {
 
+    writeCSVRows(chart, path2Dir, false);
+  }
+
+  /**
+   * Export all XYChart series as rows in separate CSV files, concurrently on the common fork-join
+   * pool.
+   *
+   * @param chart
+   * @param path2Dir
+   * @param gzip whether to gzip the files, which are then named after the series plus ".csv.gz"
+   */
+  public static void writeCSVRows(XYChart chart, String path2Dir, boolean gzip) {
+
+    writeCSVRows(chart, path2Dir, gzip, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Export all XYChart series as rows in separate CSV files, concurrently on the given executor.
+   * Returns once all files are written.
+   *
+   * @param chart
+   * @param path2Dir
+   * @param gzip whether to gzip the files, which are then named after the series plus ".csv.gz"
+   * @param executor
+   */
+  public static void writeCSVRows(XYChart chart, String path2Dir, boolean gzip, Executor executor) {
+
+    List<CompletableFuture<?>> futures = new ArrayList<>();
     for (XYSeries xySeries : chart.getSeriesMap().values()) {
-      writeCSVRows(xySeries, path2Dir);
+      futures.add(
+          CompletableFuture.runAsync(() -> writeCSVRows(xySeries, path2Dir, gzip), executor));
     }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
   }
 
   /**
@@ -30,54 +72,62 @@ public class CSVExporter {
    */
   public static void writeCSVRows(XYSeries series, String path2Dir) {
 
-    File newFile = new File(path2Dir + series.getName() + ".csv");
-    Writer out = null;
-    try {
-
-      out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(newFile), "UTF8"));
-      String csv = join(series.getXData(), ",") + System.getProperty("line.separator");
-      out.write(csv);
-      csv = join(series.getYData(), ",") + System.getProperty("line.separator");
-      out.write(csv);
-      if (series.getExtraValues() != null) {
-        csv = join(series.getExtraValues(), ",") + System.getProperty("line.separator");
-        out.write(csv);
-      }
-    } catch (Exception e) {
+    writeCSVRows(series, path2Dir, false);
+  }
+
+  /**
+   * Export a XYChart series into rows in a CSV file.
+   *
+   * @param series
+   * @param path2Dir - ex. "./path/to/directory/" *make sure you have the '/' on the end
+   * @param gzip whether to gzip the file, which is then named after the series plus ".csv.gz"
+   */
+  public static void writeCSVRows(XYSeries series, String path2Dir, boolean gzip) {
+
+    try (OutputStream out = getOutputStream(series, path2Dir, gzip)) {
+      writeCSVRows(series, out);
+    } catch (IOException e) {
       e.printStackTrace();
-    } finally {
-      if (out != null) {
-        try {
-          out.flush();
-          out.close();
-        } catch (IOException e) {
-          // NOP
-        }
-      }
     }
   }
 
   /**
-   * Joins a series into an entire row of comma separated values.
+   * Export a XYChart series into rows in the given stream. Does not close the stream.
    *
+   * @param series
+   * @param outputStream
+   * @throws IOException
+   */
+  public static void writeCSVRows(XYSeries series, OutputStream outputStream) throws IOException {
+
+    CSVDataWriter writer = new CSVDataWriter(outputStream);
+    writeRow(writer, series.getXData());
+    writeRow(writer, series.getYData());
+    if (series.getExtraValues() != null) {
+      writeRow(writer, series.getExtraValues());
+    }
+    writer.flush();
+    outputStream.flush();
+  }
+
+  /**
+   * Writes a series into an entire row of comma separated values.
+   *
+   * @param writer
    * @param seriesData
-   * @param separator
-   * @return
+   * @throws IOException
    */
-  private static String join(double[] seriesData, String separator) {
+  private static void writeRow(CSVDataWriter writer, double[] seriesData) throws IOException {
 
-    // two or more elements
-    StringBuilder sb = new StringBuilder(256); // Java default is 16, probably too small
-    sb.append(seriesData[0]);
-    for (int i = 1; i < seriesData.length; i++) {
+    for (int i = 0; i < seriesData.length; i++) {
 
-      if (separator != null) {
-        sb.append(separator);
+      if (i > 0) {
+        writer.writeSeparator();
       }
 
-      sb.append(seriesData[i]);
+      writer.writeValue(seriesData[i]);
     }
-    return sb.toString();
+    writer.writeLineSeparator();
   }
 
   /**
@@ -88,9 +138,40 @@ public class CSVExporter {
    */
   public static void writeCSVColumns(XYChart chart, String path2Dir) {
 
+    writeCSVColumns(chart, path2Dir, false);
+  }
+
+  /**
+   * Export all XYChart series as columns in separate CSV files, concurrently on the common
+   * fork-join pool.
+   *
+   * @param chart
+   * @param path2Dir
+   * @param gzip whether to gzip the files, which are then named after the series plus ".csv.gz"
+   */
+  public static void writeCSVColumns(XYChart chart, String path2Dir, boolean gzip) {
+
+    writeCSVColumns(chart, path2Dir, gzip, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Export all XYChart series as columns in separate CSV files, concurrently on the given executor.
+   * Returns once all files are written.
+   *
+   * @param chart
+   * @param path2Dir
+   * @param gzip whether to gzip the files, which are then named after the series plus ".csv.gz"
+   * @param executor
+   */
+  public static void writeCSVColumns(
+      XYChart chart, String path2Dir, boolean gzip, Executor executor) {
+
+    List<CompletableFuture<?>> futures = new ArrayList<>();
     for (XYSeries xySeries : chart.getSeriesMap().values()) {
-      writeCSVColumns(xySeries, path2Dir);
+      futures.add(
+          CompletableFuture.runAsync(() -> writeCSVColumns(xySeries, path2Dir, gzip), executor));
     }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
   }
 
   /**
@@ -101,41 +182,62 @@ public class CSVExporter {
    */
   public static void writeCSVColumns(XYSeries series, String path2Dir) {
 
-    File newFile = new File(path2Dir + series.getName() + ".csv");
-    Writer out = null;
-    try {
-
-      out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(newFile), "UTF8"));
-      double[] xData = series.getXData();
-      double[] yData = series.getYData();
-      double[] errorBarData = series.getExtraValues();
-      for (int i = 0; i < xData.length; i++) {
-
-        StringBuilder sb = new StringBuilder();
-        sb.append(xData[i]).append(",");
-        sb.append(yData[i]).append(",");
-        if (errorBarData != null) {
-          sb.append(errorBarData[i]).append(",");
-        }
-        sb.setLength(sb.length() - 1);
-        sb.append(System.getProperty("line.separator"));
-
-        // String csv = xDataPoint + "," + yDataPoint + errorBarValue == null ? "" : ("," +
-        // errorBarValue) + System.getProperty("line.separator");
-        // String csv = + yDataPoint + System.getProperty("line.separator");
-        out.write(sb.toString());
-      }
-    } catch (Exception e) {
+    writeCSVColumns(series, path2Dir, false);
+  }
+
+  /**
+   * Export a Chart series in columns in a CSV file.
+   *
+   * @param series
+   * @param path2Dir - ex. "./path/to/directory/" *make sure you have the '/' on the end
+   * @param gzip whether to gzip the file, which is then named after the series plus ".csv.gz"
+   */
+  public static void writeCSVColumns(XYSeries series, String path2Dir, boolean gzip) {
+
+    try (OutputStream out = getOutputStream(series, path2Dir, gzip)) {
+      writeCSVColumns(series, out);
+    } catch (IOException e) {
       e.printStackTrace();
-    } finally {
-      if (out != null) {
-        try {
-          out.flush();
-          out.close();
-        } catch (IOException e) {
-          // NOP
-        }
+    }
+  }
+
+  /**
+   * Export a Chart series in columns in the given stream. Does not close the stream.
+   *
+   * @param series
+   * @param outputStream
+   * @throws IOException
+   */
+  public static void writeCSVColumns(XYSeries series, OutputStream outputStream)
+      throws IOException {
+
+    CSVDataWriter writer = new CSVDataWriter(outputStream);
+    double[] xData = series.getXData();
+    double[] yData = series.getYData();
+    double[] errorBarData = series.getExtraValues();
+    for (int i = 0; i < xData.length; i++) {
+
+      writer.writeValue(xData[i]);
+      writer.writeSeparator();
+      writer.writeValue(yData[i]);
+      if (errorBarData != null) {
+        writer.writeSeparator();
+        writer.writeValue(errorBarData[i]);
       }
+      writer.writeLineSeparator();
     }
+    writer.flush();
+    outputStream.flush();
+  }
+
+  private static OutputStream getOutputStream(XYSeries series, String path2Dir, boolean gzip)
+      throws IOException {
+
+    if (gzip) {
+      File newFile = new File(path2Dir + series.getName() + ".csv.gz");
+      return new GZIPOutputStream(new FileOutputStream(newFile), GZIP_BUFFER_SIZE);
+    }
+    File newFile = new File(path2Dir + series.getName() + ".csv");
+    return new FileOutputStream(newFile);
   }
 }
@@ -1,17 +1,26 @@
 package org.knowm.xchart;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.knowm.xchart.internal.Utils;
 import org.knowm.xchart.style.Styler.ChartTheme;
 
 /**
  * This class is used to create a Chart object from a folder containing one or more CSV files. The
  * parent folder's name becomes the title of the chart. Each CSV file in the folder becomes a series
  * on the chart. the CSV file's name becomes the series' name.
+ *
+ * <p>The files are read in chunks and the numbers are parsed straight from the bytes into double
+ * arrays, so even large files are read quickly and with little more heap than the values read. The
+ * files of a folder are read concurrently.
  */
 public class CSVImporter {
 
@@ -22,6 +31,7 @@ public class CSVImporter {
    * @param height
    * @param chartTheme
    * @return
+   * @throws UncheckedIOException if reading any of the files fails
    */
   public static XYChart getChartFromCSVDir(
       String path2Directory,
@@ -30,6 +40,31 @@ public class CSVImporter {
       int height,
       ChartTheme chartTheme) {
 
+    return getChartFromCSVDir(
+        path2Directory, dataOrientation, width, height, chartTheme, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Same as getChartFromCSVDir, but reading the files concurrently on the given executor instead of
+   * the common fork-join pool
+   *
+   * @param path2Directory
+   * @param dataOrientation
+   * @param width
+   * @param height
+   * @param chartTheme
+   * @param executor
+   * @return
+   * @throws UncheckedIOException if reading any of the files fails
+   */
+  public static XYChart getChartFromCSVDir(
+      String path2Directory,
+      DataOrientation dataOrientation,
+      int width,
+      int height,
+      ChartTheme chartTheme,
+      Executor executor) {
+
     // 1. get the directory, name chart the dir name
     XYChart chart;
     if (chartTheme != null) {
@@ -41,32 +76,32 @@ public class CSVImporter {
     // 2. get all the csv files in the dir
     File[] csvFiles = getAllFiles(path2Directory, ".*.csv");
 
-    // 3. create a series for each file, naming the series the file name
+    // 3. read the files concurrently
+    List<CompletableFuture<double[][]>> futures = new ArrayList<>(csvFiles.length);
     for (File csvFile : csvFiles) {
-      String[] xAndYData;
-      if (dataOrientation == DataOrientation.Rows) {
-        xAndYData = getSeriesDataFromCSVRows(csvFile);
-      } else {
-        xAndYData = getSeriesDataFromCSVColumns(csvFile);
-      }
+      futures.add(
+          CompletableFuture.supplyAsync(() -> readCSVFile(csvFile, dataOrientation), executor));
+    }
 
-      if (xAndYData[2] == null || xAndYData[2].trim().equalsIgnoreCase("")) {
-        chart.addSeries(
-            csvFile.getName().substring(0, csvFile.getName().indexOf(".csv")),
-            getAxisData(xAndYData[0]),
-            getAxisData(xAndYData[1]));
+    // 4. create a series for each file, in the order of the files, naming the series the file name
+    for (int i = 0; i < csvFiles.length; i++) {
+      double[][] xAndYData = join(futures.get(i));
+      if (xAndYData[2].length == 0) {
+        chart.addSeries(getSeriesName(csvFiles[i]), xAndYData[0], xAndYData[1]);
       } else {
-        chart.addSeries(
-            csvFile.getName().substring(0, csvFile.getName().indexOf(".csv")),
-            getAxisData(xAndYData[0]),
-            getAxisData(xAndYData[1]),
-            getAxisData(xAndYData[2]));
+        chart.addSeries(getSeriesName(csvFiles[i]), xAndYData[0], xAndYData[1], xAndYData[2]);
       }
     }
 
     return chart;
   }
 
+  /**
+   * @param path2CSVFile
+   * @param dataOrientation
+   * @return
+   * @throws UncheckedIOException if reading the file fails
+   */
   public static SeriesData getSeriesDataFromCSVFile(
       String path2CSVFile, DataOrientation dataOrientation) {
 
@@ -74,16 +109,8 @@ public class CSVImporter {
     File csvFile = new File(path2CSVFile);
 
     // 2. Create Series
-    String[] xAndYData;
-    if (dataOrientation == DataOrientation.Rows) {
-      xAndYData = getSeriesDataFromCSVRows(csvFile);
-    } else {
-      xAndYData = getSeriesDataFromCSVColumns(csvFile);
-    }
-    return new SeriesData(
-        getAxisData(xAndYData[0]),
-        getAxisData(xAndYData[1]),
-        csvFile.getName().substring(0, csvFile.getName().indexOf(".csv")));
+    double[][] xAndYData = readCSVFile(csvFile, dataOrientation);
+    return new SeriesData(xAndYData[0], xAndYData[1], getSeriesName(csvFile));
   }
 
   /**
@@ -92,6 +119,7 @@ public class CSVImporter {
    * @param width
    * @param height
    * @return
+   * @throws UncheckedIOException if reading any of the files fails
    */
   public static XYChart getChartFromCSVDir(
       String path2Directory, DataOrientation dataOrientation, int width, int height) {
@@ -103,89 +131,38 @@ public class CSVImporter {
    * Get the series's data from a file
    *
    * @param csvFile
-   * @return
+   * @param dataOrientation
+   * @return the X, Y and error bar data, the error bar data is empty if there is none
    */
-  private static String[] getSeriesDataFromCSVRows(File csvFile) {
-
-    String[] xAndYData = new String[3];
+  private static double[][] readCSVFile(File csvFile, DataOrientation dataOrientation) {
 
-    BufferedReader bufferedReader = null;
     try {
-      int counter = 0;
-      String line;
-      bufferedReader = new BufferedReader(new FileReader(csvFile));
-      while ((line = bufferedReader.readLine()) != null) {
-        xAndYData[counter++] = line;
-      }
-    } catch (Exception e) {
-      System.out.println("Exception while reading csv file: " + e);
-    } finally {
-      if (bufferedReader != null) {
-        try {
-          bufferedReader.close();
-        } catch (IOException e) {
-          e.printStackTrace();
-        }
-      }
+      return CSVDataReader.read(csvFile.toPath(), dataOrientation);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Exception while reading csv file: " + csvFile, e);
     }
-    return xAndYData;
   }
 
-  /**
-   * @param csvFile
-   * @return
-   */
-  private static String[] getSeriesDataFromCSVColumns(File csvFile) {
+  private static String getSeriesName(File csvFile) {
+
+    return csvFile.getName().substring(0, csvFile.getName().indexOf(".csv"));
+  }
 
-    String[] xAndYData = new String[3];
-    xAndYData[0] = "";
-    xAndYData[1] = "";
-    xAndYData[2] = "";
+  /** Waits for a task and rethrows its failure */
+  private static <T> T join(CompletableFuture<T> future) {
 
-    BufferedReader bufferedReader = null;
     try {
-      String line;
-      bufferedReader = new BufferedReader(new FileReader(csvFile));
-      while ((line = bufferedReader.readLine()) != null) {
-        String[] dataArray = line.split(",");
-        xAndYData[0] += dataArray[0] + ",";
-        xAndYData[1] += dataArray[1] + ",";
-        if (dataArray.length > 2) {
-          xAndYData[2] += dataArray[2] + ",";
-        }
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
       }
-    } catch (Exception e) {
-      System.out.println("Exception while reading csv file: " + e);
-    } finally {
-      if (bufferedReader != null) {
-        try {
-          bufferedReader.close();
-        } catch (IOException e) {
-          e.printStackTrace();
-        }
+      if (cause instanceof Error) {
+        throw (Error) cause;
       }
+      throw e;
     }
-    return xAndYData;
-  }
-
-  /**
-   * @param stringData
-   * @return
-   */
-  private static List<Number> getAxisData(String stringData) {
-
-    List<Number> axisData = new ArrayList<Number>();
-    String[] stringDataArray = stringData.split(",");
-    for (String dataPoint : stringDataArray) {
-      try {
-        Double value = Double.parseDouble(dataPoint);
-        axisData.add(value);
-      } catch (NumberFormatException e) {
-        System.out.println("Error parsing >" + dataPoint + "< !");
-        throw (e);
-      }
-    }
-    return axisData;
   }
 
   /**
@@ -246,27 +223,66 @@ public class CSVImporter {
 
   public static class SeriesData {
 
-    private final List<Number> xAxisData;
-    private final List<Number> yAxisData;
+    private final double[] xData;
+    private final double[] yData;
+    private List<Number> xAxisData;
+    private List<Number> yAxisData;
     private final String seriesName;
 
     public SeriesData(List<Number> xAxisData, List<Number> yAxisData, String seriesName) {
 
+      this.xData = null;
+      this.yData = null;
       this.xAxisData = xAxisData;
       this.yAxisData = yAxisData;
       this.seriesName = seriesName;
     }
 
+    public SeriesData(double[] xData, double[] yData, String seriesName) {
+
+      this.xData = xData;
+      this.yData = yData;
+      this.seriesName = seriesName;
+    }
+
+    /**
+     * Gets the X data as a list, boxing the values of data read into arrays on first use. See
+     * getxAxisDataArray.
+     *
+     * @return
+     */
     public List<Number> getxAxisData() {
 
+      if (xAxisData == null) {
+        xAxisData = Collections.unmodifiableList(Utils.getNumberListFromDoubleArray(xData));
+      }
       return xAxisData;
     }
 
+    /**
+     * Gets the Y data as a list, boxing the values of data read into arrays on first use. See
+     * getyAxisDataArray.
+     *
+     * @return
+     */
     public List<Number> getyAxisData() {
 
+      if (yAxisData == null) {
+        yAxisData = Collections.unmodifiableList(Utils.getNumberListFromDoubleArray(yData));
+      }
       return yAxisData;
     }
 
+    public double[] getxAxisDataArray() {
+
+      return xData != null ? xData : Utils.getDoubleArrayFromNumberList(xAxisData);
+    }
+
+    public double[] getyAxisDataArray() {
+
+      return yData != null ? yData : Utils.getDoubleArrayFromNumberList(yAxisData);
+    }
+
     public String getSeriesName() {
 
       return seriesName;
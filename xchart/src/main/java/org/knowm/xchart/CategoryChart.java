@@ -163,25 +163,30 @@ public class CategoryChart extends Chart<CategoryStyler, CategorySeries> {
       List<? extends Number> yData,
       List<? extends Number> errorBars) {
 
-    // Sanity checks
-    sanityCheck(seriesName, xData, yData, errorBars);
+    lock.lock();
+    try {
+      // Sanity checks
+      sanityCheck(seriesName, xData, yData, errorBars);
 
-    CategorySeries series;
-    if (xData != null) {
+      CategorySeries series;
+      if (xData != null) {
 
-      // Sanity check
-      if (xData.size() != yData.size()) {
-        throw new IllegalArgumentException("X and Y-Axis sizes are not the same!!!");
-      }
+        // Sanity check
+        if (xData.size() != yData.size()) {
+          throw new IllegalArgumentException("X and Y-Axis sizes are not the same!!!");
+        }
 
-    } else { // generate xData
-      xData = Utils.getGeneratedDataAsList(yData.size());
-    }
-    series = new CategorySeries(seriesName, xData, yData, errorBars, getDataType(xData));
+      } else { // generate xData
+        xData = Utils.getGeneratedDataAsList(yData.size());
+      }
+      series = new CategorySeries(seriesName, xData, yData, errorBars, getDataType(xData));
 
-    seriesMap.put(seriesName, series);
+      seriesMap.put(seriesName, series);
 
-    return series;
+      return series;
+    } finally {
+      lock.unlock();
+    }
   }
 
   private DataType getDataType(List<?> data) {
@@ -219,23 +224,28 @@ public class CategoryChart extends Chart<CategoryStyler, CategorySeries> {
       List<? extends Number> newYData,
       List<? extends Number> newErrorBarData) {
 
-    Map<String, CategorySeries> seriesMap = getSeriesMap();
-    CategorySeries series = seriesMap.get(seriesName);
-    if (series == null) {
-      throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
-    }
-    if (newXData == null) {
-      // generate X-Data
-      List<Integer> generatedXData = new ArrayList<Integer>();
-      for (int i = 1; i <= newYData.size(); i++) {
-        generatedXData.add(i);
+    lock.lock();
+    try {
+      Map<String, CategorySeries> seriesMap = getSeriesMap();
+      CategorySeries series = seriesMap.get(seriesName);
+      if (series == null) {
+        throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
+      }
+      if (newXData == null) {
+        // generate X-Data
+        List<Integer> generatedXData = new ArrayList<Integer>();
+        for (int i = 1; i <= newYData.size(); i++) {
+          generatedXData.add(i);
+        }
+        series.replaceData(generatedXData, newYData, newErrorBarData);
+      } else {
+        series.replaceData(newXData, newYData, newErrorBarData);
       }
-      series.replaceData(generatedXData, newYData, newErrorBarData);
-    } else {
-      series.replaceData(newXData, newYData, newErrorBarData);
-    }
 
-    return series;
+      return series;
+    } finally {
+      lock.unlock();
+    }
   }
 
   /**
@@ -291,26 +301,33 @@ public class CategoryChart extends Chart<CategoryStyler, CategorySeries> {
   @Override
   public void paint(Graphics2D g, int width, int height) {
 
-    setWidth(width);
-    setHeight(height);
-
-    // set the series render styles if they are not set. Legend and Plot need it.
-    for (CategorySeries seriesCategory : getSeriesMap().values()) {
-      CategorySeries.CategorySeriesRenderStyle seriesType =
-          seriesCategory.getChartCategorySeriesRenderStyle(); // would be directly set
-      if (seriesType == null) { // wasn't overridden, use default from Style Manager
-        seriesCategory.setChartCategorySeriesRenderStyle(getStyler().getDefaultSeriesRenderStyle());
+    lock.lock();
+    try {
+      setWidth(width);
+      setHeight(height);
+
+      // set the series render styles if they are not set. Legend and Plot need it.
+      for (CategorySeries seriesCategory : getSeriesMap().values()) {
+        CategorySeries.CategorySeriesRenderStyle seriesType =
+            seriesCategory.getChartCategorySeriesRenderStyle(); // would be directly set
+        if (seriesType == null) { // wasn't overridden, use default from Style Manager
+          seriesCategory.setChartCategorySeriesRenderStyle(
+              getStyler().getDefaultSeriesRenderStyle());
+        }
       }
+      setSeriesStyles();
+
+      paintBackground(g);
+
+      axisPair.paint(g);
+      plot.paint(g);
+      Graphics2D foreground = getForegroundGraphics(g);
+      chartTitle.paint(foreground);
+      legend.paint(foreground);
+      annotations.forEach(x -> x.paint(foreground));
+    } finally {
+      lock.unlock();
     }
-    setSeriesStyles();
-
-    paintBackground(g);
-
-    axisPair.paint(g);
-    plot.paint(g);
-    chartTitle.paint(g);
-    legend.paint(g);
-    annotations.forEach(x -> x.paint(g));
   }
 
   /** set the series color, marker and line style based on theme */
@@ -0,0 +1,564 @@
+package org.knowm.xchart;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import org.knowm.xchart.internal.chartpart.Chart;
+import org.knowm.xchart.internal.series.Series;
+import org.knowm.xchart.internal.series.Series.DataType;
+
+/**
+ * Saves the series data of an XYChart, CategoryChart, OHLCChart or HeatMapChart in a compact binary
+ * snapshot, and loads it back into a chart, far faster than a round trip through CSVExporter and
+ * CSVImporter. Only the data is saved, not the styling, so the series are loaded into a chart
+ * created and styled by the application.
+ *
+ * <p>The data is stored in columns of little-endian primitives, optionally compressed with a
+ * Deflater. An uncompressed snapshot file is memory-mapped when loaded, so the columns are copied
+ * straight from the file into the series arrays, and the dense heat data of a HeatMapChart isn't
+ * copied at all, but read from the mapped file.
+ *
+ * <p>Streaming and data source series are saved with their current data and loaded as plain series.
+ * Series without any data are left out.
+ */
+public class ChartDataSnapshot {
+
+  // "XCSD" when read as little-endian bytes
+  private static final int MAGIC = 0x44534358;
+  private static final int VERSION = 1;
+
+  // magic, version, chart type, compression, 2 bytes padding and series count
+  private static final int HEADER_SIZE = 16;
+
+  private static final int COMPRESSION_NONE = 0;
+  private static final int COMPRESSION_DEFLATE = 1;
+
+  private enum ChartType {
+    XY,
+    Category,
+    OHLC,
+    HeatMap
+  }
+
+  /**
+   * Saves the series data of a chart into a file
+   *
+   * @param chart an XYChart, CategoryChart, OHLCChart or HeatMapChart
+   * @param file
+   * @param compress whether to compress the data, which makes the file smaller but loading slower
+   * @throws IOException
+   */
+  public static void save(Chart<?, ?> chart, Path file, boolean compress) throws IOException {
+
+    try (OutputStream out = Files.newOutputStream(file)) {
+      save(chart, out, compress);
+    }
+  }
+
+  /**
+   * Saves the series data of a chart into a stream. Does not close the stream.
+   *
+   * @param chart an XYChart, CategoryChart, OHLCChart or HeatMapChart
+   * @param out
+   * @param compress whether to compress the data, which makes it smaller but loading slower
+   * @throws IOException
+   */
+  public static void save(Chart<?, ?> chart, OutputStream out, boolean compress)
+      throws IOException {
+
+    ChartType chartType = getChartType(chart);
+
+    chart.getLock().lock();
+    try {
+      List<Series> seriesToSave = new ArrayList<>();
+      for (Series series : chart.getSeriesMap().values()) {
+        if (hasData(series)) {
+          seriesToSave.add(series);
+        }
+      }
+
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      header.putInt(MAGIC);
+      header.putInt(VERSION);
+      header.put((byte) chartType.ordinal());
+      header.put((byte) (compress ? COMPRESSION_DEFLATE : COMPRESSION_NONE));
+      header.putShort((short) 0);
+      header.putInt(seriesToSave.size());
+      out.write(header.array());
+
+      if (compress) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+          DeflaterOutputStream deflaterOut =
+              new DeflaterOutputStream(out, deflater, SnapshotDataOutput.BUFFER_SIZE);
+          writeSeries(seriesToSave, chartType, new SnapshotDataOutput(deflaterOut));
+          // finishes the compressed data without closing the stream
+          deflaterOut.finish();
+        } finally {
+          deflater.end();
+        }
+      } else {
+        writeSeries(seriesToSave, chartType, new SnapshotDataOutput(out));
+      }
+      out.flush();
+    } finally {
+      chart.getLock().unlock();
+    }
+  }
+
+  /**
+   * Loads the series data of a snapshot file into a chart of the same type as the one saved, adding
+   * a series for each one saved. An uncompressed file is memory-mapped.
+   *
+   * @param chart an XYChart, CategoryChart, OHLCChart or HeatMapChart
+   * @param file
+   * @throws IOException
+   */
+  public static void load(Chart<?, ?> chart, Path file) throws IOException {
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      readFully(channel, header);
+      boolean isCompressed = readHeader(chart, header);
+
+      long dataSize = channel.size() - HEADER_SIZE;
+      if (isCompressed) {
+        readSeries(chart, header, channel);
+      } else if (dataSize <= Integer.MAX_VALUE) {
+        ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, dataSize);
+        readSeries(chart, header, new SnapshotDataInput(data));
+      } else {
+        // a single mapping can't exceed 2 GB
+        readSeries(chart, header, new SnapshotDataInput(channel));
+      }
+    }
+  }
+
+  /**
+   * Loads the series data of a snapshot stream into a chart of the same type as the one saved,
+   * adding a series for each one saved. Does not close the stream.
+   *
+   * @param chart an XYChart, CategoryChart, OHLCChart or HeatMapChart
+   * @param in
+   * @throws IOException
+   */
+  public static void load(Chart<?, ?> chart, InputStream in) throws IOException {
+
+    ReadableByteChannel channel = Channels.newChannel(in);
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    readFully(channel, header);
+    boolean isCompressed = readHeader(chart, header);
+
+    if (isCompressed) {
+      readSeries(chart, header, channel);
+    } else {
+      readSeries(chart, header, new SnapshotDataInput(channel));
+    }
+  }
+
+  private static ChartType getChartType(Chart<?, ?> chart) {
+
+    if (chart instanceof XYChart) {
+      return ChartType.XY;
+    } else if (chart instanceof CategoryChart) {
+      return ChartType.Category;
+    } else if (chart instanceof OHLCChart) {
+      return ChartType.OHLC;
+    } else if (chart instanceof HeatMapChart) {
+      return ChartType.HeatMap;
+    }
+    throw new IllegalArgumentException(
+        "Only XYChart, CategoryChart, OHLCChart and HeatMapChart data can be saved!!!");
+  }
+
+  private static boolean hasData(Series series) {
+
+    if (series instanceof DataSourceXYSeries) {
+      return ((DataSourceXYSeries) series).getDataSource().size() > 0;
+    } else if (series instanceof XYSeries) {
+      return ((XYSeries) series).getBackingYData().length > 0;
+    } else if (series instanceof OHLCSeries) {
+      return ((OHLCSeries) series).getXData().length > 0;
+    }
+    return true;
+  }
+
+  /////////////////////////////////////////////////////
+  // Saving //////////////////////////////////////////
+  /////////////////////////////////////////////////////
+
+  private static void writeSeries(
+      List<Series> seriesToSave, ChartType chartType, SnapshotDataOutput output)
+      throws IOException {
+
+    for (Series series : seriesToSave) {
+      output.writeString(series.getName());
+      switch (chartType) {
+        case XY:
+          writeXYSeries((XYSeries) series, output);
+          break;
+        case Category:
+          writeCategorySeries((CategorySeries) series, output);
+          break;
+        case OHLC:
+          writeOHLCSeries((OHLCSeries) series, output);
+          break;
+        default:
+          writeHeatMapSeries((HeatMapSeries) series, output);
+      }
+    }
+    output.flush();
+  }
+
+  private static void writeXYSeries(XYSeries series, SnapshotDataOutput output) throws IOException {
+
+    output.writeByte(series.getxAxisDataType().ordinal());
+    if (series instanceof DataSourceXYSeries) {
+      XYDataSource dataSource = ((DataSourceXYSeries) series).getDataSource();
+      int size = dataSource.size();
+      output.writeInt(size);
+      output.writeByte(0);
+      output.align();
+      for (int i = 0; i < size; i++) {
+        output.writeDouble(dataSource.getX(i));
+      }
+      for (int i = 0; i < size; i++) {
+        output.writeDouble(dataSource.getY(i));
+      }
+      return;
+    }
+    // all of the data, also while zoomed in
+    double[] xData = series.getBackingXData();
+    double[] yData = series.getBackingYData();
+    double[] errorBars = series.getBackingExtraValues();
+    output.writeInt(yData.length);
+    output.writeByte(errorBars != null ? 1 : 0);
+    output.writeDoubles(xData, yData.length);
+    output.writeDoubles(yData, yData.length);
+    if (errorBars != null) {
+      output.writeDoubles(errorBars, yData.length);
+    }
+  }
+
+  private static void writeCategorySeries(CategorySeries series, SnapshotDataOutput output)
+      throws IOException {
+
+    writeValues(series.getXData(), series.getxAxisDataType(), output);
+    writeNumbers(series.getYData(), output);
+    output.writeByte(series.getExtraValues() != null ? 1 : 0);
+    if (series.getExtraValues() != null) {
+      writeNumbers(series.getExtraValues(), output);
+    }
+  }
+
+  private static void writeOHLCSeries(OHLCSeries series, SnapshotDataOutput output)
+      throws IOException {
+
+    output.writeByte(series.getxAxisDataType().ordinal());
+    double[] xData = series.getXData();
+    output.writeInt(xData.length);
+    boolean isLine = series.getOpenData() == null;
+    output.writeByte(isLine ? 1 : 0);
+    output.writeDoubles(xData, xData.length);
+    if (isLine) {
+      output.writeDoubles(series.getYData(), xData.length);
+      return;
+    }
+    output.writeDoubles(series.getOpenData(), xData.length);
+    output.writeDoubles(series.getHighData(), xData.length);
+    output.writeDoubles(series.getLowData(), xData.length);
+    output.writeDoubles(series.getCloseData(), xData.length);
+    long[] volumeData = series.getVolumeData();
+    output.writeByte(volumeData != null ? 1 : 0);
+    if (volumeData != null) {
+      output.writeLongs(volumeData, xData.length);
+    }
+  }
+
+  private static void writeHeatMapSeries(HeatMapSeries series, SnapshotDataOutput output)
+      throws IOException {
+
+    List<?> xData = series.getXData();
+    List<?> yData = series.getYData();
+    writeValues(xData, series.getxAxisDataType(), output);
+    writeValues(yData, series.getyAxisDataType(), output);
+
+    // the heat data is always saved as dense values, so it can be loaded without copying
+    int size = xData.size() * yData.size();
+    double[] values = new double[size];
+    if (series.isDense()) {
+      for (int i = 0; i < size; i++) {
+        values[i] = series.getDenseValue(i);
+      }
+    } else {
+      Arrays.fill(values, Double.NaN);
+      for (Number[] triple : series.getHeatData()) {
+        if (triple == null) {
+          continue;
+        }
+        int x = triple[0].intValue();
+        int y = triple[1].intValue();
+        // values outside of the grid aren't painted either
+        if (triple[2] != null && x >= 0 && x < xData.size() && y >= 0 && y < yData.size()) {
+          values[y * xData.size() + x] = triple[2].doubleValue();
+        }
+      }
+    }
+    output.writeDoubles(values, size);
+  }
+
+  /** Writes Number, Date or String values, as doubles, epoch milliseconds or strings */
+  private static void writeValues(
+      Collection<?> values, DataType dataType, SnapshotDataOutput output) throws IOException {
+
+    output.writeByte(dataType.ordinal());
+    switch (dataType) {
+      case Number:
+        writeNumbers(values, output);
+        break;
+      case Date:
+        output.writeInt(values.size());
+        output.align();
+        for (Object value : values) {
+          output.writeLong(((Date) value).getTime());
+        }
+        break;
+      default:
+        output.writeInt(values.size());
+        for (Object value : values) {
+          output.writeString(value.toString());
+        }
+    }
+  }
+
+  /** Writes numbers as doubles, along with which of them are null */
+  private static void writeNumbers(Collection<?> values, SnapshotDataOutput output)
+      throws IOException {
+
+    output.writeInt(values.size());
+    boolean hasNulls = false;
+    for (Object value : values) {
+      hasNulls |= value == null;
+    }
+    output.writeByte(hasNulls ? 1 : 0);
+    if (hasNulls) {
+      for (Object value : values) {
+        output.writeByte(value == null ? 1 : 0);
+      }
+    }
+    output.align();
+    for (Object value : values) {
+      output.writeDouble(value == null ? Double.NaN : ((Number) value).doubleValue());
+    }
+  }
+
+  /////////////////////////////////////////////////////
+  // Loading /////////////////////////////////////////
+  /////////////////////////////////////////////////////
+
+  /**
+   * Checks the header and that the chart is of the type saved
+   *
+   * @return whether the data is compressed
+   */
+  private static boolean readHeader(Chart<?, ?> chart, ByteBuffer header) {
+
+    header.flip();
+    header.order(ByteOrder.LITTLE_ENDIAN);
+    if (header.getInt() != MAGIC) {
+      throw new IllegalArgumentException("Not a chart data snapshot!!!");
+    }
+    int version = header.getInt();
+    if (version != VERSION) {
+      throw new IllegalArgumentException(
+          "Chart data snapshot version " + version + " isn't supported!!!");
+    }
+    int chartType = header.get();
+    if (chartType != getChartType(chart).ordinal()) {
+      throw new IllegalArgumentException(
+          "Chart data snapshot is of a different type of chart than "
+              + chart.getClass().getSimpleName()
+              + "!!!");
+    }
+    int compression = header.get();
+    if (compression != COMPRESSION_NONE && compression != COMPRESSION_DEFLATE) {
+      throw new IllegalArgumentException("Chart data snapshot is corrupt!!!");
+    }
+    return compression == COMPRESSION_DEFLATE;
+  }
+
+  private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) == -1) {
+        throw new EOFException("Chart data snapshot ends unexpectedly");
+      }
+    }
+  }
+
+  /** Reads compressed data from the channel */
+  private static void readSeries(Chart<?, ?> chart, ByteBuffer header, ReadableByteChannel channel)
+      throws IOException {
+
+    Inflater inflater = new Inflater();
+    try {
+      InputStream inflaterIn =
+          new InflaterInputStream(
+              Channels.newInputStream(channel), inflater, SnapshotDataOutput.BUFFER_SIZE);
+      readSeries(chart, header, new SnapshotDataInput(Channels.newChannel(inflaterIn)));
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static void readSeries(Chart<?, ?> chart, ByteBuffer header, SnapshotDataInput input)
+      throws IOException {
+
+    int seriesCount = header.getInt(HEADER_SIZE - Integer.BYTES);
+    ChartType chartType = getChartType(chart);
+
+    chart.getLock().lock();
+    try {
+      for (int i = 0; i < seriesCount; i++) {
+        String seriesName = input.readString();
+        switch (chartType) {
+          case XY:
+            readXYSeries((XYChart) chart, seriesName, input);
+            break;
+          case Category:
+            readCategorySeries((CategoryChart) chart, seriesName, input);
+            break;
+          case OHLC:
+            readOHLCSeries((OHLCChart) chart, seriesName, input);
+            break;
+          default:
+            readHeatMapSeries((HeatMapChart) chart, seriesName, input);
+        }
+      }
+    } finally {
+      chart.getLock().unlock();
+    }
+  }
+
+  private static void readXYSeries(XYChart chart, String seriesName, SnapshotDataInput input)
+      throws IOException {
+
+    DataType dataType = readDataType(input);
+    int size = input.readSize();
+    boolean hasErrorBars = input.readByte() != 0;
+    double[] xData = input.readDoubles(size);
+    double[] yData = input.readDoubles(size);
+    double[] errorBars = hasErrorBars ? input.readDoubles(size) : null;
+    chart.addSeries(seriesName, xData, yData, errorBars, dataType);
+  }
+
+  private static void readCategorySeries(
+      CategoryChart chart, String seriesName, SnapshotDataInput input) throws IOException {
+
+    List<?> xData = readValues(input);
+    List<Double> yData = readNumbers(input);
+    List<Double> errorBars = input.readByte() != 0 ? readNumbers(input) : null;
+    chart.addSeries(seriesName, xData, yData, errorBars);
+  }
+
+  private static void readOHLCSeries(OHLCChart chart, String seriesName, SnapshotDataInput input)
+      throws IOException {
+
+    DataType dataType = readDataType(input);
+    int size = input.readSize();
+    boolean isLine = input.readByte() != 0;
+    double[] xData = input.readDoubles(size);
+    if (isLine) {
+      chart.addSeries(seriesName, xData, input.readDoubles(size), dataType);
+      return;
+    }
+    double[] openData = input.readDoubles(size);
+    double[] highData = input.readDoubles(size);
+    double[] lowData = input.readDoubles(size);
+    double[] closeData = input.readDoubles(size);
+    long[] volumeData = input.readByte() != 0 ? input.readLongs(size) : null;
+    chart.addSeries(
+        seriesName, xData, openData, highData, lowData, closeData, volumeData, dataType);
+  }
+
+  private static void readHeatMapSeries(
+      HeatMapChart chart, String seriesName, SnapshotDataInput input) throws IOException {
+
+    List<?> xData = readValues(input);
+    List<?> yData = readValues(input);
+    DoubleBuffer heatData = input.readDoubleBuffer(xData.size() * yData.size());
+    chart.addSeries(seriesName, xData, yData, heatData);
+  }
+
+  private static List<?> readValues(SnapshotDataInput input) throws IOException {
+
+    DataType dataType = readDataType(input);
+    switch (dataType) {
+      case Number:
+        return readNumbers(input);
+      case Date:
+        {
+          int size = input.readSize();
+          List<Date> values = new ArrayList<>(size);
+          for (long time : input.readLongs(size)) {
+            values.add(new Date(time));
+          }
+          return values;
+        }
+      default:
+        {
+          int size = input.readSize();
+          List<String> values = new ArrayList<>(size);
+          for (int i = 0; i < size; i++) {
+            values.add(input.readString());
+          }
+          return values;
+        }
+    }
+  }
+
+  private static List<Double> readNumbers(SnapshotDataInput input) throws IOException {
+
+    int size = input.readSize();
+    boolean[] isNull = new boolean[size];
+    if (input.readByte() != 0) {
+      for (int i = 0; i < size; i++) {
+        isNull[i] = input.readByte() != 0;
+      }
+    }
+    double[] values = input.readDoubles(size);
+    List<Double> numbers = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      numbers.add(isNull[i] ? null : values[i]);
+    }
+    return numbers;
+  }
+
+  private static DataType readDataType(SnapshotDataInput input) throws IOException {
+
+    int ordinal = input.readByte();
+    if (ordinal < 0 || ordinal >= DataType.values().length) {
+      throw new IllegalArgumentException("Chart data snapshot is corrupt!!!");
+    }
+    return DataType.values()[ordinal];
+  }
+}
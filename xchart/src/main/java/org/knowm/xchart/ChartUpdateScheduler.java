@@ -0,0 +1,210 @@
+package org.knowm.xchart;
+
+import java.awt.Component;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Applies chart updates submitted from any thread on the Event Dispatch Thread and repaints the
+ * chart at most maxFPS times per second. All updates submitted between two frames are applied
+ * together and followed by a single repaint, so a producer updating the chart far more often than
+ * the screen can show doesn't flood the Event Dispatch Thread. An update submitted with a key
+ * replaces a pending update with the same key, e.g. to only apply the newest data of a series, and
+ * an update submitted without a key replaces the pending one without a key, so at most one update
+ * per key waits for the next frame.
+ *
+ * <p>Updates run on the Event Dispatch Thread, the same thread painting the chart, so they can
+ * safely call updateXYSeries etc. Submitting from the Event Dispatch Thread is fine too.
+ */
+public class ChartUpdateScheduler {
+
+  public static final int DEFAULT_MAX_FPS = 60;
+
+  // the key of the updates submitted without one
+  private static final Object NO_KEY = new Object();
+
+  private final Component component;
+  private volatile int maxFPS = DEFAULT_MAX_FPS;
+
+  // the pending updates by key, guarded by itself
+  private Map<Object, Runnable> pendingUpdates = new LinkedHashMap<>();
+  private final AtomicBoolean isFrameScheduled = new AtomicBoolean();
+
+  // Event Dispatch Thread only
+  private Timer timer;
+  private long lastFrameNanos;
+
+  // stats
+  private final AtomicLong submittedUpdateCount = new AtomicLong();
+  private final AtomicLong droppedUpdateCount = new AtomicLong();
+  private final AtomicLong mergedUpdateCount = new AtomicLong();
+  private final AtomicLong frameCount = new AtomicLong();
+
+  /**
+   * Constructor
+   *
+   * @param component the component repainted after updates, usually an XChartPanel
+   */
+  ChartUpdateScheduler(Component component) {
+
+    this.component = component;
+  }
+
+  public int getMaxFPS() {
+
+    return maxFPS;
+  }
+
+  /**
+   * Set the maximum number of times per second the chart is repainted
+   *
+   * @param maxFPS
+   */
+  public void setMaxFPS(int maxFPS) {
+
+    if (maxFPS <= 0) {
+      throw new IllegalArgumentException("Max FPS must be greater than zero!!!");
+    }
+    this.maxFPS = maxFPS;
+  }
+
+  /**
+   * Submits an update, which replaces a pending update submitted without a key, so only the newest
+   * one is applied before the next frame. Updates of different series need different keys, see
+   * submit(Object, Runnable).
+   *
+   * @param update
+   */
+  public void submit(Runnable update) {
+
+    submit(NO_KEY, update);
+  }
+
+  /**
+   * Submits an update, which replaces a pending update with the same key. An update submitted with
+   * a new key is applied before the next frame, after the updates submitted before.
+   *
+   * @param key e.g. the name of the series the update sets the data of
+   * @param update
+   */
+  public void submit(Object key, Runnable update) {
+
+    if (update == null) {
+      throw new IllegalArgumentException("Update cannot be null!!!");
+    }
+    submittedUpdateCount.incrementAndGet();
+    synchronized (this) {
+      if (pendingUpdates.put(key, update) != null) {
+        droppedUpdateCount.incrementAndGet();
+      }
+    }
+    if (isFrameScheduled.compareAndSet(false, true)) {
+      SwingUtilities.invokeLater(this::scheduleFrame);
+    }
+  }
+
+  /**
+   * Gets the number of updates submitted
+   *
+   * @return
+   */
+  public long getSubmittedUpdateCount() {
+
+    return submittedUpdateCount.get();
+  }
+
+  /**
+   * Gets the number of updates replaced by an update with the same key before being applied
+   *
+   * @return
+   */
+  public long getDroppedUpdateCount() {
+
+    return droppedUpdateCount.get();
+  }
+
+  /**
+   * Gets the number of updates applied in the same frame as an update before them, i.e. the
+   * repaints saved by coalescing
+   *
+   * @return
+   */
+  public long getMergedUpdateCount() {
+
+    return mergedUpdateCount.get();
+  }
+
+  /**
+   * Gets the number of frames, i.e. repaints after applying updates
+   *
+   * @return
+   */
+  public long getFrameCount() {
+
+    return frameCount.get();
+  }
+
+  /**
+   * Gets the number of updates waiting for the next frame
+   *
+   * @return
+   */
+  public synchronized int getPendingUpdateCount() {
+
+    return pendingUpdates.size();
+  }
+
+  /** Sets all stats back to zero */
+  public void resetStats() {
+
+    submittedUpdateCount.set(0);
+    droppedUpdateCount.set(0);
+    mergedUpdateCount.set(0);
+    frameCount.set(0);
+  }
+
+  /** Runs the next frame now if the last frame is long enough ago, or else delays it. */
+  private void scheduleFrame() {
+
+    long frameIntervalNanos = 1_000_000_000L / maxFPS;
+    long delayMillis = (lastFrameNanos + frameIntervalNanos - System.nanoTime()) / 1_000_000;
+    if (lastFrameNanos == 0 || delayMillis <= 0) {
+      runFrame();
+      return;
+    }
+    if (timer == null) {
+      timer = new Timer(0, e -> runFrame());
+      timer.setRepeats(false);
+    }
+    timer.setInitialDelay((int) delayMillis);
+    timer.restart();
+  }
+
+  private void runFrame() {
+
+    // cleared first, so an update submitted from here on schedules the next frame
+    isFrameScheduled.set(false);
+    Map<Object, Runnable> updates;
+    synchronized (this) {
+      if (pendingUpdates.isEmpty()) {
+        return;
+      }
+      updates = pendingUpdates;
+      pendingUpdates = new LinkedHashMap<>();
+    }
+    lastFrameNanos = System.nanoTime();
+    frameCount.incrementAndGet();
+    mergedUpdateCount.addAndGet(updates.size() - 1);
+    try {
+      for (Runnable update : updates.values()) {
+        update.run();
+      }
+    } finally {
+      component.repaint();
+    }
+  }
+}
@@ -0,0 +1,736 @@
+package org.knowm.xchart;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import org.knowm.xchart.internal.chartpart.XYDecimator;
+import org.knowm.xchart.internal.series.MinMaxIndex;
+
+/**
+ * An XYSeries reading its data through an XYDataSource, e.g. a MappedXYDataSource of files far
+ * larger than the heap or an ArrayXYDataSource of float arrays. The data isn't copied. Each paint
+ * reads the points within the X-Axis range, and keeps the first, min, max and last point of each
+ * pixel column of a line like DecimationMode.MinMax, or one point per pixel of a scatter series, so
+ * the heap only holds a few points per pixel. Polygon areas are painted with all points in range.
+ *
+ * <p>The data source is read once when the series is created, and again by setDataSource or
+ * dataChanged, checking whether the X data is in ascending order and summarizing the min and max of
+ * each block. Changes to the data source go unnoticed until then. Of ascending X data, zooming in
+ * only reads the blocks partly in range and painting only the points in range. Unsorted X data is
+ * read whole on each paint, and zooming in leaves out the points outside the range like it does for
+ * an XYSeries. As its points are connected in the order of the data, only scatter series of it are
+ * reduced. getXData and getYData copy the data, zoomed in on, out of the data source, while the
+ * backing data are only the points read by the last paint.
+ */
+public class DataSourceXYSeries extends XYSeries {
+
+  // the margin around the plot, in pixels, within which points of a scatter series are also kept
+  // once per pixel, as the markers of points just outside of the plot are partly painted
+  private static final int SCATTER_MARGIN = 64;
+
+  private XYDataSource dataSource;
+  private MinMaxIndex yIndex;
+
+  // whether the X data is in ascending order, otherwise the X min and max of each block are indexed
+  private boolean isXDataAscending;
+  private boolean hasNaNXData;
+  private MinMaxIndex xIndex;
+  private int blockSize;
+
+  // the range of the data source zoomed in on, all of it if not zoomed in. Zooming in on unsorted X
+  // data can't make a range, so instead it leaves out the points with an X value outside
+  // [filterXMin, filterXMax].
+  private int filterFrom;
+  private int filterTo;
+  private boolean isXRangeFiltered;
+  private double filterXMin;
+  private double filterXMax;
+
+  // incremented whenever the filter or the data changes
+  private int dataVersion;
+
+  // the data zoomed in on copied out of the data source, only created when asked for
+  private double[] xDataCopy;
+  private double[] yDataCopy;
+
+  // what the points were read for, so they are only read again after zooming or resizing
+  private PaintedRange paintedRange;
+
+  // the points kept of the painted range
+  private double[] paintedXData = new double[0];
+  private double[] paintedYData = new double[0];
+  private int paintedDataCount;
+
+  /**
+   * Constructor
+   *
+   * @param name
+   * @param dataSource
+   * @param axisType
+   */
+  public DataSourceXYSeries(String name, XYDataSource dataSource, DataType axisType) {
+
+    super(name, new double[0], new double[0], null, axisType);
+
+    this.dataSource = dataSource;
+    dataChanged();
+  }
+
+  public XYDataSource getDataSource() {
+
+    return dataSource;
+  }
+
+  /**
+   * Reads the data from another data source. Like replacing the data of an XYSeries, this resets
+   * any zoom.
+   *
+   * @param dataSource
+   */
+  public void setDataSource(XYDataSource dataSource) {
+
+    this.dataSource = dataSource;
+    dataChanged();
+  }
+
+  /**
+   * Reads the data source again after its data changed, e.g. after points were appended to its
+   * file. This resets any zoom.
+   */
+  public void dataChanged() {
+
+    int size = dataSource.size();
+
+    // one pass over the data, checking the order and summarizing each block for zooming
+    blockSize = MinMaxIndex.getBlockSize(size);
+    int blockCount = (size + blockSize - 1) / blockSize;
+    double[] xBlockMins = new double[blockCount];
+    double[] xBlockMaxes = new double[blockCount];
+    double[] yBlockMins = new double[blockCount];
+    double[] yBlockMaxes = new double[blockCount];
+    boolean isAscending = true;
+    boolean hasNaN = false;
+    double previousX = -Double.MAX_VALUE;
+    for (int block = 0; block < blockCount; block++) {
+      double blockXMin = Double.MAX_VALUE;
+      double blockXMax = -Double.MAX_VALUE;
+      double blockYMin = Double.MAX_VALUE;
+      double blockYMax = -Double.MAX_VALUE;
+      int to = Math.min(size, (block + 1) * blockSize);
+      for (int i = block * blockSize; i < to; i++) {
+        // NaN values fail the comparisons, and thereby the order check, and are skipped
+        double x = dataSource.getX(i);
+        if (!(x >= previousX)) {
+          isAscending = false;
+          hasNaN |= Double.isNaN(x);
+        }
+        previousX = x;
+        if (x < blockXMin) {
+          blockXMin = x;
+        }
+        if (x > blockXMax) {
+          blockXMax = x;
+        }
+        double y = dataSource.getY(i);
+        if (y < blockYMin) {
+          blockYMin = y;
+        }
+        if (y > blockYMax) {
+          blockYMax = y;
+        }
+      }
+      xBlockMins[block] = blockXMin;
+      xBlockMaxes[block] = blockXMax;
+      yBlockMins[block] = blockYMin;
+      yBlockMaxes[block] = blockYMax;
+    }
+    isXDataAscending = isAscending;
+    hasNaNXData = hasNaN;
+    xIndex = isAscending ? null : new MinMaxIndex(dataSource::getX, size, xBlockMins, xBlockMaxes);
+    yIndex = new MinMaxIndex(dataSource::getY, size, yBlockMins, yBlockMaxes);
+
+    setFilter(0, size);
+  }
+
+  /** Series reading a data source are updated with setDataSource or dataChanged */
+  @Override
+  public void replaceData(double[] newXData, double[] newYData, double[] newExtraValues) {
+
+    throw new IllegalArgumentException(
+        "Series reading a data source are updated with setDataSource or dataChanged!!!");
+  }
+
+  @Override
+  public void filterXByIndex(int startIndex, int endIndex) {
+
+    startIndex = Math.max(0, startIndex);
+    endIndex = Math.min(dataSource.size(), endIndex);
+    if (startIndex > endIndex) {
+      throw new IllegalArgumentException("Start index must not be greater than end index!!!");
+    }
+    setFilter(startIndex, endIndex);
+  }
+
+  @Override
+  public boolean filterXByValue(double minValue, double maxValue) {
+
+    if (!isXDataAscending) {
+      double[] xMinMax = xIndex.findMinMax(0, dataSource.size());
+      if (!hasNaNXData && xMinMax[0] >= minValue && xMinMax[1] <= maxValue) {
+        return false;
+      }
+      setFilter(0, dataSource.size());
+      isXRangeFiltered = true;
+      filterXMin = minValue;
+      filterXMax = maxValue;
+      calculateMinMax();
+      return true;
+    }
+    int from = lowerBound(minValue);
+    int to = Math.max(from, upperBound(maxValue));
+    if (to - from == dataSource.size()) {
+      return false;
+    }
+    setFilter(from, to);
+    return true;
+  }
+
+  @Override
+  public boolean hasXDataBetween(double minValue, double maxValue) {
+
+    if (isXDataAscending) {
+      int from = Math.max(filterFrom, lowerBound(minValue));
+      return from < filterTo && dataSource.getX(from) <= maxValue;
+    }
+    for (int block = filterFrom / blockSize; block * blockSize < filterTo; block++) {
+      if (xIndex.getBlockMax(block) < minValue || xIndex.getBlockMin(block) > maxValue) {
+        continue;
+      }
+      int to = Math.min(filterTo, (block + 1) * blockSize);
+      for (int i = Math.max(filterFrom, block * blockSize); i < to; i++) {
+        double x = dataSource.getX(i);
+        if (x >= minValue && x <= maxValue && isXInView(x)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void resetFilter() {
+
+    setFilter(0, dataSource.size());
+  }
+
+  @Override
+  public boolean isAllXData() {
+
+    return !isXRangeFiltered && filterFrom == 0 && filterTo == dataSource.size();
+  }
+
+  @Override
+  public int getDataVersion() {
+
+    return dataVersion;
+  }
+
+  /**
+   * Gets the X data zoomed in on, copied out of the data source on the first call after zooming.
+   * Painting doesn't need it, see getPaintedXData.
+   *
+   * @return
+   */
+  @Override
+  public double[] getXData() {
+
+    if (xDataCopy == null) {
+      copyData();
+    }
+    return xDataCopy;
+  }
+
+  /**
+   * Gets the Y data zoomed in on, copied out of the data source on the first call after zooming.
+   * Painting doesn't need it, see getPaintedYData.
+   *
+   * @return
+   */
+  @Override
+  public double[] getYData() {
+
+    if (yDataCopy == null) {
+      copyData();
+    }
+    return yDataCopy;
+  }
+
+  /** Copies the data zoomed in on out of the data source */
+  private void copyData() {
+
+    int count = filterTo - filterFrom;
+    if (isXRangeFiltered) {
+      count = 0;
+      for (int i = filterFrom; i < filterTo; i++) {
+        if (isXInView(dataSource.getX(i))) {
+          count++;
+        }
+      }
+    }
+    double[] xCopy = new double[count];
+    double[] yCopy = new double[count];
+    int k = 0;
+    for (int i = filterFrom; i < filterTo; i++) {
+      double x = dataSource.getX(i);
+      if (isXInView(x)) {
+        xCopy[k] = x;
+        yCopy[k] = dataSource.getY(i);
+        k++;
+      }
+    }
+    xDataCopy = xCopy;
+    yDataCopy = yCopy;
+  }
+
+  @Override
+  public double[] getExtraValues() {
+
+    return null;
+  }
+
+  /**
+   * The data source isn't held in arrays, and copying it may not fit in the heap, so the backing
+   * data are the points read by the last paint, see getPaintedXData
+   */
+  @Override
+  public double[] getBackingXData() {
+
+    return paintedXData;
+  }
+
+  /**
+   * The data source isn't held in arrays, and copying it may not fit in the heap, so the backing
+   * data are the points read by the last paint, see getPaintedYData
+   */
+  @Override
+  public double[] getBackingYData() {
+
+    return paintedYData;
+  }
+
+  @Override
+  public double[] getBackingExtraValues() {
+
+    return null;
+  }
+
+  @Override
+  public int getDataOffset() {
+
+    return 0;
+  }
+
+  @Override
+  public int getDataCount() {
+
+    return paintedDataCount;
+  }
+
+  @Override
+  public boolean isInView(int index) {
+
+    return true;
+  }
+
+  @Override
+  protected void calculateMinMax() {
+
+    // the super constructor calls this before the data source is set
+    if (dataSource == null) {
+      super.calculateMinMax();
+      return;
+    }
+    if (isXRangeFiltered) {
+      calculateMinMaxInXRange();
+      return;
+    }
+    if (!isXDataAscending) {
+      double[] xMinMax = xIndex.findMinMax(filterFrom, filterTo);
+      xMin = xMinMax[0];
+      xMax = xMinMax[1];
+      double[] yMinMax = yIndex.findMinMax(filterFrom, filterTo);
+      yMin = yMinMax[0];
+      yMax = yMinMax[1];
+      return;
+    }
+    boolean isEmpty = filterFrom == filterTo;
+    xMin = isEmpty ? Double.MAX_VALUE : dataSource.getX(filterFrom);
+    xMax = isEmpty ? -Double.MAX_VALUE : dataSource.getX(filterTo - 1);
+    double[] yMinMax = yIndex.findMinMax(filterFrom, filterTo);
+    yMin = yMinMax[0];
+    yMax = yMinMax[1];
+  }
+
+  /**
+   * Finds the min and max of the points of unsorted X data within the X range zoomed in on. Blocks
+   * entirely outside of the range are skipped and the summaries of blocks entirely within it used.
+   */
+  private void calculateMinMaxInXRange() {
+
+    double newXMin = Double.MAX_VALUE;
+    double newXMax = -Double.MAX_VALUE;
+    double newYMin = Double.MAX_VALUE;
+    double newYMax = -Double.MAX_VALUE;
+    for (int block = filterFrom / blockSize; block * blockSize < filterTo; block++) {
+      double blockXMin = xIndex.getBlockMin(block);
+      double blockXMax = xIndex.getBlockMax(block);
+      if (blockXMax < filterXMin || blockXMin > filterXMax) {
+        continue;
+      }
+      int from = Math.max(filterFrom, block * blockSize);
+      int to = Math.min(filterTo, (block + 1) * blockSize);
+      if (!hasNaNXData
+          && blockXMin >= filterXMin
+          && blockXMax <= filterXMax
+          && to - from == blockSize) {
+        newXMin = Math.min(newXMin, blockXMin);
+        newXMax = Math.max(newXMax, blockXMax);
+        newYMin = Math.min(newYMin, yIndex.getBlockMin(block));
+        newYMax = Math.max(newYMax, yIndex.getBlockMax(block));
+        continue;
+      }
+      for (int i = from; i < to; i++) {
+        double x = dataSource.getX(i);
+        if (!isXInView(x)) {
+          continue;
+        }
+        newXMin = Math.min(newXMin, x);
+        newXMax = Math.max(newXMax, x);
+        // NaN values fail the comparisons and are thereby skipped
+        double y = dataSource.getY(i);
+        if (y < newYMin) {
+          newYMin = y;
+        }
+        if (y > newYMax) {
+          newYMax = y;
+        }
+      }
+    }
+    xMin = newXMin;
+    xMax = newXMax;
+    yMin = newYMin;
+    yMax = newYMax;
+  }
+
+  /**
+   * This is an internal method which shouldn't be called from client code. Reads the points within
+   * the X-Axis range from the data source to be painted, see getPaintedXData. Of a line, the first,
+   * min, max and last point of each pixel column are kept, of a scatter series one point per pixel.
+   * Polygon areas keep all points.
+   *
+   * @param xFrom the X-Axis min
+   * @param xTo the X-Axis max
+   * @param columns the width of the plot in pixels
+   * @param isXAxisLogarithmic
+   * @param yFrom the Y-Axis min
+   * @param yTo the Y-Axis max
+   * @param rows the height of the plot in pixels
+   * @param isYAxisLogarithmic
+   */
+  public void setPaintedRange(
+      double xFrom,
+      double xTo,
+      int columns,
+      boolean isXAxisLogarithmic,
+      double yFrom,
+      double yTo,
+      int rows,
+      boolean isYAxisLogarithmic) {
+
+    PaintedRange range =
+        new PaintedRange(
+            getXYSeriesRenderStyle(),
+            dataVersion,
+            xFrom,
+            xTo,
+            columns,
+            isXAxisLogarithmic,
+            yFrom,
+            yTo,
+            rows,
+            isYAxisLogarithmic);
+    if (range.equals(paintedRange)) {
+      return;
+    }
+    paintedRange = range;
+
+    paintedDataCount = 0;
+    XYSeriesRenderStyle renderStyle = getXYSeriesRenderStyle();
+    if (!isXDataAscending) {
+      // the points in range aren't a range of the data, and lines connect all of them in order
+      ScatterPixels pixels =
+          renderStyle == XYSeriesRenderStyle.Scatter ? new ScatterPixels(range) : null;
+      for (int i = filterFrom; i < filterTo; i++) {
+        double x = dataSource.getX(i);
+        double y = dataSource.getY(i);
+        if (isXInView(x) && (pixels == null || pixels.isFirstOnPixel(x, y))) {
+          addPaintedPoint(x, y);
+        }
+      }
+      return;
+    }
+
+    // one point beyond either end, so lines continue to the edge of the plot
+    int from = Math.max(filterFrom, lowerBound(xFrom) - 1);
+    int to = Math.max(from, Math.min(filterTo, upperBound(xTo) + 1));
+
+    if (renderStyle == XYSeriesRenderStyle.Scatter) {
+      // markers aren't connected, so all but one of the points on the same pixel can go
+      ScatterPixels pixels = new ScatterPixels(range);
+      for (int i = from; i < to; i++) {
+        double x = dataSource.getX(i);
+        double y = dataSource.getY(i);
+        if (pixels.isFirstOnPixel(x, y)) {
+          addPaintedPoint(x, y);
+        }
+      }
+    } else if (renderStyle == XYSeriesRenderStyle.PolygonArea
+        || to - from <= XYDecimator.POINTS_PER_COLUMN * columns) {
+      for (int i = from; i < to; i++) {
+        addPaintedPoint(dataSource.getX(i), dataSource.getY(i));
+      }
+    } else {
+      int[] indices =
+          XYDecimator.minMax(
+              dataSource,
+              from,
+              to,
+              isXAxisLogarithmic ? Math.log10(xFrom) : xFrom,
+              isXAxisLogarithmic ? Math.log10(xTo) : xTo,
+              columns,
+              isXAxisLogarithmic);
+      for (int index : indices) {
+        addPaintedPoint(dataSource.getX(index), dataSource.getY(index));
+      }
+    }
+  }
+
+  /**
+   * This is an internal method which shouldn't be called from client code. Gets the X values of the
+   * points read by setPaintedRange, the first getPaintedDataCount values of the array.
+   *
+   * @return
+   */
+  public double[] getPaintedXData() {
+
+    return paintedXData;
+  }
+
+  /**
+   * This is an internal method which shouldn't be called from client code. Gets the Y values of the
+   * points read by setPaintedRange, the first getPaintedDataCount values of the array.
+   *
+   * @return
+   */
+  public double[] getPaintedYData() {
+
+    return paintedYData;
+  }
+
+  /**
+   * This is an internal method which shouldn't be called from client code. Gets the number of
+   * points read by setPaintedRange.
+   *
+   * @return
+   */
+  public int getPaintedDataCount() {
+
+    return paintedDataCount;
+  }
+
+  private void addPaintedPoint(double x, double y) {
+
+    if (paintedDataCount == paintedXData.length) {
+      int length = Math.max(16, paintedXData.length * 2);
+      paintedXData = Arrays.copyOf(paintedXData, length);
+      paintedYData = Arrays.copyOf(paintedYData, length);
+    }
+    paintedXData[paintedDataCount] = x;
+    paintedYData[paintedDataCount] = y;
+    paintedDataCount++;
+  }
+
+  /** Sets the range zoomed in on, finding its Y min and max in the index */
+  private void setFilter(int from, int to) {
+
+    filterFrom = from;
+    filterTo = to;
+    isXRangeFiltered = false;
+    xDataCopy = null;
+    yDataCopy = null;
+    dataVersion++;
+    calculateMinMax();
+  }
+
+  /** Whether a point with the X value is part of the data zoomed in on */
+  private boolean isXInView(double x) {
+
+    return !isXRangeFiltered || (x >= filterXMin && x <= filterXMax);
+  }
+
+  /** Index of the first X value >= key in ascending data */
+  private int lowerBound(double key) {
+
+    int low = 0;
+    int high = dataSource.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (dataSource.getX(mid) < key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /** Index of the first X value > key in ascending data */
+  private int upperBound(double key) {
+
+    int low = 0;
+    int high = dataSource.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (dataSource.getX(mid) <= key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /** What the painted points were read for */
+  private static class PaintedRange {
+
+    private final XYSeriesRenderStyle renderStyle;
+    private final int dataVersion;
+    private final double xFrom;
+    private final double xTo;
+    private final int columns;
+    private final boolean isXAxisLogarithmic;
+    private final double yFrom;
+    private final double yTo;
+    private final int rows;
+    private final boolean isYAxisLogarithmic;
+
+    PaintedRange(
+        XYSeriesRenderStyle renderStyle,
+        int dataVersion,
+        double xFrom,
+        double xTo,
+        int columns,
+        boolean isXAxisLogarithmic,
+        double yFrom,
+        double yTo,
+        int rows,
+        boolean isYAxisLogarithmic) {
+
+      this.renderStyle = renderStyle;
+      this.dataVersion = dataVersion;
+      this.xFrom = xFrom;
+      this.xTo = xTo;
+      this.columns = columns;
+      this.isXAxisLogarithmic = isXAxisLogarithmic;
+      this.yFrom = yFrom;
+      this.yTo = yTo;
+      this.rows = rows;
+      this.isYAxisLogarithmic = isYAxisLogarithmic;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+      if (!(o instanceof PaintedRange)) {
+        return false;
+      }
+      PaintedRange range = (PaintedRange) o;
+      // only the render style and X range matter to lines
+      boolean isScatter = renderStyle == XYSeriesRenderStyle.Scatter;
+      return renderStyle == range.renderStyle
+          && dataVersion == range.dataVersion
+          && xFrom == range.xFrom
+          && xTo == range.xTo
+          && columns == range.columns
+          && isXAxisLogarithmic == range.isXAxisLogarithmic
+          && (!isScatter
+              || (yFrom == range.yFrom
+                  && yTo == range.yTo
+                  && rows == range.rows
+                  && isYAxisLogarithmic == range.isYAxisLogarithmic));
+    }
+
+    @Override
+    public int hashCode() {
+
+      return 31 * dataVersion + columns;
+    }
+  }
+
+  /**
+   * The pixels of the plot, and a margin around it, a point of a scatter series was already kept on
+   */
+  private static class ScatterPixels {
+
+    private final double xMin;
+    private final double columnsPerUnit;
+    private final boolean isXAxisLogarithmic;
+    private final double yMin;
+    private final double rowsPerUnit;
+    private final boolean isYAxisLogarithmic;
+    private final int width;
+    private final int height;
+    private final BitSet taken;
+
+    ScatterPixels(PaintedRange range) {
+
+      isXAxisLogarithmic = range.isXAxisLogarithmic;
+      isYAxisLogarithmic = range.isYAxisLogarithmic;
+      xMin = isXAxisLogarithmic ? Math.log10(range.xFrom) : range.xFrom;
+      double xMax = isXAxisLogarithmic ? Math.log10(range.xTo) : range.xTo;
+      yMin = isYAxisLogarithmic ? Math.log10(range.yFrom) : range.yFrom;
+      double yMax = isYAxisLogarithmic ? Math.log10(range.yTo) : range.yTo;
+      // an empty range puts everything on one pixel, as it's painted on one
+      columnsPerUnit = xMax > xMin ? range.columns / (xMax - xMin) : 0.0;
+      rowsPerUnit = yMax > yMin ? range.rows / (yMax - yMin) : 0.0;
+      width = range.columns + 2 * SCATTER_MARGIN;
+      height = range.rows + 2 * SCATTER_MARGIN;
+      taken = new BitSet(width * height);
+    }
+
+    /**
+     * Whether a point is the first one on its pixel, marking it taken. Points beyond the margin and
+     * NaN values are never painted.
+     */
+    boolean isFirstOnPixel(double x, double y) {
+
+      if (Double.isNaN(x) || Double.isNaN(y)) {
+        return false;
+      }
+      double column =
+          Math.floor(((isXAxisLogarithmic ? Math.log10(x) : x) - xMin) * columnsPerUnit)
+              + SCATTER_MARGIN;
+      double row =
+          Math.floor(((isYAxisLogarithmic ? Math.log10(y) : y) - yMin) * rowsPerUnit)
+              + SCATTER_MARGIN;
+      if (!(column >= 0 && column < width && row >= 0 && row < height)) {
+        return false;
+      }
+      int pixel = (int) row * width + (int) column;
+      if (taken.get(pixel)) {
+        return false;
+      }
+      taken.set(pixel);
+      return true;
+    }
+  }
+}
@@ -114,8 +114,9 @@ public class DialChart extends Chart<DialStyler, DialSeries> {
     paintBackground(g);
 
     plot.paint(g);
-    chartTitle.paint(g);
+    Graphics2D foreground = getForegroundGraphics(g);
+    chartTitle.paint(foreground);
     //    legend.paint(g); // no legend for dial charts
-    annotations.forEach(x -> x.paint(g));
+    annotations.forEach(x -> x.paint(foreground));
   }
 }
@@ -1,11 +1,19 @@
 package org.knowm.xchart;
 
-import com.madgag.gif.fmsware.AnimatedGifEncoder;
 import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.IntConsumer;
 import org.knowm.xchart.internal.Utils;
+import org.knowm.xchart.internal.chartpart.Chart;
 
-/** A helper class with static methods for saving Charts as a GIF file */
+/**
+ * A helper class with static methods for saving Charts as a GIF file. The frames are encoded
+ * concurrently, see AnimatedGifWriter.
+ */
 public class GifEncoder {
 
   private static final String GIF_FILE_EXTENSION = ".gif";
@@ -29,13 +37,77 @@ public class GifEncoder {
    * @param delay delay time in milliseconds
    */
   public static void saveGif(String filePath, List<BufferedImage> images, int repeat, int delay) {
-    AnimatedGifEncoder gif = new AnimatedGifEncoder();
-    gif.setRepeat(repeat);
-    gif.start(Utils.addFileExtension(filePath, GIF_FILE_EXTENSION));
-    gif.setDelay(delay);
-    for (BufferedImage image : images) {
-      gif.addFrame(image);
+    try (OutputStream out = getOutputStream(filePath)) {
+      AnimatedGifWriter gif = new AnimatedGifWriter(out, repeat, delay);
+      for (BufferedImage image : images) {
+        gif.addFrame(image);
+      }
+      gif.finish();
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * An animation of a chart saved as GIF file, painting the chart for each frame after updating it
+   * through the given callback. Only a few frames are in memory at a time, so there can be any
+   * number of frames.
+   *
+   * @param filePath GIF file path
+   * @param chart
+   * @param frameCount the number of frames
+   * @param updateChart called with the index of each frame, starting at 0, before the chart is
+   *     painted for it
+   * @param repeat repeat times, less than 0 does not repeat,0 countless times
+   * @param delay delay time in milliseconds
+   */
+  public static void saveGif(
+      String filePath,
+      Chart<?, ?> chart,
+      int frameCount,
+      IntConsumer updateChart,
+      int repeat,
+      int delay) {
+    try (OutputStream out = getOutputStream(filePath)) {
+      saveGif(out, chart, frameCount, updateChart, repeat, delay);
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * An animation of a chart written into a stream as GIF, painting the chart for each frame after
+   * updating it through the given callback. Each frame is written as soon as it's encoded. Does not
+   * close the stream.
+   *
+   * @param out
+   * @param chart
+   * @param frameCount the number of frames
+   * @param updateChart called with the index of each frame, starting at 0, before the chart is
+   *     painted for it
+   * @param repeat repeat times, less than 0 does not repeat,0 countless times
+   * @param delay delay time in milliseconds
+   * @throws IOException
+   */
+  public static void saveGif(
+      OutputStream out,
+      Chart<?, ?> chart,
+      int frameCount,
+      IntConsumer updateChart,
+      int repeat,
+      int delay)
+      throws IOException {
+    AnimatedGifWriter gif = new AnimatedGifWriter(out, repeat, delay);
+    for (int i = 0; i < frameCount; i++) {
+      updateChart.accept(i);
+      // a new image for each frame, as the frames are encoded while the next ones are painted
+      gif.addFrame(BitmapEncoder.getBufferedImage(chart));
     }
     gif.finish();
   }
+
+  private static OutputStream getOutputStream(String filePath) throws IOException {
+    return new BufferedOutputStream(
+        new FileOutputStream(Utils.addFileExtension(filePath, GIF_FILE_EXTENSION)));
+  }
 }
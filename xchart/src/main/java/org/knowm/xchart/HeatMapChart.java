@@ -1,6 +1,9 @@
 package org.knowm.xchart;
 
 import java.awt.Graphics2D;
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -104,6 +107,65 @@ public class HeatMapChart extends Chart<HeatMapStyler, HeatMapSeries> {
     return heatMapSeries;
   }
 
+  /**
+   * Add a series for a HeatMap type chart with a dense grid of heat data values, which takes far
+   * less memory and paints much faster than triples for large grids
+   *
+   * @param seriesName
+   * @param xData the X-Axis data
+   * @param yData the Y-Axis data
+   * @param heatData the heat data values in row-major order, the value of X index x and Y index y
+   *     is at y * xData.size() + x, NaN for no value
+   * @return
+   */
+  public HeatMapSeries addSeries(
+      String seriesName, List<?> xData, List<?> yData, double[] heatData) {
+
+    return addSeries(seriesName, xData, yData, DoubleBuffer.wrap(heatData));
+  }
+
+  /**
+   * Add a series for a HeatMap type chart with a dense grid of float heat data values
+   *
+   * @param seriesName
+   * @param xData the X-Axis data
+   * @param yData the Y-Axis data
+   * @param heatData the heat data values in row-major order, the value of X index x and Y index y
+   *     is at y * xData.size() + x, NaN for no value
+   * @return
+   */
+  public HeatMapSeries addSeries(
+      String seriesName, List<?> xData, List<?> yData, float[] heatData) {
+
+    return addSeries(seriesName, xData, yData, FloatBuffer.wrap(heatData));
+  }
+
+  /**
+   * Add a series for a HeatMap type chart with a dense grid of heat data values in a DoubleBuffer
+   * or FloatBuffer, which may be off-heap, e.g. a direct or memory-mapped buffer. The buffer is
+   * used as is, not copied.
+   *
+   * @param seriesName
+   * @param xData the X-Axis data
+   * @param yData the Y-Axis data
+   * @param heatData the heat data values in row-major order, the value of X index x and Y index y
+   *     is at y * xData.size() + x, NaN for no value
+   * @return
+   */
+  public HeatMapSeries addSeries(String seriesName, List<?> xData, List<?> yData, Buffer heatData) {
+
+    if (heatMapSeries != null) {
+      throw new RuntimeException("HeatMapSeries can only be added once!!!");
+    }
+    sanityCheck(xData, yData);
+    if (heatData == null) {
+      throw new IllegalArgumentException("Heat data cannot be null!!!");
+    }
+    heatMapSeries = new HeatMapSeries(seriesName, xData, yData, heatData);
+    seriesMap.put(seriesName, heatMapSeries);
+    return heatMapSeries;
+  }
+
   /**
    * Update a series by updating the X-Axis, Y-Axis and heat data
    *
@@ -140,6 +202,66 @@ public class HeatMapChart extends Chart<HeatMapStyler, HeatMapSeries> {
     return series;
   }
 
+  /**
+   * Update a series by updating the X-Axis, Y-Axis and dense heat data
+   *
+   * @param seriesName
+   * @param xData
+   * @param yData
+   * @param heatData the heat data values in row-major order, the value of X index x and Y index y
+   *     is at y * xData.size() + x, NaN for no value
+   * @return
+   */
+  public HeatMapSeries updateSeries(
+      String seriesName, List<?> xData, List<?> yData, double[] heatData) {
+
+    return updateSeries(seriesName, xData, yData, DoubleBuffer.wrap(heatData));
+  }
+
+  /**
+   * Update a series by updating the X-Axis, Y-Axis and dense float heat data
+   *
+   * @param seriesName
+   * @param xData
+   * @param yData
+   * @param heatData the heat data values in row-major order, the value of X index x and Y index y
+   *     is at y * xData.size() + x, NaN for no value
+   * @return
+   */
+  public HeatMapSeries updateSeries(
+      String seriesName, List<?> xData, List<?> yData, float[] heatData) {
+
+    return updateSeries(seriesName, xData, yData, FloatBuffer.wrap(heatData));
+  }
+
+  /**
+   * Update a series by updating the X-Axis, Y-Axis and dense heat data in a DoubleBuffer or
+   * FloatBuffer
+   *
+   * @param seriesName
+   * @param xData
+   * @param yData
+   * @param heatData the heat data values in row-major order, the value of X index x and Y index y
+   *     is at y * xData.size() + x, NaN for no value
+   * @return
+   */
+  public HeatMapSeries updateSeries(
+      String seriesName, List<?> xData, List<?> yData, Buffer heatData) {
+
+    Map<String, HeatMapSeries> seriesMap = getSeriesMap();
+    HeatMapSeries series = seriesMap.get(seriesName);
+    if (series == null) {
+      throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
+    }
+    sanityCheck(xData, yData);
+    if (heatData == null) {
+      throw new IllegalArgumentException("Heat data cannot be null!!!");
+    }
+
+    series.replaceData(xData, yData, heatData);
+    return series;
+  }
+
   public HeatMapSeries getHeatMapSeries() {
 
     return heatMapSeries;
@@ -161,9 +283,10 @@ public class HeatMapChart extends Chart<HeatMapStyler, HeatMapSeries> {
 
     axisPair.paint(g);
     plot.paint(g);
-    chartTitle.paint(g);
-    legend.paint(g);
-    annotations.forEach(x -> x.paint(g));
+    Graphics2D foreground = getForegroundGraphics(g);
+    chartTitle.paint(foreground);
+    legend.paint(foreground);
+    annotations.forEach(x -> x.paint(foreground));
   }
 
   private List<Integer> arrayToList(int[] data) {
@@ -195,18 +318,7 @@ public class HeatMapChart extends Chart<HeatMapStyler, HeatMapSeries> {
 
   private void sanityCheck(List<?> xData, List<?> yData, List<Number[]> heatData) {
 
-    if (xData == null) {
-      throw new IllegalArgumentException("X-Axis data cannot be null!!!");
-    }
-    if (xData.size() == 0) {
-      throw new IllegalArgumentException("X-Axis data cannot be empty!!!");
-    }
-    if (yData == null) {
-      throw new IllegalArgumentException("Y-Axis data cannot be null!!!");
-    }
-    if (yData.size() == 0) {
-      throw new IllegalArgumentException("Y-Axis data cannot be empty!!!");
-    }
+    sanityCheck(xData, yData);
     if (heatData == null) {
       throw new IllegalArgumentException("Heat data cannot be null!!!");
     }
@@ -229,6 +341,22 @@ public class HeatMapChart extends Chart<HeatMapStyler, HeatMapSeries> {
     }
   }
 
+  private void sanityCheck(List<?> xData, List<?> yData) {
+
+    if (xData == null) {
+      throw new IllegalArgumentException("X-Axis data cannot be null!!!");
+    }
+    if (xData.size() == 0) {
+      throw new IllegalArgumentException("X-Axis data cannot be empty!!!");
+    }
+    if (yData == null) {
+      throw new IllegalArgumentException("Y-Axis data cannot be null!!!");
+    }
+    if (yData.size() == 0) {
+      throw new IllegalArgumentException("Y-Axis data cannot be empty!!!");
+    }
+  }
+
   private void prepareForPaint() {
     if (styler.getMin() != Double.MIN_VALUE) {
       heatMapSeries.setMin(styler.getMin());
@@ -1,10 +1,17 @@
 package org.knowm.xchart;
 
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.util.*;
 import org.knowm.xchart.internal.chartpart.RenderableSeries.LegendRenderType;
 import org.knowm.xchart.internal.series.AxesChartSeries;
 
-/** A Series containing X, Y and heatData data to be plotted on a Chart */
+/**
+ * A Series containing X, Y and heatData data to be plotted on a Chart. The heat data is either a
+ * list of {x index, y index, value} triples or, for large grids, a dense row-major DoubleBuffer or
+ * FloatBuffer of values, which may be off-heap, e.g. a direct or memory-mapped buffer.
+ */
 public class HeatMapSeries extends AxesChartSeries {
 
   List<?> xData;
@@ -13,6 +20,9 @@ public class HeatMapSeries extends AxesChartSeries {
 
   List<? extends Number[]> heatData;
 
+  // the dense heat data, null if the heat data is a list of triples
+  Buffer denseHeatData;
+
   // heatData value min
   double min;
 
@@ -36,11 +46,57 @@ public class HeatMapSeries extends AxesChartSeries {
     calculateMinMax();
   }
 
+  /**
+   * Constructor for dense heat data
+   *
+   * @param name
+   * @param xData
+   * @param yData
+   * @param denseHeatData a DoubleBuffer or FloatBuffer, the value of X index x and Y index y is at
+   *     y * xData.size() + x
+   */
+  protected HeatMapSeries(String name, List<?> xData, List<?> yData, Buffer denseHeatData) {
+
+    super(name, getDataType(xData), getDataType(yData));
+    setData(xData, yData, denseHeatData);
+  }
+
   public void replaceData(List<?> xData, List<?> yData, List<Number[]> heatData) {
 
     this.xData = xData;
     this.yData = yData;
     this.heatData = heatData;
+    this.denseHeatData = null;
+    calculateMinMax();
+  }
+
+  /**
+   * Replaces the data with dense heat data
+   *
+   * @param xData
+   * @param yData
+   * @param denseHeatData a DoubleBuffer or FloatBuffer, the value of X index x and Y index y is at
+   *     y * xData.size() + x
+   */
+  public void replaceData(List<?> xData, List<?> yData, Buffer denseHeatData) {
+
+    setData(xData, yData, denseHeatData);
+  }
+
+  private void setData(List<?> xData, List<?> yData, Buffer denseHeatData) {
+
+    if (!(denseHeatData instanceof DoubleBuffer) && !(denseHeatData instanceof FloatBuffer)) {
+      throw new IllegalArgumentException(
+          "Dense heat data must be a DoubleBuffer or FloatBuffer!!!");
+    }
+    if (denseHeatData.limit() < xData.size() * yData.size()) {
+      throw new IllegalArgumentException(
+          "Dense heat data must have a value for each X and Y-Axis value pair!!!");
+    }
+    this.xData = xData;
+    this.yData = yData;
+    this.denseHeatData = denseHeatData;
+    this.heatData = new DenseHeatDataList();
     calculateMinMax();
   }
 
@@ -49,18 +105,31 @@ public class HeatMapSeries extends AxesChartSeries {
 
     min = Double.MAX_VALUE;
     max = Double.MIN_VALUE;
-    Number number = null;
-    for (Number[] numbers : heatData) {
-      if (numbers == null) {
-        continue;
+    if (denseHeatData != null) {
+      for (int i = 0; i < xData.size() * yData.size(); i++) {
+        double value = getDenseValue(i);
+        // NaN values fail both tests
+        if (min > value) {
+          min = value;
+        }
+        if (max < value) {
+          max = value;
+        }
       }
-      number = numbers[2];
-      if (number != null) {
-        if (min > number.doubleValue()) {
-          min = number.doubleValue();
+    } else {
+      Number number = null;
+      for (Number[] numbers : heatData) {
+        if (numbers == null) {
+          continue;
         }
-        if (max < number.doubleValue()) {
-          max = number.doubleValue();
+        number = numbers[2];
+        if (number != null) {
+          if (min > number.doubleValue()) {
+            min = number.doubleValue();
+          }
+          if (max < number.doubleValue()) {
+            max = number.doubleValue();
+          }
         }
       }
     }
@@ -128,11 +197,36 @@ public class HeatMapSeries extends AxesChartSeries {
     return yData;
   }
 
+  /**
+   * Gets the heat data as {x index, y index, value} triples. For dense heat data, this is a view
+   * creating the triples on access, use getDenseValue instead.
+   *
+   * @return
+   */
   public List<? extends Number[]> getHeatData() {
 
     return heatData;
   }
 
+  public boolean isDense() {
+
+    return denseHeatData != null;
+  }
+
+  /**
+   * Gets a value of the dense heat data
+   *
+   * @param index y index * xData.size() + x index
+   * @return
+   */
+  public double getDenseValue(int index) {
+
+    if (denseHeatData instanceof DoubleBuffer) {
+      return ((DoubleBuffer) denseHeatData).get(index);
+    }
+    return ((FloatBuffer) denseHeatData).get(index);
+  }
+
   public double getMin() {
 
     return min;
@@ -154,4 +248,23 @@ public class HeatMapSeries extends AxesChartSeries {
     this.max = max;
     return this;
   }
+
+  /** The dense heat data as triples, ordered by row */
+  private class DenseHeatDataList extends AbstractList<Number[]> {
+
+    @Override
+    public Number[] get(int index) {
+
+      if (index < 0 || index >= size()) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+      }
+      return new Number[] {index % xData.size(), index / xData.size(), getDenseValue(index)};
+    }
+
+    @Override
+    public int size() {
+
+      return xData.size() * yData.size();
+    }
+  }
 }
@@ -0,0 +1,129 @@
+package org.knowm.xchart;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An XYDataSource reading column files of little-endian doubles or floats, one file for the X
+ * values and one for the Y values. The files are memory-mapped, so they can be far larger than the
+ * heap and only the parts read are loaded by the operating system.
+ */
+public class MappedXYDataSource implements XYDataSource {
+
+  private final Column xColumn;
+  private final Column yColumn;
+
+  /**
+   * Constructor - the X values are generated as 1, 2, 3...
+   *
+   * @param yFile
+   * @param yValueType
+   * @throws IOException
+   */
+  public MappedXYDataSource(Path yFile, ValueType yValueType) throws IOException {
+
+    this.xColumn = null;
+    this.yColumn = new Column(yFile, yValueType);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param xFile
+   * @param xValueType
+   * @param yFile
+   * @param yValueType
+   * @throws IOException
+   */
+  public MappedXYDataSource(Path xFile, ValueType xValueType, Path yFile, ValueType yValueType)
+      throws IOException {
+
+    this.xColumn = new Column(xFile, xValueType);
+    this.yColumn = new Column(yFile, yValueType);
+    if (xColumn.size != yColumn.size) {
+      throw new IllegalArgumentException("X and Y-Axis sizes are not the same!!!");
+    }
+  }
+
+  @Override
+  public int size() {
+
+    return yColumn.size;
+  }
+
+  @Override
+  public double getX(int index) {
+
+    return xColumn == null ? index + 1 : xColumn.get(index);
+  }
+
+  @Override
+  public double getY(int index) {
+
+    return yColumn.get(index);
+  }
+
+  public enum ValueType {
+    DOUBLE(Double.BYTES),
+    FLOAT(Float.BYTES);
+
+    private final int bytes;
+
+    ValueType(int bytes) {
+
+      this.bytes = bytes;
+    }
+  }
+
+  /** A memory-mapped column file */
+  private static class Column {
+
+    // a single mapping can't exceed 2 GB, so larger files are mapped in chunks. A power of two
+    // multiple of the value sizes, so no value spans two chunks.
+    private static final int CHUNK_SHIFT = 30;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final ByteBuffer[] chunks;
+    private final boolean isDouble;
+    private final int bytes;
+    private final int size;
+
+    Column(Path file, ValueType valueType) throws IOException {
+
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        long count = channel.size() / valueType.bytes;
+        if (count > Integer.MAX_VALUE) {
+          throw new IllegalArgumentException("Column file has too many values!!! >" + file);
+        }
+        long length = count * valueType.bytes;
+        chunks = new ByteBuffer[(int) ((length + CHUNK_MASK) >>> CHUNK_SHIFT)];
+        for (int i = 0; i < chunks.length; i++) {
+          long position = (long) i << CHUNK_SHIFT;
+          chunks[i] =
+              channel
+                  .map(
+                      FileChannel.MapMode.READ_ONLY,
+                      position,
+                      Math.min(CHUNK_MASK + 1L, length - position))
+                  .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        // the mappings stay valid after the channel is closed
+        this.isDouble = valueType == ValueType.DOUBLE;
+        this.bytes = valueType.bytes;
+        this.size = (int) count;
+      }
+    }
+
+    double get(int index) {
+
+      long position = (long) index * bytes;
+      ByteBuffer chunk = chunks[(int) (position >>> CHUNK_SHIFT)];
+      int offset = (int) (position & CHUNK_MASK);
+      return isDouble ? chunk.getDouble(offset) : chunk.getFloat(offset);
+    }
+  }
+}
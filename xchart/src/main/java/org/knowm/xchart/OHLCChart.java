@@ -497,7 +497,7 @@ public class OHLCChart extends Chart<OHLCStyler, OHLCSeries> {
         seriesName, xData, openData, highData, lowData, closeData, volumeData, DataType.Number);
   }
 
-  private OHLCSeries addSeries(
+  OHLCSeries addSeries(
       String seriesName,
       double[] xData,
       double[] openData,
@@ -507,55 +507,113 @@ public class OHLCChart extends Chart<OHLCStyler, OHLCSeries> {
       long[] volumeData,
       DataType dataType) {
 
-    if (seriesMap.containsKey(seriesName)) {
-      throw new IllegalArgumentException(
-          "Series name >"
-              + seriesName
-              + "< has already been used. Use unique names for each series!!!");
+    lock.lock();
+    try {
+      if (seriesMap.containsKey(seriesName)) {
+        throw new IllegalArgumentException(
+            "Series name >"
+                + seriesName
+                + "< has already been used. Use unique names for each series!!!");
+      }
+
+      // Sanity checks
+      sanityCheck(seriesName, openData, highData, lowData, closeData, volumeData);
+
+      final double[] xDataToUse;
+      if (xData != null) {
+        // Sanity check
+        checkDataLengths(seriesName, "X-Axis", "Close", xData, closeData);
+
+        xDataToUse = xData;
+      } else { // generate xData
+        xDataToUse = Utils.getGeneratedDataAsArray(closeData.length);
+      }
+      OHLCSeries series =
+          new OHLCSeries(
+              seriesName, xDataToUse, openData, highData, lowData, closeData, volumeData, dataType);
+      seriesMap.put(seriesName, series);
+
+      return series;
+    } finally {
+      lock.unlock();
     }
+  }
+
+  OHLCSeries addSeries(String seriesName, double[] xData, double[] yData, DataType dataType) {
 
-    // Sanity checks
-    sanityCheck(seriesName, openData, highData, lowData, closeData, volumeData);
+    lock.lock();
+    try {
+      if (seriesMap.containsKey(seriesName)) {
+        throw new IllegalArgumentException(
+            "Series name >"
+                + seriesName
+                + "< has already been used. Use unique names for each series!!!");
+      }
 
-    final double[] xDataToUse;
-    if (xData != null) {
-      // Sanity check
-      checkDataLengths(seriesName, "X-Axis", "Close", xData, closeData);
+      final double[] xDataToUse;
+      if (xData != null) {
+        // Sanity check
+        checkDataLengths(seriesName, "X-Axis", "Y-Axis", xData, yData);
 
-      xDataToUse = xData;
-    } else { // generate xData
-      xDataToUse = Utils.getGeneratedDataAsArray(closeData.length);
+        xDataToUse = xData;
+      } else { // generate xData
+        xDataToUse = Utils.getGeneratedDataAsArray(yData.length);
+      }
+      OHLCSeries series = new OHLCSeries(seriesName, xDataToUse, yData, dataType);
+      seriesMap.put(seriesName, series);
+      return series;
+    } finally {
+      lock.unlock();
     }
-    OHLCSeries series =
-        new OHLCSeries(
-            seriesName, xDataToUse, openData, highData, lowData, closeData, volumeData, dataType);
-    seriesMap.put(seriesName, series);
+  }
 
-    return series;
+  /**
+   * Add an empty streaming series for real-time tick data. Ticks are added with
+   * StreamingOHLCSeries.addTick and merged into candles of the given interval. The oldest candles
+   * are dropped once the capacity is reached.
+   *
+   * @param seriesName
+   * @param candleInterval the time interval of a candle
+   * @param capacity the maximum number of candles kept
+   * @return A Series object that you can set properties on and add ticks to
+   */
+  public StreamingOHLCSeries addStreamingSeries(
+      String seriesName, double candleInterval, int capacity) {
+
+    return addStreamingSeries(seriesName, candleInterval, capacity, DataType.Number);
   }
 
-  private OHLCSeries addSeries(
-      String seriesName, double[] xData, double[] yData, DataType dataType) {
+  /**
+   * Add an empty streaming series for real-time tick data. Ticks are added with
+   * StreamingOHLCSeries.addTick and merged into candles of the given interval. The oldest candles
+   * are dropped once the capacity is reached.
+   *
+   * @param seriesName
+   * @param candleInterval the time interval of a candle, in milliseconds for a Date X-Axis
+   * @param capacity the maximum number of candles kept
+   * @param xAxisDataType Number, or Date for tick times given as epoch milliseconds
+   * @return A Series object that you can set properties on and add ticks to
+   */
+  public StreamingOHLCSeries addStreamingSeries(
+      String seriesName, double candleInterval, int capacity, DataType xAxisDataType) {
 
-    if (seriesMap.containsKey(seriesName)) {
-      throw new IllegalArgumentException(
-          "Series name >"
-              + seriesName
-              + "< has already been used. Use unique names for each series!!!");
-    }
+    lock.lock();
+    try {
+      if (seriesMap.containsKey(seriesName)) {
+        throw new IllegalArgumentException(
+            "Series name >"
+                + seriesName
+                + "< has already been used. Use unique names for each series!!!");
+      }
 
-    final double[] xDataToUse;
-    if (xData != null) {
-      // Sanity check
-      checkDataLengths(seriesName, "X-Axis", "Y-Axis", xData, yData);
+      StreamingOHLCSeries series =
+          new StreamingOHLCSeries(seriesName, candleInterval, capacity, xAxisDataType);
+      seriesMap.put(seriesName, series);
 
-      xDataToUse = xData;
-    } else { // generate xData
-      xDataToUse = Utils.getGeneratedDataAsArray(yData.length);
+      return series;
+    } finally {
+      lock.unlock();
     }
-    OHLCSeries series = new OHLCSeries(seriesName, xDataToUse, yData, dataType);
-    seriesMap.put(seriesName, series);
-    return series;
   }
 
   /**
@@ -679,26 +737,31 @@ public class OHLCChart extends Chart<OHLCStyler, OHLCSeries> {
       double[] newCloseData,
       long[] newVolumeData) {
 
-    sanityCheck(seriesName, newOpenData, newHighData, newLowData, newCloseData, newVolumeData);
+    lock.lock();
+    try {
+      sanityCheck(seriesName, newOpenData, newHighData, newLowData, newCloseData, newVolumeData);
 
-    Map<String, OHLCSeries> seriesMap = getSeriesMap();
-    OHLCSeries series = seriesMap.get(seriesName);
-    if (series == null) {
-      throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
-    }
-    final double[] xDataToUse;
-    if (newXData != null) {
-      // Sanity check
-      checkDataLengths(seriesName, "X-Axis", "Close", newXData, newCloseData);
-      xDataToUse = newXData;
-    } else {
-      xDataToUse = Utils.getGeneratedDataAsArray(newCloseData.length);
-    }
+      Map<String, OHLCSeries> seriesMap = getSeriesMap();
+      OHLCSeries series = seriesMap.get(seriesName);
+      if (series == null) {
+        throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
+      }
+      final double[] xDataToUse;
+      if (newXData != null) {
+        // Sanity check
+        checkDataLengths(seriesName, "X-Axis", "Close", newXData, newCloseData);
+        xDataToUse = newXData;
+      } else {
+        xDataToUse = Utils.getGeneratedDataAsArray(newCloseData.length);
+      }
 
-    series.replaceData(
-        xDataToUse, newOpenData, newHighData, newLowData, newCloseData, newVolumeData);
+      series.replaceData(
+          xDataToUse, newOpenData, newHighData, newLowData, newCloseData, newVolumeData);
 
-    return series;
+      return series;
+    } finally {
+      lock.unlock();
+    }
   }
 
   /**
@@ -738,22 +801,27 @@ public class OHLCChart extends Chart<OHLCStyler, OHLCSeries> {
    */
   public OHLCSeries updateOHLCSeries(String seriesName, double[] newXData, double[] newYData) {
 
-    Map<String, OHLCSeries> seriesMap = getSeriesMap();
-    OHLCSeries series = seriesMap.get(seriesName);
-    if (series == null) {
-      throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
-    }
-    final double[] xDataToUse;
-    if (newXData != null) {
-      // Sanity check
-      checkDataLengths(seriesName, "newXData", "newYData", newXData, newYData);
-      xDataToUse = newXData;
-    } else {
-      xDataToUse = Utils.getGeneratedDataAsArray(newYData.length);
-    }
+    lock.lock();
+    try {
+      Map<String, OHLCSeries> seriesMap = getSeriesMap();
+      OHLCSeries series = seriesMap.get(seriesName);
+      if (series == null) {
+        throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
+      }
+      final double[] xDataToUse;
+      if (newXData != null) {
+        // Sanity check
+        checkDataLengths(seriesName, "newXData", "newYData", newXData, newYData);
+        xDataToUse = newXData;
+      } else {
+        xDataToUse = Utils.getGeneratedDataAsArray(newYData.length);
+      }
 
-    series.replaceData(xDataToUse, newYData);
-    return series;
+      series.replaceData(xDataToUse, newYData);
+      return series;
+    } finally {
+      lock.unlock();
+    }
   }
 
   private void checkData(String seriesName, String dataName, double[] data) {
@@ -806,26 +874,41 @@ public class OHLCChart extends Chart<OHLCStyler, OHLCSeries> {
   @Override
   public void paint(Graphics2D g, int width, int height) {
 
-    setWidth(width);
-    setHeight(height);
-
-    // set the series render styles if they are not set. Legend and Plot need it.
-    for (OHLCSeries series : getSeriesMap().values()) {
-      OHLCSeries.OHLCSeriesRenderStyle renderStyle =
-          series.getOhlcSeriesRenderStyle(); // would be directly set
-      if (renderStyle == null) { // wasn't overridden, use default from Style Manager
-        series.setOhlcSeriesRenderStyle(getStyler().getDefaultSeriesRenderStyle());
+    lock.lock();
+    try {
+      setWidth(width);
+      setHeight(height);
+
+      // set the series render styles if they are not set. Legend and Plot need it.
+      for (OHLCSeries series : getSeriesMap().values()) {
+        if (series instanceof StreamingOHLCSeries) {
+          // ticks added while painting are left for the next paint
+          ((StreamingOHLCSeries) series).beginPaint();
+        }
+        OHLCSeries.OHLCSeriesRenderStyle renderStyle =
+            series.getOhlcSeriesRenderStyle(); // would be directly set
+        if (renderStyle == null) { // wasn't overridden, use default from Style Manager
+          series.setOhlcSeriesRenderStyle(getStyler().getDefaultSeriesRenderStyle());
+        }
+      }
+      setSeriesStyles();
+
+      paintBackground(g);
+
+      axisPair.paint(g);
+      plot.paint(g);
+      Graphics2D foreground = getForegroundGraphics(g);
+      chartTitle.paint(foreground);
+      legend.paint(foreground);
+      annotations.forEach(x -> x.paint(foreground));
+    } finally {
+      for (OHLCSeries series : getSeriesMap().values()) {
+        if (series instanceof StreamingOHLCSeries) {
+          ((StreamingOHLCSeries) series).endPaint();
+        }
       }
+      lock.unlock();
     }
-    setSeriesStyles();
-
-    paintBackground(g);
-
-    axisPair.paint(g);
-    plot.paint(g);
-    chartTitle.paint(g);
-    legend.paint(g);
-    annotations.forEach(x -> x.paint(g));
   }
 
   /** set the series color, marker and line style based on theme */
@@ -259,40 +259,52 @@ public class OHLCSeries extends MarkerSeries {
 
   public double[] getXData() {
 
+    refreshData();
     return xData;
   }
 
   public double[] getOpenData() {
 
+    refreshData();
     return openData;
   }
 
   public double[] getHighData() {
 
+    refreshData();
     return highData;
   }
 
   public double[] getLowData() {
 
+    refreshData();
     return lowData;
   }
 
   public double[] getCloseData() {
 
+    refreshData();
     return closeData;
   }
 
   // TODO remove this??
   public long[] getVolumeData() {
 
+    refreshData();
     return volumeData;
   }
 
   public double[] getYData() {
 
+    refreshData();
     return yData;
   }
 
+  /**
+   * Called before the data is read, for subclasses which update the data lazily with replaceData
+   */
+  protected void refreshData() {}
+
   public enum OHLCSeriesRenderStyle implements RenderableSeries {
     Candle(LegendRenderType.Line),
     HiLo(LegendRenderType.Line),
@@ -0,0 +1,229 @@
+package org.knowm.xchart;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import org.knowm.xchart.BitmapEncoder.PNGFilter;
+
+/**
+ * A minimal PNG writer for 8 bit RGB and RGBA images. Compared to the ImageIO PNG writer it lets
+ * the deflate level and the row filter be chosen, and it streams the compressed rows straight to
+ * the target stream in fixed size IDAT chunks instead of buffering the whole image.
+ */
+class PNGEncoder {
+
+  private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+
+  private static final int COLOR_TYPE_RGB = 2;
+  private static final int COLOR_TYPE_RGBA = 6;
+
+  private static final int IDAT_SIZE = 1 << 16;
+
+  private final OutputStream out;
+  private final CRC32 crc = new CRC32();
+  private final byte[] header = new byte[8];
+
+  private PNGEncoder(OutputStream out) {
+
+    this.out = out;
+  }
+
+  /**
+   * Writes an image as a PNG. Does not close the target stream.
+   *
+   * @param image
+   * @param targetStream
+   * @param compressionLevel - 0 (no compression) to 9 (best compression)
+   * @param filter
+   * @throws IOException
+   */
+  static void write(
+      BufferedImage image, OutputStream targetStream, int compressionLevel, PNGFilter filter)
+      throws IOException {
+
+    if (compressionLevel < Deflater.NO_COMPRESSION
+        || compressionLevel > Deflater.BEST_COMPRESSION) {
+      throw new IllegalArgumentException("Compression level must be between 0 and 9!!!");
+    }
+    new PNGEncoder(targetStream).writeImage(image, compressionLevel, filter);
+  }
+
+  private void writeImage(BufferedImage image, int compressionLevel, PNGFilter filter)
+      throws IOException {
+
+    int width = image.getWidth();
+    int height = image.getHeight();
+    boolean hasAlpha = image.getColorModel().hasAlpha();
+    int bytesPerPixel = hasAlpha ? 4 : 3;
+
+    out.write(SIGNATURE);
+
+    byte[] ihdr = new byte[13];
+    putInt(ihdr, 0, width);
+    putInt(ihdr, 4, height);
+    ihdr[8] = 8; // bit depth
+    ihdr[9] = (byte) (hasAlpha ? COLOR_TYPE_RGBA : COLOR_TYPE_RGB);
+    // compression, filter and interlace methods are all 0
+    writeChunk("IHDR", ihdr, ihdr.length);
+
+    Deflater deflater = new Deflater(compressionLevel);
+    if (filter != PNGFilter.NONE) {
+      deflater.setStrategy(Deflater.FILTERED);
+    }
+    try (DeflaterOutputStream deflaterStream =
+        new DeflaterOutputStream(new IDATOutputStream(), deflater, IDAT_SIZE)) {
+      int[] argb = new int[width];
+      byte[] previousRow = new byte[width * bytesPerPixel];
+      byte[] row = new byte[width * bytesPerPixel];
+      byte[] filteredRow = new byte[1 + width * bytesPerPixel];
+      for (int y = 0; y < height; y++) {
+        image.getRGB(0, y, width, 1, argb, 0, width);
+        int i = 0;
+        for (int x = 0; x < width; x++) {
+          int pixel = argb[x];
+          row[i++] = (byte) (pixel >> 16);
+          row[i++] = (byte) (pixel >> 8);
+          row[i++] = (byte) pixel;
+          if (hasAlpha) {
+            row[i++] = (byte) (pixel >> 24);
+          }
+        }
+        filterRow(filter, row, previousRow, bytesPerPixel, filteredRow);
+        deflaterStream.write(filteredRow);
+
+        byte[] swap = previousRow;
+        previousRow = row;
+        row = swap;
+      }
+    } finally {
+      deflater.end();
+    }
+
+    writeChunk("IEND", new byte[0], 0);
+  }
+
+  /** Writes the filter type followed by the filtered row into filteredRow, see the PNG spec 9.2 */
+  private static void filterRow(
+      PNGFilter filter, byte[] row, byte[] previousRow, int bytesPerPixel, byte[] filteredRow) {
+
+    // the filter types are numbered in the order of the enum
+    filteredRow[0] = (byte) filter.ordinal();
+    switch (filter) {
+      case NONE:
+        System.arraycopy(row, 0, filteredRow, 1, row.length);
+        break;
+      case SUB:
+        for (int i = 0; i < row.length; i++) {
+          int left = i < bytesPerPixel ? 0 : row[i - bytesPerPixel];
+          filteredRow[i + 1] = (byte) (row[i] - left);
+        }
+        break;
+      case UP:
+        for (int i = 0; i < row.length; i++) {
+          filteredRow[i + 1] = (byte) (row[i] - previousRow[i]);
+        }
+        break;
+      case AVERAGE:
+        for (int i = 0; i < row.length; i++) {
+          int left = i < bytesPerPixel ? 0 : row[i - bytesPerPixel] & 0xFF;
+          filteredRow[i + 1] = (byte) (row[i] - ((left + (previousRow[i] & 0xFF)) >>> 1));
+        }
+        break;
+      case PAETH:
+        for (int i = 0; i < row.length; i++) {
+          int a = i < bytesPerPixel ? 0 : row[i - bytesPerPixel] & 0xFF;
+          int b = previousRow[i] & 0xFF;
+          int c = i < bytesPerPixel ? 0 : previousRow[i - bytesPerPixel] & 0xFF;
+          filteredRow[i + 1] = (byte) (row[i] - paethPredictor(a, b, c));
+        }
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported PNG filter: " + filter + "!!!");
+    }
+  }
+
+  private static int paethPredictor(int a, int b, int c) {
+
+    int p = a + b - c;
+    int pa = Math.abs(p - a);
+    int pb = Math.abs(p - b);
+    int pc = Math.abs(p - c);
+    if (pa <= pb && pa <= pc) {
+      return a;
+    }
+    return pb <= pc ? b : c;
+  }
+
+  private void writeChunk(String type, byte[] data, int length) throws IOException {
+
+    putInt(header, 0, length);
+    byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+    System.arraycopy(typeBytes, 0, header, 4, 4);
+    out.write(header, 0, 8);
+    out.write(data, 0, length);
+
+    crc.reset();
+    crc.update(typeBytes);
+    crc.update(data, 0, length);
+    putInt(header, 0, (int) crc.getValue());
+    out.write(header, 0, 4);
+  }
+
+  private static void putInt(byte[] bytes, int offset, int value) {
+
+    bytes[offset] = (byte) (value >>> 24);
+    bytes[offset + 1] = (byte) (value >>> 16);
+    bytes[offset + 2] = (byte) (value >>> 8);
+    bytes[offset + 3] = (byte) value;
+  }
+
+  /** Collects the compressed data into IDAT chunks of at most IDAT_SIZE bytes */
+  private class IDATOutputStream extends OutputStream {
+
+    private final byte[] buffer = new byte[IDAT_SIZE];
+    private int count;
+
+    @Override
+    public void write(int b) throws IOException {
+
+      if (count == buffer.length) {
+        flushChunk();
+      }
+      buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+
+      while (len > 0) {
+        if (count == buffer.length) {
+          flushChunk();
+        }
+        int n = Math.min(len, buffer.length - count);
+        System.arraycopy(b, off, buffer, count, n);
+        count += n;
+        off += n;
+        len -= n;
+      }
+    }
+
+    /** Writes the last chunk, the target stream itself is left open */
+    @Override
+    public void close() throws IOException {
+
+      if (count > 0) {
+        flushChunk();
+      }
+    }
+
+    private void flushChunk() throws IOException {
+
+      writeChunk("IDAT", buffer, count);
+      count = 0;
+    }
+  }
+}
@@ -123,9 +123,10 @@ public class PieChart extends Chart<PieStyler, PieSeries> {
     paintBackground(g);
 
     plot.paint(g);
-    chartTitle.paint(g);
-    legend.paint(g);
-    annotations.forEach(x -> x.paint(g));
+    Graphics2D foreground = getForegroundGraphics(g);
+    chartTitle.paint(foreground);
+    legend.paint(foreground);
+    annotations.forEach(x -> x.paint(foreground));
   }
 
   /** set the series color based on theme */
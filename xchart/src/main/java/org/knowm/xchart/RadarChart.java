@@ -150,9 +150,10 @@ public class RadarChart extends Chart<RadarStyler, RadarSeries> {
     paintBackground(g);
 
     plot.paint(g);
-    chartTitle.paint(g);
-    legend.paint(g);
-    annotations.forEach(x -> x.paint(g));
+    Graphics2D foreground = getForegroundGraphics(g);
+    chartTitle.paint(foreground);
+    legend.paint(foreground);
+    annotations.forEach(x -> x.paint(foreground));
   }
 
   /** set the series color based on theme */
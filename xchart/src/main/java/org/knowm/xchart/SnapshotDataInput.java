@@ -0,0 +1,182 @@
+package org.knowm.xchart;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the little-endian primitives of a ChartDataSnapshot, either from a buffer holding all of
+ * it, e.g. a memory-mapped file, or in chunks from a channel. Arrays are read with bulk copies.
+ */
+class SnapshotDataInput {
+
+  private final ByteBuffer buffer;
+
+  // null if the buffer holds all of the data
+  private final ReadableByteChannel channel;
+
+  private long position;
+
+  /**
+   * Constructor - reads the data of the buffer
+   *
+   * @param data
+   */
+  SnapshotDataInput(ByteBuffer data) {
+
+    this.buffer = data.order(ByteOrder.LITTLE_ENDIAN);
+    this.channel = null;
+  }
+
+  /**
+   * Constructor - reads the data of the channel in chunks
+   *
+   * @param channel
+   */
+  SnapshotDataInput(ReadableByteChannel channel) {
+
+    this.buffer =
+        ByteBuffer.allocate(SnapshotDataOutput.BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    this.buffer.flip();
+    this.channel = channel;
+  }
+
+  byte readByte() throws IOException {
+
+    ensureRemaining(Byte.BYTES);
+    position += Byte.BYTES;
+    return buffer.get();
+  }
+
+  int readInt() throws IOException {
+
+    ensureRemaining(Integer.BYTES);
+    position += Integer.BYTES;
+    return buffer.getInt();
+  }
+
+  /**
+   * Reads a count or length, which can't be negative
+   *
+   * @return
+   * @throws IOException
+   */
+  int readSize() throws IOException {
+
+    int size = readInt();
+    if (size < 0) {
+      throw new IllegalArgumentException("Chart data snapshot is corrupt!!!");
+    }
+    return size;
+  }
+
+  long readLong() throws IOException {
+
+    ensureRemaining(Long.BYTES);
+    position += Long.BYTES;
+    return buffer.getLong();
+  }
+
+  double readDouble() throws IOException {
+
+    ensureRemaining(Double.BYTES);
+    position += Double.BYTES;
+    return buffer.getDouble();
+  }
+
+  String readString() throws IOException {
+
+    byte[] bytes = new byte[readSize()];
+    for (int offset = 0; offset < bytes.length; ) {
+      ensureRemaining(Byte.BYTES);
+      int length = Math.min(bytes.length - offset, buffer.remaining());
+      buffer.get(bytes, offset, length);
+      offset += length;
+    }
+    position += bytes.length;
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  double[] readDoubles(int count) throws IOException {
+
+    align();
+    double[] values = new double[count];
+    for (int offset = 0; offset < count; ) {
+      ensureRemaining(Double.BYTES);
+      int length = Math.min(count - offset, buffer.remaining() / Double.BYTES);
+      buffer.asDoubleBuffer().get(values, offset, length);
+      buffer.position(buffer.position() + length * Double.BYTES);
+      offset += length;
+    }
+    position += (long) count * Double.BYTES;
+    return values;
+  }
+
+  long[] readLongs(int count) throws IOException {
+
+    align();
+    long[] values = new long[count];
+    for (int offset = 0; offset < count; ) {
+      ensureRemaining(Long.BYTES);
+      int length = Math.min(count - offset, buffer.remaining() / Long.BYTES);
+      buffer.asLongBuffer().get(values, offset, length);
+      buffer.position(buffer.position() + length * Long.BYTES);
+      offset += length;
+    }
+    position += (long) count * Long.BYTES;
+    return values;
+  }
+
+  /**
+   * Reads doubles as a DoubleBuffer, which is a view of the data if the buffer holds all of it, so
+   * the values of a memory-mapped file aren't copied onto the heap
+   *
+   * @param count
+   * @return
+   * @throws IOException
+   */
+  DoubleBuffer readDoubleBuffer(int count) throws IOException {
+
+    if (channel != null) {
+      return DoubleBuffer.wrap(readDoubles(count));
+    }
+    align();
+    if ((long) count * Double.BYTES > buffer.remaining()) {
+      throw new EOFException("Chart data snapshot ends unexpectedly");
+    }
+    DoubleBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+    values.limit(count);
+    buffer.position(buffer.position() + count * Double.BYTES);
+    position += (long) count * Double.BYTES;
+    return values;
+  }
+
+  /** Skips the padding up to the next multiple of 8 bytes */
+  private void align() throws IOException {
+
+    while (position % Long.BYTES != 0) {
+      readByte();
+    }
+  }
+
+  private void ensureRemaining(int bytes) throws IOException {
+
+    if (buffer.remaining() >= bytes) {
+      return;
+    }
+    if (channel == null) {
+      throw new EOFException("Chart data snapshot ends unexpectedly");
+    }
+    buffer.compact();
+    while (buffer.position() < bytes) {
+      if (channel.read(buffer) == -1) {
+        throw new EOFException("Chart data snapshot ends unexpectedly");
+      }
+    }
+    buffer.flip();
+  }
+}
@@ -0,0 +1,115 @@
+package org.knowm.xchart;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes little-endian primitives of a ChartDataSnapshot into a byte buffer, and flushes the buffer
+ * to the output stream whenever it's full. Arrays are written with bulk copies and start at a
+ * multiple of 8 bytes, so they can be read as views of a memory-mapped file.
+ */
+class SnapshotDataOutput {
+
+  static final int BUFFER_SIZE = 1 << 16;
+
+  private final OutputStream out;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+  private long position;
+
+  SnapshotDataOutput(OutputStream out) {
+
+    this.out = out;
+  }
+
+  void writeByte(int value) throws IOException {
+
+    ensureRemaining(Byte.BYTES);
+    buffer.put((byte) value);
+    position += Byte.BYTES;
+  }
+
+  void writeInt(int value) throws IOException {
+
+    ensureRemaining(Integer.BYTES);
+    buffer.putInt(value);
+    position += Integer.BYTES;
+  }
+
+  void writeLong(long value) throws IOException {
+
+    ensureRemaining(Long.BYTES);
+    buffer.putLong(value);
+    position += Long.BYTES;
+  }
+
+  void writeDouble(double value) throws IOException {
+
+    ensureRemaining(Double.BYTES);
+    buffer.putDouble(value);
+    position += Double.BYTES;
+  }
+
+  void writeString(String value) throws IOException {
+
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeInt(bytes.length);
+    for (int offset = 0; offset < bytes.length; ) {
+      ensureRemaining(Byte.BYTES);
+      int length = Math.min(bytes.length - offset, buffer.remaining());
+      buffer.put(bytes, offset, length);
+      offset += length;
+    }
+    position += bytes.length;
+  }
+
+  void writeDoubles(double[] values, int count) throws IOException {
+
+    align();
+    for (int offset = 0; offset < count; ) {
+      ensureRemaining(Double.BYTES);
+      int length = Math.min(count - offset, buffer.remaining() / Double.BYTES);
+      buffer.asDoubleBuffer().put(values, offset, length);
+      buffer.position(buffer.position() + length * Double.BYTES);
+      offset += length;
+    }
+    position += (long) count * Double.BYTES;
+  }
+
+  void writeLongs(long[] values, int count) throws IOException {
+
+    align();
+    for (int offset = 0; offset < count; ) {
+      ensureRemaining(Long.BYTES);
+      int length = Math.min(count - offset, buffer.remaining() / Long.BYTES);
+      buffer.asLongBuffer().put(values, offset, length);
+      buffer.position(buffer.position() + length * Long.BYTES);
+      offset += length;
+    }
+    position += (long) count * Long.BYTES;
+  }
+
+  /** Pads with zeros up to the next multiple of 8 bytes */
+  void align() throws IOException {
+
+    while (position % Long.BYTES != 0) {
+      writeByte(0);
+    }
+  }
+
+  /** Writes the buffered bytes to the output stream, without flushing the output stream itself */
+  void flush() throws IOException {
+
+    out.write(buffer.array(), 0, buffer.position());
+    buffer.clear();
+  }
+
+  private void ensureRemaining(int bytes) throws IOException {
+
+    if (buffer.remaining() < bytes) {
+      flush();
+    }
+  }
+}
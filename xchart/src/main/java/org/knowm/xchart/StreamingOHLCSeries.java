@@ -0,0 +1,490 @@
+package org.knowm.xchart;
+
+import org.knowm.xchart.internal.series.DoubleRingBuffer;
+
+/**
+ * An OHLCSeries for real-time tick data. Each tick (time, price, volume) is merged into the candle
+ * of its time interval, so the series grows by one candle per interval no matter how many ticks
+ * arrive. At most capacity candles are kept, dropping the oldest ones. The candles are kept in
+ * fixed capacity primitive circular buffers, so dropping one and keeping the series min and max up
+ * to date is amortized O(1).
+ *
+ * <p>When the chart is zoomed out so far that the candles would get narrower than the min candle
+ * width, neighbouring candles are merged into candles of a multiple (1, 2, 5, 10, 20, 50...) of the
+ * interval for painting. The number of painted candles is thereby bounded by the plot width.
+ *
+ * <p>Ticks can be added from any thread, also while the chart is painted. Adding only briefly locks
+ * the series, not the chart, and a paint shows the ticks added before it started.
+ */
+public class StreamingOHLCSeries extends OHLCSeries {
+
+  public static final double DEFAULT_MIN_CANDLE_WIDTH = 8;
+
+  private static final int[] FACTOR_STEPS = {1, 2, 5};
+
+  private final double candleInterval;
+  private final int capacity;
+  private volatile double minCandleWidth = DEFAULT_MIN_CANDLE_WIDTH;
+
+  // the closed candles, ascending by time, guarded by this as are all fields below. The latest
+  // candle still changes with each tick, so it's only added to the buffers once it's closed.
+  private final DoubleRingBuffer times;
+  private final DoubleRingBuffer opens;
+  private final DoubleRingBuffer highs;
+  private final DoubleRingBuffer lows;
+  private final DoubleRingBuffer closes;
+  // the volumes of the closed candles, in the same slots as the buffers
+  private final long[] volumes;
+  private int volumeHead;
+
+  // the latest candle
+  private boolean hasLatestCandle;
+  private double latestTime;
+  private double latestOpen;
+  private double latestHigh;
+  private double latestLow;
+  private double latestClose;
+  private long latestVolume;
+
+  // the candles copied for painting, reused while the number of candles stays the same. The tool
+  // tips of a paint keep their labels as text, so the arrays can be written again after it.
+  private double[] xSnapshot = new double[0];
+  private double[] openSnapshot = new double[0];
+  private double[] highSnapshot = new double[0];
+  private double[] lowSnapshot = new double[0];
+  private double[] closeSnapshot = new double[0];
+  private long[] volumeSnapshot = new long[0];
+  private boolean isSnapshotStale;
+  // whether the closed candles changed since the snapshot, otherwise only the latest one did
+  private boolean areClosedCandlesStale;
+
+  // the merged candles of the painted range, reused like the snapshot
+  private double[] mergedX = new double[0];
+  private double[] mergedOpen = new double[0];
+  private double[] mergedHigh = new double[0];
+  private double[] mergedLow = new double[0];
+  private double[] mergedClose = new double[0];
+  private long[] mergedVolume = new long[0];
+
+  // while the chart paints, the snapshot isn't refreshed, so all of the paint sees the same data
+  private boolean isPainting;
+
+  /**
+   * Constructor
+   *
+   * @param name
+   * @param candleInterval the time interval of a candle, in milliseconds for a Date X-Axis
+   * @param capacity the maximum number of candles kept
+   * @param xAxisDataType
+   */
+  public StreamingOHLCSeries(
+      String name, double candleInterval, int capacity, DataType xAxisDataType) {
+
+    super(
+        name,
+        new double[0],
+        new double[0],
+        new double[0],
+        new double[0],
+        new double[0],
+        new long[0],
+        xAxisDataType);
+
+    if (!(candleInterval > 0)) {
+      throw new IllegalArgumentException("Candle interval must be greater than zero!!!");
+    }
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be greater than zero!!!");
+    }
+    this.candleInterval = candleInterval;
+    this.capacity = capacity;
+    // the latest candle takes up one of the capacity
+    int closedCapacity = Math.max(1, capacity - 1);
+    times = new DoubleRingBuffer(closedCapacity);
+    opens = new DoubleRingBuffer(closedCapacity);
+    highs = new DoubleRingBuffer(closedCapacity);
+    lows = new DoubleRingBuffer(closedCapacity);
+    closes = new DoubleRingBuffer(closedCapacity);
+    volumes = new long[closedCapacity];
+  }
+
+  /**
+   * Adds a tick to the candle of its time interval, starting a new candle if it's the first tick of
+   * the interval. Ticks must be added in time order, although ticks within the latest candle may
+   * come in any order.
+   *
+   * @param time
+   * @param price
+   * @param volume
+   */
+  public synchronized void addTick(double time, double price, long volume) {
+
+    if (Double.isNaN(time) || Double.isNaN(price)) {
+      throw new IllegalArgumentException("Tick time and price cannot be NaN!!!");
+    }
+    double candleTime = Math.floor(time / candleInterval) * candleInterval;
+    if (hasLatestCandle && candleTime == latestTime) {
+      latestHigh = Math.max(latestHigh, price);
+      latestLow = Math.min(latestLow, price);
+      latestClose = price;
+      latestVolume += volume;
+    } else {
+      if (hasLatestCandle && candleTime < latestTime) {
+        throw new IllegalArgumentException("Ticks older than the latest candle cannot be added!!!");
+      }
+      if (hasLatestCandle) {
+        closeLatestCandle();
+      }
+      hasLatestCandle = true;
+      latestTime = candleTime;
+      latestOpen = price;
+      latestHigh = price;
+      latestLow = price;
+      latestClose = price;
+      latestVolume = volume;
+    }
+    isSnapshotStale = true;
+  }
+
+  /** Removes all candles */
+  public synchronized void clear() {
+
+    times.clear();
+    opens.clear();
+    highs.clear();
+    lows.clear();
+    closes.clear();
+    volumeHead = 0;
+    hasLatestCandle = false;
+    isSnapshotStale = true;
+    areClosedCandlesStale = true;
+  }
+
+  public double getCandleInterval() {
+
+    return candleInterval;
+  }
+
+  public int getCapacity() {
+
+    return capacity;
+  }
+
+  /**
+   * Gets the number of candles
+   *
+   * @return
+   */
+  public synchronized int getSize() {
+
+    return times.getSize() + (hasLatestCandle ? 1 : 0);
+  }
+
+  public double getMinCandleWidth() {
+
+    return minCandleWidth;
+  }
+
+  /**
+   * Set the width in pixels candles are kept at least, by merging them when zoomed out
+   *
+   * @param minCandleWidth
+   */
+  public StreamingOHLCSeries setMinCandleWidth(double minCandleWidth) {
+
+    if (!(minCandleWidth > 0)) {
+      throw new IllegalArgumentException("Min candle width must be greater than zero!!!");
+    }
+    this.minCandleWidth = minCandleWidth;
+    return this;
+  }
+
+  @Override
+  public double getXMin() {
+
+    refreshData();
+    return super.getXMin();
+  }
+
+  @Override
+  public double getXMax() {
+
+    refreshData();
+    return super.getXMax();
+  }
+
+  @Override
+  public double getYMin() {
+
+    refreshData();
+    return super.getYMin();
+  }
+
+  @Override
+  public double getYMax() {
+
+    refreshData();
+    return super.getYMax();
+  }
+
+  /** Streaming series are updated with addTick */
+  @Override
+  void replaceData(
+      double[] newXData,
+      double[] newOpenData,
+      double[] newHighData,
+      double[] newLowData,
+      double[] newCloseData,
+      long[] newVolumeData) {
+
+    throw new IllegalArgumentException("Streaming series are updated with addTick!!!");
+  }
+
+  /** Streaming series are updated with addTick */
+  @Override
+  void replaceData(double[] newXData, double[] newYData) {
+
+    throw new IllegalArgumentException("Streaming series are updated with addTick!!!");
+  }
+
+  @Override
+  protected synchronized void calculateMinMax() {
+
+    // the super constructor calls this before the candles exist
+    if (times == null) {
+      super.calculateMinMax();
+      return;
+    }
+    // the min and max of all candles, also while painting merged candles of a part of them
+    xMin = xSnapshot.length == 0 ? Double.MAX_VALUE : xSnapshot[0];
+    xMax = xSnapshot.length == 0 ? -Double.MAX_VALUE : xSnapshot[xSnapshot.length - 1];
+  }
+
+  /**
+   * This is an internal method which shouldn't be called from client code. Sets the candles painted
+   * until endPaint to the candles within the X-Axis range, merged so none gets narrower than the
+   * min candle width.
+   *
+   * @param xFrom the X-Axis min
+   * @param xTo the X-Axis max
+   * @param width the width of the X-Axis range in pixels
+   */
+  public synchronized void setPaintedRange(double xFrom, double xTo, double width) {
+
+    int maxCandles = (int) Math.max(1, width / minCandleWidth);
+    long factor = getMergeFactor((xTo - xFrom) / candleInterval / maxCandles);
+    double mergedInterval = candleInterval * factor;
+
+    // the merged candles are aligned to multiples of the merged interval, so they don't change
+    // while the range moves
+    int from = lowerBound(xSnapshot, Math.floor(xFrom / mergedInterval) * mergedInterval);
+    int to = Math.max(from, upperBound(xSnapshot, xTo));
+    if (factor == 1 && from == 0 && to == xSnapshot.length) {
+      setPaintedCandles(
+          xSnapshot, openSnapshot, highSnapshot, lowSnapshot, closeSnapshot, volumeSnapshot);
+      return;
+    }
+
+    int count = 0;
+    long previousBucket = Long.MIN_VALUE;
+    for (int i = from; i < to; i++) {
+      long bucket = getMergedBucket(xSnapshot[i], factor);
+      if (bucket != previousBucket) {
+        count++;
+        previousBucket = bucket;
+      }
+    }
+
+    if (mergedX.length != count) {
+      mergedX = new double[count];
+      mergedOpen = new double[count];
+      mergedHigh = new double[count];
+      mergedLow = new double[count];
+      mergedClose = new double[count];
+      mergedVolume = new long[count];
+    }
+    double[] x = mergedX;
+    double[] open = mergedOpen;
+    double[] high = mergedHigh;
+    double[] low = mergedLow;
+    double[] close = mergedClose;
+    long[] volume = mergedVolume;
+    int j = -1;
+    previousBucket = Long.MIN_VALUE;
+    for (int i = from; i < to; i++) {
+      long bucket = getMergedBucket(xSnapshot[i], factor);
+      if (bucket != previousBucket) {
+        j++;
+        previousBucket = bucket;
+        x[j] = bucket * mergedInterval;
+        open[j] = openSnapshot[i];
+        high[j] = highSnapshot[i];
+        low[j] = lowSnapshot[i];
+        volume[j] = 0;
+      } else {
+        high[j] = Math.max(high[j], highSnapshot[i]);
+        low[j] = Math.min(low[j], lowSnapshot[i]);
+      }
+      close[j] = closeSnapshot[i];
+      volume[j] += volumeSnapshot[i];
+    }
+    setPaintedCandles(x, open, high, low, close, volume);
+  }
+
+  /** Takes the ticks added so far for painting, and keeps them until endPaint */
+  synchronized void beginPaint() {
+
+    isPainting = false;
+    refreshData();
+    isPainting = true;
+  }
+
+  synchronized void endPaint() {
+
+    isPainting = false;
+    // the merged candles only lasted for the paint
+    setPaintedCandles(
+        xSnapshot, openSnapshot, highSnapshot, lowSnapshot, closeSnapshot, volumeSnapshot);
+  }
+
+  /**
+   * Copies the candles into the arrays handed out for painting. Ticks within the latest candle only
+   * change its slot, so the closed candles are only copied again once a candle closed. The arrays
+   * are only allocated when a candle is added before the series is at capacity.
+   */
+  @Override
+  protected synchronized void refreshData() {
+
+    if (!isSnapshotStale || isPainting) {
+      return;
+    }
+    isSnapshotStale = false;
+
+    int closedSize = times.getSize();
+    int size = getSize();
+    if (xSnapshot.length != size) {
+      xSnapshot = new double[size];
+      openSnapshot = new double[size];
+      highSnapshot = new double[size];
+      lowSnapshot = new double[size];
+      closeSnapshot = new double[size];
+      volumeSnapshot = new long[size];
+      areClosedCandlesStale = true;
+    }
+    if (areClosedCandlesStale) {
+      areClosedCandlesStale = false;
+      times.copyTo(xSnapshot);
+      opens.copyTo(openSnapshot);
+      highs.copyTo(highSnapshot);
+      lows.copyTo(lowSnapshot);
+      closes.copyTo(closeSnapshot);
+      for (int i = 0; i < closedSize; i++) {
+        volumeSnapshot[i] = volumes[(volumeHead + i) % volumes.length];
+      }
+    }
+    yMin = lows.getMin();
+    yMax = highs.getMax();
+    if (hasLatestCandle) {
+      xSnapshot[closedSize] = latestTime;
+      openSnapshot[closedSize] = latestOpen;
+      highSnapshot[closedSize] = latestHigh;
+      lowSnapshot[closedSize] = latestLow;
+      closeSnapshot[closedSize] = latestClose;
+      volumeSnapshot[closedSize] = latestVolume;
+      yMin = Math.min(yMin, latestLow);
+      yMax = Math.max(yMax, latestHigh);
+    }
+    setPaintedCandles(
+        xSnapshot, openSnapshot, highSnapshot, lowSnapshot, closeSnapshot, volumeSnapshot);
+  }
+
+  private void setPaintedCandles(
+      double[] x, double[] open, double[] high, double[] low, double[] close, long[] volume) {
+
+    super.replaceData(x, open, high, low, close, volume);
+  }
+
+  private long getMergedBucket(double time, long factor) {
+
+    // by the index of the candle, as dividing the time itself can round to the wrong bucket
+    return Math.floorDiv(Math.round(time / candleInterval), factor);
+  }
+
+  /**
+   * Gets the smallest of 1, 2, 5, 10, 20, 50... not smaller than the given factor
+   *
+   * @param minFactor
+   * @return
+   */
+  private static long getMergeFactor(double minFactor) {
+
+    if (!(minFactor > 1)) {
+      return 1;
+    }
+    for (long magnitude = 1; magnitude < Long.MAX_VALUE / 10; magnitude *= 10) {
+      for (int step : FACTOR_STEPS) {
+        if (magnitude * step >= minFactor) {
+          return magnitude * step;
+        }
+      }
+    }
+    return Long.MAX_VALUE / 10;
+  }
+
+  /**
+   * Adds the latest candle to the closed candles, dropping the oldest closed candle at capacity.
+   * With a capacity of one candle, there are no closed candles.
+   */
+  private void closeLatestCandle() {
+
+    if (capacity == 1) {
+      return;
+    }
+    int closedSize = times.getSize();
+    if (closedSize == volumes.length) {
+      // the buffers overwrite their oldest value, which is in the slot at the head
+      volumes[volumeHead] = latestVolume;
+      volumeHead = (volumeHead + 1) % volumes.length;
+    } else {
+      volumes[(volumeHead + closedSize) % volumes.length] = latestVolume;
+    }
+    times.add(latestTime);
+    opens.add(latestOpen);
+    highs.add(latestHigh);
+    lows.add(latestLow);
+    closes.add(latestClose);
+    areClosedCandlesStale = true;
+  }
+
+  /** Gets the index of the first value not smaller than the given value */
+  private static int lowerBound(double[] values, double value) {
+
+    int low = 0;
+    int high = values.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (values[mid] < value) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /** Gets the index of the first value greater than the given value */
+  private static int upperBound(double[] values, double value) {
+
+    int low = 0;
+    int high = values.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (values[mid] <= value) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
@@ -0,0 +1,214 @@
+package org.knowm.xchart;
+
+import org.knowm.xchart.internal.series.DoubleRingBuffer;
+
+/**
+ * An XYSeries for real-time data feeds, backed by fixed capacity primitive circular buffers. Once
+ * the capacity is reached, each appended point replaces the oldest one. Appending doesn't box or
+ * allocate and keeps the series min and max up to date in amortized O(1), so there is no need to
+ * call XYChart.updateXYSeries with the whole window of data for each new point.
+ *
+ * <p>Points can be appended from any thread, also while the chart is painted. Appending only
+ * briefly locks the series, not the chart, and a paint shows the points appended before it started.
+ */
+public class StreamingXYSeries extends XYSeries {
+
+  // guarded by this, as are isSnapshotStale and the min and max
+  private final DoubleRingBuffer xBuffer;
+  private final DoubleRingBuffer yBuffer;
+
+  private boolean isSnapshotStale;
+
+  // the arrays handed out by the last refresh, the other pair, and the X array the last paint read
+  private double[] xSnapshot;
+  private double[] ySnapshot;
+  private double[] xSpareSnapshot;
+  private double[] ySpareSnapshot;
+  private double[] paintedXSnapshot;
+
+  // while the chart paints, the snapshot isn't refreshed, so all of the paint sees the same data
+  private boolean isPainting;
+
+  /**
+   * Constructor
+   *
+   * @param name
+   * @param capacity the maximum number of points kept
+   * @param axisType
+   */
+  public StreamingXYSeries(String name, int capacity, DataType axisType) {
+
+    super(name, new double[0], new double[0], null, axisType);
+
+    xBuffer = new DoubleRingBuffer(capacity);
+    yBuffer = new DoubleRingBuffer(capacity);
+  }
+
+  /**
+   * Appends a point, dropping the oldest one if the series is at capacity
+   *
+   * @param x
+   * @param y
+   */
+  public synchronized void append(double x, double y) {
+
+    xBuffer.add(x);
+    yBuffer.add(y);
+    dataChanged();
+  }
+
+  /**
+   * Appends several points, dropping the oldest ones if the series is at capacity
+   *
+   * @param xData
+   * @param yData
+   */
+  public synchronized void appendAll(double[] xData, double[] yData) {
+
+    if (xData.length != yData.length) {
+      throw new IllegalArgumentException("X and Y-Axis sizes are not the same!!!");
+    }
+    // only the newest points fit
+    int start = Math.max(0, xData.length - xBuffer.getCapacity());
+    for (int i = start; i < xData.length; i++) {
+      xBuffer.add(xData[i]);
+      yBuffer.add(yData[i]);
+    }
+    dataChanged();
+  }
+
+  /** Removes all points */
+  public synchronized void clear() {
+
+    xBuffer.clear();
+    yBuffer.clear();
+    dataChanged();
+  }
+
+  /**
+   * Streaming series are updated with append and appendAll. Replacing the data clears the series
+   * and appends the given data, keeping at most the newest capacity points.
+   */
+  @Override
+  public synchronized void replaceData(
+      double[] newXData, double[] newYData, double[] newExtraValues) {
+
+    if (newExtraValues != null) {
+      throw new IllegalArgumentException("Streaming series don't support error bars!!!");
+    }
+    xBuffer.clear();
+    yBuffer.clear();
+    appendAll(newXData, newYData);
+  }
+
+  public int getCapacity() {
+
+    return xBuffer.getCapacity();
+  }
+
+  public synchronized int getSize() {
+
+    return xBuffer.getSize();
+  }
+
+  @Override
+  public double getXMin() {
+
+    refreshData();
+    return super.getXMin();
+  }
+
+  @Override
+  public double getXMax() {
+
+    refreshData();
+    return super.getXMax();
+  }
+
+  @Override
+  public double getYMin() {
+
+    refreshData();
+    return super.getYMin();
+  }
+
+  @Override
+  public double getYMax() {
+
+    refreshData();
+    return super.getYMax();
+  }
+
+  @Override
+  protected synchronized void calculateMinMax() {
+
+    // the super constructor calls this before the buffers exist, and a zoomed in series needs the
+    // min and max of the filtered data only
+    if (xBuffer == null || !isAllXData()) {
+      super.calculateMinMax();
+      return;
+    }
+    setMinMaxFromBuffers();
+  }
+
+  /** Takes the points appended so far for painting, and keeps them until endPaint */
+  synchronized void beginPaint() {
+
+    isPainting = false;
+    refreshData();
+    isPainting = true;
+    paintedXSnapshot = xSnapshot;
+  }
+
+  synchronized void endPaint() {
+
+    isPainting = false;
+  }
+
+  private void dataChanged() {
+
+    // the min and max are only updated with the snapshot, so they always match the painted data
+    isSnapshotStale = true;
+  }
+
+  private void setMinMaxFromBuffers() {
+
+    xMin = xBuffer.getMin();
+    xMax = xBuffer.getMax();
+    yMin = yBuffer.getMin();
+    yMax = yBuffer.getMax();
+  }
+
+  /**
+   * Copies the buffers into one of two pairs of arrays handed out for painting. The pair the last
+   * paint read isn't written again until the next paint, as its tool tips read their labels from
+   * it, so refreshing switches to the other pair. Once the series is at capacity, the arrays are
+   * reused and refreshing doesn't allocate. New data resets any zoom.
+   */
+  @Override
+  protected synchronized void refreshData() {
+
+    if (!isSnapshotStale || isPainting) {
+      return;
+    }
+    isSnapshotStale = false;
+
+    if (xSnapshot == null || xSnapshot == paintedXSnapshot) {
+      double[] x = xSnapshot;
+      double[] y = ySnapshot;
+      xSnapshot = xSpareSnapshot;
+      ySnapshot = ySpareSnapshot;
+      xSpareSnapshot = x;
+      ySpareSnapshot = y;
+    }
+    int size = xBuffer.getSize();
+    if (xSnapshot == null || xSnapshot.length != size) {
+      xSnapshot = new double[size];
+      ySnapshot = new double[size];
+    }
+    xBuffer.copyTo(xSnapshot);
+    yBuffer.copyTo(ySnapshot);
+    setData(xSnapshot, ySnapshot, null);
+    setMinMaxFromBuffers();
+  }
+}
@@ -1,10 +1,12 @@
 package org.knowm.xchart;
 
+import java.awt.AlphaComposite;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Toolkit;
+import java.awt.Transparency;
 import java.awt.event.ActionEvent;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
@@ -12,6 +14,8 @@ import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.awt.print.PageFormat;
 import java.awt.print.Paper;
 import java.awt.print.Printable;
@@ -42,6 +46,14 @@ import org.knowm.xchart.style.XYStyler;
  *
  * <p>Right-click + Save As... or ctrl+S pops up a Save As dialog box for saving the chart as PNG,
  * JPEG, etc. file.
+ *
+ * <p>With layered rendering, the chart is painted into an image which is re-used while only the
+ * tool tips, cursor or zoom selection change, so moving the mouse doesn't paint the whole chart
+ * again. The image is painted again on any other repaint, so call repaint() after changing the
+ * chart's data or styler, as without layered rendering.
+ *
+ * <p>For real-time charts updated from other threads, submit the updates to the panel's update
+ * scheduler, which applies them on the Event Dispatch Thread and repaints at a limited frame rate.
  */
 public class XChartPanel<T extends Chart<?, ?>> extends JPanel {
 
@@ -52,6 +64,15 @@ public class XChartPanel<T extends Chart<?, ?>> extends JPanel {
   private String printString = "Print...";
   private String resetString = "Reset Zoom";
   private ToolTips toolTips = null;
+  private final ChartUpdateScheduler updateScheduler = new ChartUpdateScheduler(this);
+
+  private boolean isLayeredRendering = false;
+  // the chart without its overlay, scaled to device pixels, and its title, legend and annotations
+  // painted on top of the overlay, see paintLayered
+  private BufferedImage chartImage;
+  private BufferedImage foregroundImage;
+  // false after any repaint except an overlay repaint, which can happen from any thread
+  private volatile boolean isChartImageValid = false;
 
   /**
    * Constructor
@@ -157,21 +178,125 @@ public class XChartPanel<T extends Chart<?, ?>> extends JPanel {
     this.resetString = resetString;
   }
 
+  public boolean isLayeredRendering() {
+
+    return isLayeredRendering;
+  }
+
+  /**
+   * Set whether the chart is cached in images and only the tool tips, cursor and zoom selection are
+   * painted on mouse movement, between the plot and the title, legend and annotations. This is
+   * useful for charts with lots of data.
+   *
+   * @param isLayeredRendering
+   */
+  public void setLayeredRendering(boolean isLayeredRendering) {
+
+    this.isLayeredRendering = isLayeredRendering;
+    chartImage = null;
+    foregroundImage = null;
+    repaint();
+  }
+
+  /**
+   * Repaints only the tool tips, cursor and zoom selection, on top of the chart painted before if
+   * layered rendering is on. Without layered rendering, this is the same as repaint().
+   */
+  public void repaintOverlay() {
+
+    // bypasses invalidating the chart image in repaint(long, int, int, int, int)
+    super.repaint(0, 0, 0, getWidth(), getHeight());
+  }
+
+  @Override
+  public void repaint(long tm, int x, int y, int width, int height) {
+
+    isChartImageValid = false;
+    super.repaint(tm, x, y, width, height);
+  }
+
   @Override
   protected void paintComponent(Graphics g) {
 
     super.paintComponent(g);
 
     Graphics2D g2d = (Graphics2D) g.create();
-    chart.paint(g2d, getWidth(), getHeight());
+    if (isLayeredRendering && !isPaintingForPrint()) {
+      paintLayered(g2d);
+    } else {
+      chart.paint(g2d, getWidth(), getHeight());
+    }
     g2d.dispose();
   }
 
+  private void paintLayered(Graphics2D g) {
+
+    int width = getWidth();
+    int height = getHeight();
+    // painted in device pixels, so the image isn't blurry on scaled (HiDPI) screens
+    AffineTransform transform = g.getTransform();
+    int imageWidth = (int) Math.ceil(width * Math.abs(transform.getScaleX()));
+    int imageHeight = (int) Math.ceil(height * Math.abs(transform.getScaleY()));
+    if (imageWidth <= 0 || imageHeight <= 0) {
+      return;
+    }
+
+    if (chartImage == null
+        || chartImage.getWidth() != imageWidth
+        || chartImage.getHeight() != imageHeight) {
+      chartImage =
+          g.getDeviceConfiguration()
+              .createCompatibleImage(imageWidth, imageHeight, Transparency.TRANSLUCENT);
+      foregroundImage =
+          g.getDeviceConfiguration()
+              .createCompatibleImage(imageWidth, imageHeight, Transparency.TRANSLUCENT);
+      isChartImageValid = false;
+    }
+    if (!isChartImageValid) {
+      // set before painting, so a repaint while painting invalidates it again
+      isChartImageValid = true;
+      Graphics2D imageGraphics = createClearedGraphics(chartImage, width, height);
+      Graphics2D foregroundGraphics = createClearedGraphics(foregroundImage, width, height);
+      try {
+        chart.paintLayered(imageGraphics, foregroundGraphics, width, height);
+      } finally {
+        imageGraphics.dispose();
+        foregroundGraphics.dispose();
+      }
+    }
+
+    g.drawImage(chartImage, 0, 0, width, height, null);
+    chart.paintOverlay(g);
+    g.drawImage(foregroundImage, 0, 0, width, height, null);
+  }
+
+  /** Clears the image and scales its graphics from component to device pixels */
+  private static Graphics2D createClearedGraphics(BufferedImage image, int width, int height) {
+
+    Graphics2D imageGraphics = image.createGraphics();
+    imageGraphics.setComposite(AlphaComposite.Clear);
+    imageGraphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+    imageGraphics.setComposite(AlphaComposite.SrcOver);
+    imageGraphics.scale((double) image.getWidth() / width, (double) image.getHeight() / height);
+    return imageGraphics;
+  }
+
   public T getChart() {
 
     return this.chart;
   }
 
+  /**
+   * Gets the scheduler to submit chart updates to from any thread, instead of updating the chart
+   * and calling repaint() for every update
+   *
+   * @return
+   */
+  public ChartUpdateScheduler getUpdateScheduler() {
+
+    return updateScheduler;
+  }
+
   @Override
   public Dimension getPreferredSize() {
 
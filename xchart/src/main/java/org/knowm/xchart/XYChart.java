@@ -110,7 +110,8 @@ public class XYChart extends Chart<XYStyler, XYSeries> {
   }
 
   /**
-   * Add a series for a X-Y type chart using using float arrays
+   * Add a series for a X-Y type chart using using float arrays. The data is copied into double
+   * arrays, add an ArrayXYDataSource instead to keep it as is.
    *
    * @param seriesName
    * @param xData the X-Axis data
@@ -154,7 +155,8 @@ public class XYChart extends Chart<XYStyler, XYSeries> {
   }
 
   /**
-   * Add a series for a X-Y type chart using using int arrays
+   * Add a series for a X-Y type chart using using int arrays. The data is copied into double
+   * arrays, add an ArrayXYDataSource instead to keep it as is.
    *
    * @param seriesName
    * @param xData the X-Axis data
@@ -280,30 +282,131 @@ public class XYChart extends Chart<XYStyler, XYSeries> {
    * @param errorBars the error bar data
    * @return A Series object that you can set properties on
    */
-  private XYSeries addSeries(
+  XYSeries addSeries(
       String seriesName, double[] xData, double[] yData, double[] errorBars, DataType dataType) {
 
-    // Sanity checks
-    sanityCheck(seriesName, xData, yData, errorBars);
+    lock.lock();
+    try {
+      // Sanity checks
+      sanityCheck(seriesName, xData, yData, errorBars);
+
+      XYSeries series;
+      if (xData != null) {
+
+        // Sanity check
+        if (xData.length != yData.length) {
+          throw new IllegalArgumentException("X and Y-Axis sizes are not the same!!!");
+        }
+
+        series = new XYSeries(seriesName, xData, yData, errorBars, dataType);
+      } else { // generate xData
+        series =
+            new XYSeries(
+                seriesName,
+                Utils.getGeneratedDataAsArray(yData.length),
+                yData,
+                errorBars,
+                dataType);
+      }
+
+      seriesMap.put(seriesName, series);
+
+      return series;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Add a series reading its data through a data source, e.g. a MappedXYDataSource of files larger
+   * than the heap. Only the points within the X-Axis range are read on each paint, reduced to a few
+   * points per pixel column, or per pixel of a scatter series. This needs X values in ascending
+   * order, otherwise all points are read and only scatter series are reduced.
+   *
+   * @param seriesName
+   * @param dataSource the data
+   * @return A Series object that you can set properties on
+   */
+  public DataSourceXYSeries addSeries(String seriesName, XYDataSource dataSource) {
 
-    XYSeries series;
-    if (xData != null) {
+    return addSeries(seriesName, dataSource, DataType.Number);
+  }
 
-      // Sanity check
-      if (xData.length != yData.length) {
-        throw new IllegalArgumentException("X and Y-Axis sizes are not the same!!!");
+  /**
+   * Add a series reading its data through a data source, e.g. a MappedXYDataSource of files larger
+   * than the heap. Only the points within the X-Axis range are read on each paint, reduced to a few
+   * points per pixel column, or per pixel of a scatter series. This needs X values in ascending
+   * order, otherwise all points are read and only scatter series are reduced.
+   *
+   * @param seriesName
+   * @param dataSource the data
+   * @param xAxisDataType Number, or Date for X values given as epoch milliseconds
+   * @return A Series object that you can set properties on
+   */
+  public DataSourceXYSeries addSeries(
+      String seriesName, XYDataSource dataSource, DataType xAxisDataType) {
+
+    lock.lock();
+    try {
+      if (seriesMap.containsKey(seriesName)) {
+        throw new IllegalArgumentException(
+            "Series name >"
+                + seriesName
+                + "< has already been used. Use unique names for each series!!!");
       }
 
-      series = new XYSeries(seriesName, xData, yData, errorBars, dataType);
-    } else { // generate xData
-      series =
-          new XYSeries(
-              seriesName, Utils.getGeneratedDataAsArray(yData.length), yData, errorBars, dataType);
+      DataSourceXYSeries series = new DataSourceXYSeries(seriesName, dataSource, xAxisDataType);
+      seriesMap.put(seriesName, series);
+
+      return series;
+    } finally {
+      lock.unlock();
     }
+  }
 
-    seriesMap.put(seriesName, series);
+  /**
+   * Add an empty streaming series for real-time data. Points are added with
+   * StreamingXYSeries.append or appendAll and the oldest points are dropped once the capacity is
+   * reached.
+   *
+   * @param seriesName
+   * @param capacity the maximum number of points kept
+   * @return A Series object that you can set properties on and append data to
+   */
+  public StreamingXYSeries addStreamingSeries(String seriesName, int capacity) {
 
-    return series;
+    return addStreamingSeries(seriesName, capacity, DataType.Number);
+  }
+
+  /**
+   * Add an empty streaming series for real-time data. Points are added with
+   * StreamingXYSeries.append or appendAll and the oldest points are dropped once the capacity is
+   * reached.
+   *
+   * @param seriesName
+   * @param capacity the maximum number of points kept
+   * @param xAxisDataType Number, or Date for X-Axis data given as epoch milliseconds
+   * @return A Series object that you can set properties on and append data to
+   */
+  public StreamingXYSeries addStreamingSeries(
+      String seriesName, int capacity, DataType xAxisDataType) {
+
+    lock.lock();
+    try {
+      if (seriesMap.containsKey(seriesName)) {
+        throw new IllegalArgumentException(
+            "Series name >"
+                + seriesName
+                + "< has already been used. Use unique names for each series!!!");
+      }
+
+      StreamingXYSeries series = new StreamingXYSeries(seriesName, capacity, xAxisDataType);
+      seriesMap.put(seriesName, series);
+
+      return series;
+    } finally {
+      lock.unlock();
+    }
   }
 
   /**
@@ -353,19 +456,53 @@ public class XYChart extends Chart<XYStyler, XYSeries> {
   public XYSeries updateXYSeries(
       String seriesName, double[] newXData, double[] newYData, double[] newErrorBarData) {
 
-    Map<String, XYSeries> seriesMap = getSeriesMap();
-    XYSeries series = seriesMap.get(seriesName);
-    if (series == null) {
-      throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
-    }
-    if (newXData == null) {
-      double[] generatedXData = Utils.getGeneratedDataAsArray(newYData.length);
-      series.replaceData(generatedXData, newYData, newErrorBarData);
-    } else {
-      series.replaceData(newXData, newYData, newErrorBarData);
+    lock.lock();
+    try {
+      Map<String, XYSeries> seriesMap = getSeriesMap();
+      XYSeries series = seriesMap.get(seriesName);
+      if (series == null) {
+        throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
+      }
+      if (newXData == null) {
+        double[] generatedXData = Utils.getGeneratedDataAsArray(newYData.length);
+        series.replaceData(generatedXData, newYData, newErrorBarData);
+      } else {
+        series.replaceData(newXData, newYData, newErrorBarData);
+      }
+
+      return series;
+    } finally {
+      lock.unlock();
     }
+  }
 
-    return series;
+  /**
+   * Update a series reading its data through a data source, reading the given data source, which
+   * may also be the same one after its data changed
+   *
+   * @param seriesName
+   * @param dataSource the data
+   * @return
+   */
+  public DataSourceXYSeries updateXYSeries(String seriesName, XYDataSource dataSource) {
+
+    lock.lock();
+    try {
+      XYSeries series = getSeriesMap().get(seriesName);
+      if (series == null) {
+        throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
+      }
+      if (!(series instanceof DataSourceXYSeries)) {
+        throw new IllegalArgumentException(
+            "Series >" + seriesName + "< doesn't read its data through a data source!!!");
+      }
+      DataSourceXYSeries dataSourceSeries = (DataSourceXYSeries) series;
+      dataSourceSeries.setDataSource(dataSource);
+
+      return dataSourceSeries;
+    } finally {
+      lock.unlock();
+    }
   }
 
   ///////////////////////////////////////////////////
@@ -398,26 +535,41 @@ public class XYChart extends Chart<XYStyler, XYSeries> {
   @Override
   public void paint(Graphics2D g, int width, int height) {
 
-    setWidth(width);
-    setHeight(height);
-
-    // set the series render styles if they are not set. Legend and Plot need it.
-    for (XYSeries xySeries : getSeriesMap().values()) {
-      XYSeries.XYSeriesRenderStyle chartXYSeriesRenderStyle =
-          xySeries.getXYSeriesRenderStyle(); // would be directly set
-      if (chartXYSeriesRenderStyle == null) { // wasn't overridden, use default from Style Manager
-        xySeries.setXYSeriesRenderStyle(getStyler().getDefaultSeriesRenderStyle());
+    lock.lock();
+    try {
+      setWidth(width);
+      setHeight(height);
+
+      // set the series render styles if they are not set. Legend and Plot need it.
+      for (XYSeries xySeries : getSeriesMap().values()) {
+        if (xySeries instanceof StreamingXYSeries) {
+          // points appended while painting are left for the next paint
+          ((StreamingXYSeries) xySeries).beginPaint();
+        }
+        XYSeries.XYSeriesRenderStyle chartXYSeriesRenderStyle =
+            xySeries.getXYSeriesRenderStyle(); // would be directly set
+        if (chartXYSeriesRenderStyle == null) { // wasn't overridden, use default from Style Manager
+          xySeries.setXYSeriesRenderStyle(getStyler().getDefaultSeriesRenderStyle());
+        }
       }
+      setSeriesStyles();
+
+      paintBackground(g);
+
+      axisPair.paint(g);
+      plot.paint(g);
+      Graphics2D foreground = getForegroundGraphics(g);
+      chartTitle.paint(foreground);
+      legend.paint(foreground);
+      annotations.forEach(x -> x.paint(foreground));
+    } finally {
+      for (XYSeries xySeries : getSeriesMap().values()) {
+        if (xySeries instanceof StreamingXYSeries) {
+          ((StreamingXYSeries) xySeries).endPaint();
+        }
+      }
+      lock.unlock();
     }
-    setSeriesStyles();
-
-    paintBackground(g);
-
-    axisPair.paint(g);
-    plot.paint(g);
-    chartTitle.paint(g);
-    legend.paint(g);
-    annotations.forEach(x -> x.paint(g));
   }
 
   /** set the series color, marker and line style based on theme */
@@ -0,0 +1,32 @@
+package org.knowm.xchart;
+
+/**
+ * X and Y data read one point at a time, so a series doesn't need all of it in double arrays on the
+ * heap. See DataSourceXYSeries.
+ */
+public interface XYDataSource {
+
+  /**
+   * Gets the number of points
+   *
+   * @return
+   */
+  int size();
+
+  /**
+   * Gets the X value of a point. Series of X values in ascending order are read much faster when
+   * zooming in, and lines of them are reduced to a few points per pixel column.
+   *
+   * @param index
+   * @return
+   */
+  double getX(int index);
+
+  /**
+   * Gets the Y value of a point, NaN for a gap
+   *
+   * @param index
+   * @return
+   */
+  double getY(int index);
+}
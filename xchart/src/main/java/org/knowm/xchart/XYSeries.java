@@ -3,6 +3,7 @@ package org.knowm.xchart;
 import org.knowm.xchart.internal.chartpart.RenderableSeries;
 import org.knowm.xchart.internal.chartpart.RenderableSeries.LegendRenderType;
 import org.knowm.xchart.internal.series.AxesChartSeriesNumericalNoErrorBars;
+import org.knowm.xchart.style.XYStyler.DecimationMode;
 
 /** A Series containing X and Y data to be plotted on a Chart */
 public class XYSeries extends AxesChartSeriesNumericalNoErrorBars {
@@ -10,6 +11,7 @@ public class XYSeries extends AxesChartSeriesNumericalNoErrorBars {
   private XYSeriesRenderStyle xySeriesRenderStyle = null;
   // smooth curve
   private boolean smooth;
+  private DecimationMode decimationMode = null;
 
   /**
    * Constructor
@@ -51,6 +53,23 @@ public class XYSeries extends AxesChartSeriesNumericalNoErrorBars {
     this.smooth = smooth;
   }
 
+  public DecimationMode getDecimationMode() {
+
+    return decimationMode;
+  }
+
+  /**
+   * Overrides the decimation mode set on the XYStyler for this series. Set null to use the styler's
+   * default.
+   *
+   * @param decimationMode
+   */
+  public XYSeries setDecimationMode(DecimationMode decimationMode) {
+
+    this.decimationMode = decimationMode;
+    return this;
+  }
+
   public enum XYSeriesRenderStyle implements RenderableSeries {
     Line(LegendRenderType.Line),
 
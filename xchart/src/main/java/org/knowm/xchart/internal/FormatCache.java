@@ -0,0 +1,124 @@
+package org.knowm.xchart.internal;
+
+import java.text.DecimalFormat;
+import java.text.Format;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+
+/**
+ * A cache of the DecimalFormats and SimpleDateFormats the tick labels are formatted with, keyed by
+ * pattern, locale and time zone. Creating them, which clones the locale's symbols and parses the
+ * pattern, used to happen on every tick calculation and, for number labels, for every label.
+ * Neither format is thread safe, so each thread has its own bounded, least recently used set of
+ * them, which is reused across paints and charts. A format returned must only be used on the thread
+ * that got it, and must not be modified or kept, get it again instead.
+ */
+public final class FormatCache {
+
+  private static final int MAX_ENTRIES = 64;
+
+  private static final ThreadLocal<Map<Key, Format>> formats =
+      ThreadLocal.withInitial(
+          () ->
+              new LinkedHashMap<Key, Format>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Format> eldest) {
+
+                  return size() > MAX_ENTRIES;
+                }
+              });
+
+  /** Private Constructor */
+  private FormatCache() {}
+
+  /**
+   * Gets a DecimalFormat, the same as NumberFormat.getNumberInstance(locale) with the pattern
+   * applied
+   *
+   * @param pattern
+   * @param locale
+   * @return
+   */
+  public static DecimalFormat getDecimalFormat(String pattern, Locale locale) {
+
+    Map<Key, Format> map = formats.get();
+    Key key = new Key(pattern, locale, null);
+    DecimalFormat decimalFormat = (DecimalFormat) map.get(key);
+    if (decimalFormat == null) {
+      decimalFormat = (DecimalFormat) NumberFormat.getNumberInstance(locale);
+      decimalFormat.applyPattern(pattern);
+      map.put(key, decimalFormat);
+    }
+    return decimalFormat;
+  }
+
+  /**
+   * Gets a SimpleDateFormat, the same as new SimpleDateFormat(pattern, locale) in the time zone
+   *
+   * @param pattern
+   * @param locale
+   * @param timeZone
+   * @return
+   */
+  public static SimpleDateFormat getDateFormat(String pattern, Locale locale, TimeZone timeZone) {
+
+    Map<Key, Format> map = formats.get();
+    Key key = new Key(pattern, locale, timeZone);
+    SimpleDateFormat dateFormat = (SimpleDateFormat) map.get(key);
+    if (dateFormat == null) {
+      dateFormat = new SimpleDateFormat(pattern, locale);
+      dateFormat.setTimeZone(timeZone);
+      map.put(key, dateFormat);
+    }
+    return dateFormat;
+  }
+
+  /** Removes all formats cached for the calling thread */
+  public static void clear() {
+
+    formats.remove();
+  }
+
+  private static class Key {
+
+    private final String pattern;
+    private final Locale locale;
+    // null for decimal formats
+    private final TimeZone timeZone;
+    private final int hashCode;
+
+    Key(String pattern, Locale locale, TimeZone timeZone) {
+
+      this.pattern = pattern;
+      this.locale = locale;
+      this.timeZone = timeZone;
+      this.hashCode =
+          (pattern.hashCode() * 31 + locale.hashCode()) * 31 + Objects.hashCode(timeZone);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return hashCode == key.hashCode
+          && pattern.equals(key.pattern)
+          && locale.equals(key.locale)
+          && Objects.equals(timeZone, key.timeZone);
+    }
+
+    @Override
+    public int hashCode() {
+
+      return hashCode;
+    }
+  }
+}
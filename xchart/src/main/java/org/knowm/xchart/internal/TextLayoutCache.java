@@ -0,0 +1,131 @@
+package org.knowm.xchart.internal;
+
+import java.awt.Font;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, least recently used cache of TextLayouts and their outlines, keyed by text, font and
+ * font render context. Charts lay out the same titles, tick labels and legend entries on every
+ * paint, and shaping text and building its glyph outlines is one of the most expensive parts of a
+ * paint. TextLayout isn't thread safe, it fills caches of its own lazily, so each thread has its
+ * own cache, which is reused across paints and charts. A TextLayout or outline returned must only
+ * be used on the thread that got it.
+ */
+public final class TextLayoutCache {
+
+  private static final int MAX_ENTRIES = 2048;
+
+  private static final ThreadLocal<Map<Key, CachedText>> entries =
+      ThreadLocal.withInitial(
+          () ->
+              new LinkedHashMap<Key, CachedText>(256, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, CachedText> eldest) {
+
+                  return size() > MAX_ENTRIES;
+                }
+              });
+
+  /** Private Constructor */
+  private TextLayoutCache() {}
+
+  /**
+   * Gets the TextLayout of a text, the same as new TextLayout(text, font, frc)
+   *
+   * @param text
+   * @param font
+   * @param frc
+   * @return
+   */
+  public static TextLayout getTextLayout(String text, Font font, FontRenderContext frc) {
+
+    return getCachedText(text, font, frc).textLayout;
+  }
+
+  /**
+   * Gets the outline of a text, the same as getTextLayout(text, font, frc).getOutline(null). The
+   * returned shape is shared and must not be modified.
+   *
+   * @param text
+   * @param font
+   * @param frc
+   * @return
+   */
+  public static Shape getOutline(String text, Font font, FontRenderContext frc) {
+
+    CachedText cachedText = getCachedText(text, font, frc);
+    if (cachedText.outline == null) {
+      cachedText.outline = cachedText.textLayout.getOutline(null);
+    }
+    return cachedText.outline;
+  }
+
+  /** Removes all text cached for the calling thread */
+  public static void clear() {
+
+    entries.remove();
+  }
+
+  private static CachedText getCachedText(String text, Font font, FontRenderContext frc) {
+
+    Map<Key, CachedText> map = entries.get();
+    Key key = new Key(text, font, frc);
+    CachedText cachedText = map.get(key);
+    if (cachedText == null) {
+      cachedText = new CachedText(new TextLayout(text, font, frc));
+      map.put(key, cachedText);
+    }
+    return cachedText;
+  }
+
+  private static class Key {
+
+    private final String text;
+    private final Font font;
+    private final FontRenderContext frc;
+    private final int hashCode;
+
+    Key(String text, Font font, FontRenderContext frc) {
+
+      this.text = text;
+      this.font = font;
+      this.frc = frc;
+      this.hashCode = (text.hashCode() * 31 + font.hashCode()) * 31 + frc.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return hashCode == key.hashCode
+          && text.equals(key.text)
+          && font.equals(key.font)
+          && frc.equals(key.frc);
+    }
+
+    @Override
+    public int hashCode() {
+
+      return hashCode;
+    }
+  }
+
+  private static class CachedText {
+
+    private final TextLayout textLayout;
+    private Shape outline;
+
+    CachedText(TextLayout textLayout) {
+
+      this.textLayout = textLayout;
+    }
+  }
+}
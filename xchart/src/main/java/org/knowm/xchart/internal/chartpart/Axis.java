@@ -8,7 +8,6 @@ import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -16,9 +15,11 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.knowm.xchart.CategoryChart;
 import org.knowm.xchart.CategorySeries;
+import org.knowm.xchart.DataSourceXYSeries;
 import org.knowm.xchart.HeatMapChart;
 import org.knowm.xchart.XYChart;
 import org.knowm.xchart.XYSeries;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.internal.Utils;
 import org.knowm.xchart.internal.series.AxesChartSeries;
 import org.knowm.xchart.internal.series.AxesChartSeriesCategory;
@@ -61,6 +62,11 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
   private double min;
   private double max;
 
+  /** the unique data of all XY series along this axis, re-used until the series or data change */
+  private List<Double> xySeriesData;
+
+  private List<Object> xySeriesDataKey;
+
   /**
    * Constructor
    *
@@ -282,7 +288,7 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
         && !chart.getXAxisTitle().trim().equalsIgnoreCase("")
         && axesChartStyler.isXAxisTitleVisible()) {
       TextLayout textLayout =
-          new TextLayout(
+          TextLayoutCache.getTextLayout(
               chart.getXAxisTitle(),
               axesChartStyler.getAxisTitleFont(),
               new FontRenderContext(null, true, false));
@@ -313,7 +319,7 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
 
       // get the height of the label including rotation
       TextLayout textLayout =
-          new TextLayout(
+          TextLayoutCache.getTextLayout(
               sampleLabel.length() == 0 ? " " : sampleLabel,
               axesChartStyler.getAxisTickLabelsFont(),
               new FontRenderContext(null, true, false));
@@ -342,7 +348,7 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
         && !yAxisTitle.trim().equalsIgnoreCase("")
         && axesChartStyler.isYAxisTitleVisible()) {
       TextLayout textLayout =
-          new TextLayout(
+          TextLayoutCache.getTextLayout(
               yAxisTitle,
               axesChartStyler.getAxisTitleFont(),
               new FontRenderContext(null, true, false));
@@ -371,7 +377,7 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
 
       // get the height of the label including rotation
       TextLayout textLayout =
-          new TextLayout(
+          TextLayoutCache.getTextLayout(
               sampleLabel.length() == 0 ? " " : sampleLabel,
               axesChartStyler.getAxisTickLabelsFont(),
               new FontRenderContext(null, true, false));
@@ -416,11 +422,7 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
       }
       yData.addAll(uniqueYData);
     } else if (axesChartStyler instanceof XYStyler) {
-      Set<Double> uniqueYData = new LinkedHashSet<>();
-      for (XYSeries xySeries : ((XYChart) chart).getSeriesMap().values()) {
-        uniqueYData.addAll(Arrays.stream(xySeries.getYData()).boxed().collect(Collectors.toList()));
-      }
-      yData.addAll(uniqueYData);
+      yData = getXYSeriesData();
     }
 
     if (axesChartStyler.getyAxisTickLabelsFormattingFunction() != null) {
@@ -463,6 +465,44 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
     }
   }
 
+  /**
+   * Gets the unique X or Y data of all XY series, depending on the axis direction. Boxing all data
+   * on each paint is expensive for large series, so the result is kept until a series is added or
+   * removed or its data changes. The data of a DataSourceXYSeries can be larger than the heap, so
+   * with one of them the list is empty and the ticks are calculated from the axis min and max.
+   *
+   * @return
+   */
+  private List<Double> getXYSeriesData() {
+
+    List<Object> key = new ArrayList<>();
+    for (XYSeries xySeries : ((XYChart) chart).getSeriesMap().values()) {
+      if (xySeries instanceof DataSourceXYSeries) {
+        xySeriesData = null;
+        xySeriesDataKey = null;
+        return new ArrayList<>();
+      }
+      key.add(xySeries);
+      key.add(xySeries.getDataVersion());
+    }
+    if (!key.equals(xySeriesDataKey)) {
+      Set<Double> uniqueData = new LinkedHashSet<>();
+      for (XYSeries xySeries : ((XYChart) chart).getSeriesMap().values()) {
+        double[] data =
+            direction == Direction.X ? xySeries.getBackingXData() : xySeries.getBackingYData();
+        int to = xySeries.getDataOffset() + xySeries.getDataCount();
+        for (int i = xySeries.getDataOffset(); i < to; i++) {
+          if (xySeries.isInView(i)) {
+            uniqueData.add(data[i]);
+          }
+        }
+      }
+      xySeriesData = new ArrayList<>(uniqueData);
+      xySeriesDataKey = key;
+    }
+    return xySeriesData;
+  }
+
   private AxisTickCalculator_ getAxisTickCalculatorForX(double workingSpace) {
     List<Double> xData = new ArrayList<>();
     if (axesChartStyler instanceof HeatMapStyler) {
@@ -488,11 +528,7 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
       }
       xData.addAll(uniqueXData);
     } else if (axesChartStyler instanceof XYStyler) {
-      Set<Double> uniqueXData = new LinkedHashSet<>();
-      for (XYSeries xySeries : ((XYChart) chart).getSeriesMap().values()) {
-        uniqueXData.addAll(Arrays.stream(xySeries.getXData()).boxed().collect(Collectors.toList()));
-      }
-      xData.addAll(uniqueXData);
+      xData = getXYSeriesData();
     }
 
     if (axesChartStyler.getxAxisTickLabelsFormattingFunction() != null) {
@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.knowm.xchart.CategorySeries;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.internal.Utils;
 import org.knowm.xchart.internal.chartpart.Axis.Direction;
 import org.knowm.xchart.style.AxesChartStyler;
@@ -74,11 +75,14 @@ public abstract class AxisTickCalculator_ implements AxisTickCalculator {
       AxesChartStyler styler) {
     this.axisDirection = axisDirection;
     this.workingSpace = workingSpace;
-    Set<Double> axisValuesWithMinMax = new LinkedHashSet<>();
-    axisValuesWithMinMax.add(minValue);
-    axisValuesWithMinMax.addAll(axisValues);
-    axisValuesWithMinMax.add(maxValue);
-    this.axisValues = new ArrayList<>(axisValuesWithMinMax);
+    // with more values than pixels the ticks don't follow the values, see calculate
+    if (axisValues.size() <= workingSpace) {
+      Set<Double> axisValuesWithMinMax = new LinkedHashSet<>();
+      axisValuesWithMinMax.add(minValue);
+      axisValuesWithMinMax.addAll(axisValues);
+      axisValuesWithMinMax.add(maxValue);
+      this.axisValues = new ArrayList<>(axisValuesWithMinMax);
+    }
     this.minValue = getAxisMinValue(styler, axisDirection, minValue);
     this.maxValue = getAxisMaxValue(styler, axisDirection, maxValue);
     this.styler = styler;
@@ -133,7 +137,7 @@ public abstract class AxisTickCalculator_ implements AxisTickCalculator {
     // System.out.println("longestLabel: " + sampleLabel);
 
     TextLayout textLayout =
-        new TextLayout(
+        TextLayoutCache.getTextLayout(
             sampleLabel, styler.getAxisTickLabelsFont(), new FontRenderContext(null, true, false));
     AffineTransform rot =
         styler.getXAxisLabelRotation() == 0
@@ -194,7 +198,11 @@ public abstract class AxisTickCalculator_ implements AxisTickCalculator {
     // the span of the data
     double span = Math.abs(Math.min((maxValue - minValue), Double.MAX_VALUE - 1)); // in data space
 
-    if (axisValues != null && areValuesEquallySpaced(axisValues)) {
+    // with more values than pixels, every tick is within a pixel of a value anyway, and trying
+    // every step between the values would take minutes for millions of them
+    if (axisValues != null
+        && axisValues.size() <= tickSpace
+        && areValuesEquallySpaced(axisValues)) {
       calculateForEquallySpacedAxisValues(tickSpace, margin);
       return;
     }
@@ -316,26 +324,28 @@ public abstract class AxisTickCalculator_ implements AxisTickCalculator {
               .stripTrailingZeros(); // chop off any double imprecision
       //      System.out.println("cleanedFirstPosition: " + cleanedFirstPosition);
 
+      BigDecimal lastPosition =
+          BigDecimal.valueOf(
+              (maxValue + 2 * cleanedGridStep.doubleValue()) == Double.POSITIVE_INFINITY
+                  ? Double.MAX_VALUE
+                  : maxValue + 2 * cleanedGridStep.doubleValue());
+
       // generate all tickLabels and tickLocations from the first to last position
       for (BigDecimal value = cleanedFirstPosition;
-          value.compareTo(
-                  BigDecimal.valueOf(
-                      (maxValue + 2 * cleanedGridStep.doubleValue()) == Double.POSITIVE_INFINITY
-                          ? Double.MAX_VALUE
-                          : maxValue + 2 * cleanedGridStep.doubleValue()))
-              < 0;
+          value.compareTo(lastPosition) < 0;
           value = value.add(cleanedGridStep)) {
 
         // if (value.compareTo(BigDecimal.valueOf(maxValue)) <= 0 &&
         // value.compareTo(BigDecimal.valueOf(minValue)) >= 0) {
         // System.out.println(value);
-        String tickLabel = getAxisFormat().format(value.doubleValue());
+        double valueAsDouble = value.doubleValue();
+        String tickLabel = getAxisFormat().format(valueAsDouble);
         // System.out.println(tickLabel);
         tickLabels.add(tickLabel);
 
         // here we convert tickPosition finally to plot space, i.e. pixels
         double tickLabelPosition =
-            margin + ((value.doubleValue() - minValue) / (maxValue - minValue) * tickSpace);
+            margin + ((valueAsDouble - minValue) / (maxValue - minValue) * tickSpace);
         tickLocations.add(tickLabelPosition);
         // }
 
@@ -369,7 +379,9 @@ public abstract class AxisTickCalculator_ implements AxisTickCalculator {
       throw new IllegalStateException("No axis values.");
     }
     int gridStepInChartSpace;
-    int tickValuesHint = 0;
+    // every tick label needs at least a pixel, so skip the hints which leave more ticks than that
+    int tickValuesHint =
+        tickSpace > 0 ? Math.max(0, (int) (axisValues.size() / (tickSpace + 2)) - 1) : 0;
     List<Double> tickLabelValues;
     double tickLabelMaxValue;
     double tickLabelMinValue;
@@ -1,7 +1,6 @@
 package org.knowm.xchart.internal.chartpart;
 
 import java.math.BigDecimal;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -87,10 +86,8 @@ class AxisTickCalculator_Category extends AxisTickCalculator_ {
       if (styler.getDatePattern() == null) {
         throw new RuntimeException("You need to set the Date Formatting Pattern!!!");
       }
-      SimpleDateFormat simpleDateformat =
-          new SimpleDateFormat(styler.getDatePattern(), styler.getLocale());
-      simpleDateformat.setTimeZone(styler.getTimezone());
-      axisFormat = simpleDateformat;
+      axisFormat =
+          new Formatter_Date(styler.getDatePattern(), styler.getLocale(), styler.getTimezone());
     }
 
     int counter = 0;
@@ -7,6 +7,7 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.util.HashMap;
 import java.util.Map;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.internal.chartpart.Axis.Direction;
 import org.knowm.xchart.internal.series.AxesChartSeries;
 import org.knowm.xchart.style.AxesChartStyler;
@@ -59,7 +60,7 @@ public class AxisTickLabels<ST extends AxesChartStyler, S extends AxesChartSerie
       double yOffset = yAxis.getBounds().getY();
       double height = yAxis.getBounds().getHeight();
       double maxTickLabelWidth = 0;
-      Map<Double, TextLayout> axisLabelTextLayouts = new HashMap<Double, TextLayout>();
+      Map<Double, Shape> axisLabelOutlines = new HashMap<Double, Shape>();
 
       for (int i = 0; i < yAxis.getAxisTickCalculator().getTickLabels().size(); i++) {
 
@@ -73,21 +74,22 @@ public class AxisTickLabels<ST extends AxesChartStyler, S extends AxesChartSerie
             && flippedTickLocation < yOffset + height) { // some are null for logarithmic axes
           FontRenderContext frc = g.getFontRenderContext();
           TextLayout axisLabelTextLayout =
-              new TextLayout(tickLabel, styler.getAxisTickLabelsFont(), frc);
+              TextLayoutCache.getTextLayout(tickLabel, styler.getAxisTickLabelsFont(), frc);
           Rectangle2D tickLabelBounds = axisLabelTextLayout.getBounds();
           double boundWidth = tickLabelBounds.getWidth();
           if (boundWidth > maxTickLabelWidth) {
             maxTickLabelWidth = boundWidth;
           }
-          axisLabelTextLayouts.put(tickLocation, axisLabelTextLayout);
+          axisLabelOutlines.put(
+              tickLocation,
+              TextLayoutCache.getOutline(tickLabel, styler.getAxisTickLabelsFont(), frc));
         }
       }
 
-      for (Map.Entry<Double, TextLayout> tick : axisLabelTextLayouts.entrySet()) {
+      for (Map.Entry<Double, Shape> tick : axisLabelOutlines.entrySet()) {
         final Double tickLocation = tick.getKey();
-        final TextLayout axisLabelTextLayout = tick.getValue();
+        final Shape shape = tick.getValue();
 
-        Shape shape = axisLabelTextLayout.getOutline(null);
         Rectangle2D tickLabelBounds = shape.getBounds();
 
         double flippedTickLocation = yOffset + height - tickLocation;
@@ -144,7 +146,8 @@ public class AxisTickLabels<ST extends AxesChartStyler, S extends AxesChartSerie
           // some are null for logarithmic axes
 
           FontRenderContext frc = g.getFontRenderContext();
-          TextLayout textLayout = new TextLayout(tickLabel, styler.getAxisTickLabelsFont(), frc);
+          TextLayout textLayout =
+              TextLayoutCache.getTextLayout(tickLabel, styler.getAxisTickLabelsFont(), frc);
           // System.out.println(textLayout.getOutline(null).getBounds().toString());
 
           // Shape shape = v.getOutline();
@@ -173,7 +176,8 @@ public class AxisTickLabels<ST extends AxesChartStyler, S extends AxesChartSerie
             && shiftedTickLocation < xOffset + width) { // some are null for logarithmic axes
 
           FontRenderContext frc = g.getFontRenderContext();
-          TextLayout textLayout = new TextLayout(tickLabel, styler.getAxisTickLabelsFont(), frc);
+          TextLayout textLayout =
+              TextLayoutCache.getTextLayout(tickLabel, styler.getAxisTickLabelsFont(), frc);
           // System.out.println(textLayout.getOutline(null).getBounds().toString());
 
           // Shape shape = v.getOutline();
@@ -5,6 +5,7 @@ import java.awt.font.FontRenderContext;
 import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.internal.chartpart.Axis.Direction;
 import org.knowm.xchart.internal.series.Series;
 import org.knowm.xchart.style.AxesChartStyler;
@@ -53,7 +54,7 @@ public class AxisTitle<ST extends AxesChartStyler, S extends Series> implements
         }
         FontRenderContext frc = g.getFontRenderContext();
         TextLayout nonRotatedTextLayout =
-            new TextLayout(yAxisTitle, chart.getStyler().getAxisTitleFont(), frc);
+            TextLayoutCache.getTextLayout(yAxisTitle, chart.getStyler().getAxisTitleFont(), frc);
         Rectangle2D nonRotatedRectangle = nonRotatedTextLayout.getBounds();
 
         // ///////////////////////////////////////////////
@@ -117,8 +118,9 @@ public class AxisTitle<ST extends AxesChartStyler, S extends Series> implements
           g.setColor(chart.getStyler().getXAxisTitleColor());
         }
         FontRenderContext frc = g.getFontRenderContext();
-        TextLayout textLayout =
-            new TextLayout(chart.getXAxisTitle(), chart.getStyler().getAxisTitleFont(), frc);
+        String xAxisTitle = chart.getXAxisTitle();
+        Font axisTitleFont = chart.getStyler().getAxisTitleFont();
+        TextLayout textLayout = TextLayoutCache.getTextLayout(xAxisTitle, axisTitleFont, frc);
         Rectangle2D rectangle = textLayout.getBounds();
         // System.out.println(rectangle);
 
@@ -131,7 +133,7 @@ public class AxisTitle<ST extends AxesChartStyler, S extends Series> implements
                 - rectangle.getHeight();
 
         // textLayout.draw(g, (float) xOffset, (float) (yOffset - rectangle.getY()));
-        Shape shape = textLayout.getOutline(null);
+        Shape shape = TextLayoutCache.getOutline(xAxisTitle, axisTitleFont, frc);
         AffineTransform orig = g.getTransform();
         AffineTransform at = new AffineTransform();
         at.translate((float) xOffset, (float) (yOffset - rectangle.getY()));
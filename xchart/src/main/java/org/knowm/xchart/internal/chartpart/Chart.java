@@ -10,6 +10,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import org.knowm.xchart.internal.series.Series;
 import org.knowm.xchart.style.AxesChartStyler;
@@ -22,6 +24,8 @@ public abstract class Chart<ST extends Styler, S extends Series> {
   protected final ChartTitle<ST, S> chartTitle;
   protected final Map<String, S> seriesMap = new LinkedHashMap<>();
   protected final ArrayList<ChartPart> annotations = new ArrayList<>();
+  // held while painting and while adding, updating or removing series, see getLock
+  protected final Lock lock = new ReentrantLock();
 
   /** Chart Parts */
   // TODO maybe move this to a secondary abstract class for inheritors with axes. Pie charts don't
@@ -41,6 +45,11 @@ public abstract class Chart<ST extends Styler, S extends Series> {
   private String xAxisTitle = "";
   private String yAxisTitle = "";
 
+  // whether paint leaves out the tool tips, cursor and zoom selection, see paintOverlay
+  private boolean isOverlayPaintedSeparately = false;
+  // where the title, legend and annotations are painted, on top of the overlay, see paintLayered
+  private Graphics2D foregroundGraphics;
+
   // TODO Does this belong here for all chart types?
   private final Map<Integer, String> yAxisGroupTitleMap = new HashMap<>();
 
@@ -63,17 +72,103 @@ public abstract class Chart<ST extends Styler, S extends Series> {
 
   public abstract void paint(Graphics2D g, int width, int height);
 
+  /**
+   * Paints the interactive overlay of the chart: the tool tips, the cursor and the zoom selection.
+   * This is only needed if the overlay is painted separately, on top of a chart painted before,
+   * which must have been painted at the same size. It's clipped to the plot, and painted holding
+   * the chart lock like paint.
+   *
+   * @param g
+   */
+  public void paintOverlay(Graphics2D g) {
+
+    lock.lock();
+    try {
+      if (seriesMap.isEmpty()) {
+        return;
+      }
+      setAntiAliasHint(g);
+      plot.plotContent.paintOverlay(g);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Paints the chart without its interactive overlay in two layers, to be composed with the overlay
+   * painted by paintOverlay in between: the title, legend and annotations go on the foreground,
+   * which must be transparent and transformed like g, everything else on g. So the overlay stays
+   * below the legend and annotations, as when painted with paint.
+   *
+   * @param g
+   * @param foreground
+   * @param width
+   * @param height
+   */
+  public void paintLayered(Graphics2D g, Graphics2D foreground, int width, int height) {
+
+    lock.lock();
+    // restored afterwards, as it may also have been set with setOverlayPaintedSeparately
+    boolean wasOverlayPaintedSeparately = isOverlayPaintedSeparately;
+    try {
+      isOverlayPaintedSeparately = true;
+      foregroundGraphics = foreground;
+      paint(g, width, height);
+    } finally {
+      isOverlayPaintedSeparately = wasOverlayPaintedSeparately;
+      foregroundGraphics = null;
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Gets the graphics the title, legend and annotations are painted on, which is g unless painted
+   * by paintLayered
+   *
+   * @param g
+   * @return
+   */
+  protected Graphics2D getForegroundGraphics(Graphics2D g) {
+
+    if (foregroundGraphics == null) {
+      return g;
+    }
+    foregroundGraphics.setRenderingHints(g.getRenderingHints());
+    return foregroundGraphics;
+  }
+
+  public boolean isOverlayPaintedSeparately() {
+
+    return isOverlayPaintedSeparately;
+  }
+
+  /**
+   * Sets whether paint leaves out the interactive overlay, so that the rest of the chart can be
+   * cached in an image while only the overlay is painted on mouse movement with paintOverlay
+   *
+   * @param isOverlayPaintedSeparately
+   */
+  public void setOverlayPaintedSeparately(boolean isOverlayPaintedSeparately) {
+
+    this.isOverlayPaintedSeparately = isOverlayPaintedSeparately;
+  }
+
   protected void paintBackground(Graphics2D g) {
 
     // paint chart main background
+    setAntiAliasHint(g); // global rendering hint
+    g.setColor(styler.getChartBackgroundColor());
+    Shape rect = new Rectangle2D.Double(0, 0, getWidth(), getHeight());
+    g.fill(rect);
+  }
+
+  private void setAntiAliasHint(Graphics2D g) {
+
     g.setRenderingHint(
         RenderingHints.KEY_ANTIALIASING,
         styler.getAntiAlias()
             ? RenderingHints.VALUE_ANTIALIAS_ON
-            : RenderingHints.VALUE_ANTIALIAS_OFF); // global rendering hint
-    g.setColor(styler.getChartBackgroundColor());
-    Shape rect = new Rectangle2D.Double(0, 0, getWidth(), getHeight());
-    g.fill(rect);
+            : RenderingHints.VALUE_ANTIALIAS_OFF);
   }
 
   /**
@@ -86,9 +181,28 @@ public abstract class Chart<ST extends Styler, S extends Series> {
     return styler;
   }
 
+  /**
+   * Gets the lock the chart holds while painting, and while adding, updating or removing series. So
+   * series can be added and updated from any thread while the chart is painted on another, without
+   * the painting seeing half an update. XYChart, CategoryChart and OHLCChart hold it, and
+   * StreamingXYSeries can be appended to without it. Hold it to make several updates appear
+   * together, or to change series data other than through the chart.
+   *
+   * @return
+   */
+  public Lock getLock() {
+
+    return lock;
+  }
+
   public S removeSeries(String seriesName) {
 
-    return seriesMap.remove(seriesName);
+    lock.lock();
+    try {
+      return seriesMap.remove(seriesName);
+    } finally {
+      lock.unlock();
+    }
   }
 
   /** Getters and Setters */
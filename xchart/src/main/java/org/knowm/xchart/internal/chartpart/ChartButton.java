@@ -9,12 +9,12 @@ import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import javax.swing.event.EventListenerList;
 import org.knowm.xchart.XChartPanel;
 import org.knowm.xchart.XYChart;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.style.Styler;
 
 /**
@@ -126,8 +126,7 @@ public class ChartButton extends MouseAdapter implements ChartPart {
     g.setFont(styler.getChartButtonFont());
 
     FontRenderContext frc = g.getFontRenderContext();
-    TextLayout tl = new TextLayout(text, styler.getChartButtonFont(), frc);
-    Shape shape = tl.getOutline(null);
+    Shape shape = TextLayoutCache.getOutline(text, styler.getChartButtonFont(), frc);
 
     Rectangle2D textBounds = shape.getBounds2D();
     calculatePosition(textBounds);
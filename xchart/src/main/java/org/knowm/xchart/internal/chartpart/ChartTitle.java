@@ -5,6 +5,7 @@ import java.awt.font.FontRenderContext;
 import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.internal.series.Series;
 import org.knowm.xchart.style.Styler;
 
@@ -38,8 +39,8 @@ public class ChartTitle<ST extends Styler, S extends Series> implements ChartPar
 
     // create rectangle first for sizing
     FontRenderContext frc = g.getFontRenderContext();
-    TextLayout textLayout =
-        new TextLayout(chart.getTitle(), chart.getStyler().getChartTitleFont(), frc);
+    Font chartTitleFont = chart.getStyler().getChartTitleFont();
+    TextLayout textLayout = TextLayoutCache.getTextLayout(chart.getTitle(), chartTitleFont, frc);
     Rectangle2D textBounds = textLayout.getBounds();
 
     double xOffset = chart.getPlot().getBounds().getX(); // of plot left edge
@@ -72,7 +73,7 @@ public class ChartTitle<ST extends Styler, S extends Series> implements ChartPar
             + chart.getStyler().getChartTitlePadding();
 
     g.setColor(chart.getStyler().getChartFontColor());
-    Shape shape = textLayout.getOutline(null);
+    Shape shape = TextLayoutCache.getOutline(chart.getTitle(), chartTitleFont, frc);
     AffineTransform orig = g.getTransform();
     AffineTransform at = new AffineTransform();
     at.translate(xOffset, yOffset);
@@ -104,7 +105,7 @@ public class ChartTitle<ST extends Styler, S extends Series> implements ChartPar
     if (chart.getStyler().isChartTitleVisible() && chart.getTitle().length() > 0) {
 
       TextLayout textLayout =
-          new TextLayout(
+          TextLayoutCache.getTextLayout(
               chart.getTitle(),
               chart.getStyler().getChartTitleFont(),
               new FontRenderContext(null, true, false));
@@ -88,13 +88,13 @@ public class ChartZoom extends MouseAdapter implements ChartPart, ActionListener
   public void mousePressed(MouseEvent e) {
 
     x1 = e.getX();
-    repaint();
+    xChartPanel.repaintOverlay();
   }
 
   public void mouseDragged(MouseEvent e) {
 
     x2 = e.getX();
-    repaint();
+    xChartPanel.repaintOverlay();
   }
 
   public void mouseReleased(MouseEvent e) {
@@ -128,23 +128,28 @@ public class ChartZoom extends MouseAdapter implements ChartPart, ActionListener
 
   public boolean filterXByScreen(int screenXmin, int screenXmax) {
 
-    // convert screen coordinates to axis values
-    double minValue = xyChart.axisPair.getXAxis().getChartValue(screenXmin);
-    double maxValue = xyChart.axisPair.getXAxis().getChartValue(screenXmax);
-    boolean filtered = false;
-    if (isOnePointSeleted(minValue, maxValue)) {
-      for (XYSeries series : xyChart.getSeriesMap().values()) {
-        boolean f = series.filterXByValue(minValue, maxValue);
-        if (f) {
+    xyChart.getLock().lock();
+    try {
+      // convert screen coordinates to axis values
+      double minValue = xyChart.axisPair.getXAxis().getChartValue(screenXmin);
+      double maxValue = xyChart.axisPair.getXAxis().getChartValue(screenXmax);
+      boolean filtered = false;
+      if (isOnePointSeleted(minValue, maxValue)) {
+        for (XYSeries series : xyChart.getSeriesMap().values()) {
+          boolean f = series.filterXByValue(minValue, maxValue);
+          if (f) {
+            filtered = true;
+          }
+        }
+      } else {
+        if (!isAllPointsSelected()) {
           filtered = true;
         }
       }
-    } else {
-      if (!isAllPointsSelected()) {
-        filtered = true;
-      }
+      return filtered;
+    } finally {
+      xyChart.getLock().unlock();
     }
-    return filtered;
   }
 
   /**
@@ -156,31 +161,35 @@ public class ChartZoom extends MouseAdapter implements ChartPart, ActionListener
    */
   private boolean isOnePointSeleted(double minValue, double maxValue) {
 
-    boolean isOnePointSeleted = false;
-    double[] xData = null;
     for (XYSeries series : xyChart.getSeriesMap().values()) {
-      xData = series.getXData();
-      for (double x : xData) {
-        if (x >= minValue && x <= maxValue) {
-          isOnePointSeleted = true;
-          break;
-        }
+      if (series.hasXDataBetween(minValue, maxValue)) {
+        return true;
       }
     }
-    return isOnePointSeleted;
+    return false;
   }
 
   public void resetFilter() {
 
-    for (XYSeries series : xyChart.getSeriesMap().values()) {
-      series.resetFilter();
+    xyChart.getLock().lock();
+    try {
+      for (XYSeries series : xyChart.getSeriesMap().values()) {
+        series.resetFilter();
+      }
+    } finally {
+      xyChart.getLock().unlock();
     }
   }
 
   public void filterXByIndex(int startIndex, int endIndex) {
 
-    for (XYSeries series : xyChart.getSeriesMap().values()) {
-      series.filterXByIndex(startIndex, endIndex);
+    xyChart.getLock().lock();
+    try {
+      for (XYSeries series : xyChart.getSeriesMap().values()) {
+        series.filterXByIndex(startIndex, endIndex);
+      }
+    } finally {
+      xyChart.getLock().unlock();
     }
   }
 
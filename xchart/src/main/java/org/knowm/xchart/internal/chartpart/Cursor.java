@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.internal.series.MarkerSeries;
 import org.knowm.xchart.internal.series.Series;
 import org.knowm.xchart.style.XYStyler;
@@ -29,6 +30,9 @@ public class Cursor extends MouseAdapter implements ChartPart {
   private final List<DataPoint> dataPointList = new ArrayList<>();
   private final List<DataPoint> matchingDataPointList = new ArrayList<>();
 
+  // index of the horizontal extent of the data points for finding the ones under the mouse
+  private final SpatialGrid dataPointGrid = new SpatialGrid();
+
   private final Chart chart;
   private final XYStyler styler;
 
@@ -72,12 +76,12 @@ public class Cursor extends MouseAdapter implements ChartPart {
 
       if (matchingDataPointList.size() > 0) {
         matchingDataPointList.clear();
-        e.getComponent().repaint();
+        ToolTips.repaintOverlay(e.getComponent());
       }
       return;
     }
     calculateMatchingDataPoints();
-    e.getComponent().repaint();
+    ToolTips.repaintOverlay(e.getComponent());
   }
 
   private boolean isMouseOutOfPlotContent() {
@@ -105,8 +109,8 @@ public class Cursor extends MouseAdapter implements ChartPart {
       DataPoint firstDataPoint = matchingDataPointList.get(0);
 
       TextLayout xValueTextLayout =
-          new TextLayout(
-              firstDataPoint.xValue,
+          TextLayoutCache.getTextLayout(
+              firstDataPoint.getXValue(),
               styler.getCursorFont(),
               new FontRenderContext(null, true, false));
       textHeight = xValueTextLayout.getBounds().getHeight();
@@ -141,8 +145,8 @@ public class Cursor extends MouseAdapter implements ChartPart {
     Rectangle2D dataPointRectangle = null;
     for (DataPoint dataPoint : matchingDataPointList) {
       dataPointTextLayout =
-          new TextLayout(
-              dataPoint.seriesName + ": " + dataPoint.yValue,
+          TextLayoutCache.getTextLayout(
+              dataPoint.seriesName + ": " + dataPoint.getYValue(),
               styler.getCursorFont(),
               new FontRenderContext(null, true, false));
       dataPointRectangle = dataPointTextLayout.getBounds();
@@ -189,7 +193,6 @@ public class Cursor extends MouseAdapter implements ChartPart {
     g.fill(xValueTextLayout.getOutline(null));
 
     MarkerSeries series = null;
-    TextLayout dataPointTextLayout = null;
     Shape circle = null;
     for (DataPoint dataPoint : matchingDataPointList) {
       at = new AffineTransform();
@@ -207,12 +210,11 @@ public class Cursor extends MouseAdapter implements ChartPart {
       at.translate(textHeight + LINE_SPACING, 0);
       g.transform(at);
       g.setColor(styler.getCursorFontColor());
-      dataPointTextLayout =
-          new TextLayout(
-              dataPoint.seriesName + ": " + dataPoint.yValue,
+      g.fill(
+          TextLayoutCache.getOutline(
+              dataPoint.seriesName + ": " + dataPoint.getYValue(),
               styler.getCursorFont(),
-              new FontRenderContext(null, true, false));
-      g.fill(dataPointTextLayout.getOutline(null));
+              new FontRenderContext(null, true, false)));
 
       at = new AffineTransform();
       at.translate(-textHeight - LINE_SPACING, 0);
@@ -221,25 +223,53 @@ public class Cursor extends MouseAdapter implements ChartPart {
     g.setTransform(orig);
   }
 
-  void addData(double xOffset, double yOffset, String xValue, String yValue, String seriesName) {
+  /**
+   * Formats the X and Y values of a data point from its index, so that only the data points under
+   * the cursor are formatted instead of all of them on each paint
+   */
+  interface DataPointFormatter {
+
+    String formatX(int index);
+
+    String formatY(int index);
+  }
+
+  void addData(
+      double xOffset,
+      double yOffset,
+      DataPointFormatter formatter,
+      int dataIndex,
+      String seriesName) {
 
-    DataPoint dataPoint = new DataPoint(xOffset, yOffset, xValue, yValue, seriesName);
+    DataPoint dataPoint = new DataPoint(xOffset, yOffset, formatter, dataIndex, seriesName);
+    Rectangle2D bounds = dataPoint.shape.getBounds2D();
+    dataPointGrid.add(bounds.getMinX(), 0, bounds.getMaxX(), 0);
     dataPointList.add(dataPoint);
   }
 
+  void clearData() {
+
+    dataPointList.clear();
+    dataPointGrid.clear();
+  }
+
   /** One DataPoint per series, keep the DataPoint closest to mouseX */
   private void calculateMatchingDataPoints() {
 
     List<DataPoint> dataPoints = new ArrayList<>();
-    for (DataPoint dataPoint : dataPointList) {
-      if (dataPoint.shape.contains(mouseX, dataPoint.shape.getBounds().getCenterY())
-          && chart.plot.plotContent.getBounds().getY() < mouseY
-          && chart.plot.plotContent.getBounds().getY()
-                  + chart.plot.plotContent.getBounds().getHeight()
-              > mouseY) {
-        dataPoints.add(dataPoint);
-      }
-    }
+    dataPointGrid.forEachCandidate(
+        mouseX,
+        0,
+        i -> {
+          DataPoint dataPoint = dataPointList.get(i);
+          if (dataPoint.shape.contains(mouseX, dataPoint.shape.getBounds().getCenterY())
+              && chart.plot.plotContent.getBounds().getY() < mouseY
+              && chart.plot.plotContent.getBounds().getY()
+                      + chart.plot.plotContent.getBounds().getHeight()
+                  > mouseY) {
+            dataPoints.add(dataPoint);
+          }
+        });
 
     if (dataPoints.size() > 0) {
       Map<String, DataPoint> map = new HashMap<>();
@@ -268,11 +298,12 @@ public class Cursor extends MouseAdapter implements ChartPart {
     final Shape shape;
     final double x;
     final double y;
-    final String xValue;
-    final String yValue;
+    final DataPointFormatter formatter;
+    final int dataIndex;
     final String seriesName;
 
-    public DataPoint(double x, double y, String xValue, String yValue, String seriesName) {
+    public DataPoint(
+        double x, double y, DataPointFormatter formatter, int dataIndex, String seriesName) {
 
       double halfSize = MARGIN * 1.5;
       double markerSize = MARGIN * 3;
@@ -282,9 +313,19 @@ public class Cursor extends MouseAdapter implements ChartPart {
       this.shape =
           new Ellipse2D.Double(this.x - halfSize, this.y - halfSize, markerSize, markerSize);
 
-      this.xValue = xValue;
-      this.yValue = yValue;
+      this.formatter = formatter;
+      this.dataIndex = dataIndex;
       this.seriesName = seriesName;
     }
+
+    String getXValue() {
+
+      return formatter.formatX(dataIndex);
+    }
+
+    String getYValue() {
+
+      return formatter.formatY(dataIndex);
+    }
   }
 }
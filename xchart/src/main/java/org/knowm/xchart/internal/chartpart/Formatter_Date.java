@@ -0,0 +1,48 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.text.FieldPosition;
+import java.text.Format;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.TimeZone;
+import org.knowm.xchart.internal.FormatCache;
+
+/**
+ * Formats dates like a SimpleDateFormat of the pattern, locale and time zone, with the
+ * SimpleDateFormat of the calling thread from the FormatCache, so it's cheap to create and can be
+ * used from any thread.
+ */
+class Formatter_Date extends Format {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String datePattern;
+  private final Locale locale;
+  private final TimeZone timeZone;
+
+  /**
+   * Constructor
+   *
+   * @param datePattern
+   * @param locale
+   * @param timeZone
+   */
+  public Formatter_Date(String datePattern, Locale locale, TimeZone timeZone) {
+
+    this.datePattern = datePattern;
+    this.locale = locale;
+    this.timeZone = timeZone;
+  }
+
+  @Override
+  public StringBuffer format(Object obj, StringBuffer toAppendTo, FieldPosition pos) {
+
+    return FormatCache.getDateFormat(datePattern, locale, timeZone).format(obj, toAppendTo, pos);
+  }
+
+  @Override
+  public Object parseObject(String source, ParsePosition pos) {
+
+    return FormatCache.getDateFormat(datePattern, locale, timeZone).parseObject(source, pos);
+  }
+}
@@ -1,13 +1,13 @@
 package org.knowm.xchart.internal.chartpart;
 
 import java.text.*;
+import org.knowm.xchart.internal.FormatCache;
 import org.knowm.xchart.style.AxesChartStyler;
 
 class Formatter_LogNumber extends Format {
 
   private final AxesChartStyler styler;
   private final Axis.Direction axisDirection;
-  private final NumberFormat numberFormat;
   private int yIndex;
 
   /** Constructor */
@@ -15,7 +15,6 @@ class Formatter_LogNumber extends Format {
 
     this.styler = styler;
     this.axisDirection = axisDirection;
-    numberFormat = NumberFormat.getNumberInstance(styler.getLocale());
   }
 
   /**
@@ -30,7 +29,6 @@ class Formatter_LogNumber extends Format {
     this.styler = styler;
     this.axisDirection = axisDirection;
     this.yIndex = yIndex;
-    numberFormat = NumberFormat.getNumberInstance(styler.getLocale());
   }
 
   @Override
@@ -62,8 +60,7 @@ class Formatter_LogNumber extends Format {
       }
     }
 
-    DecimalFormat normalFormat = (DecimalFormat) numberFormat;
-    normalFormat.applyPattern(decimalPattern);
+    DecimalFormat normalFormat = FormatCache.getDecimalFormat(decimalPattern, styler.getLocale());
     toAppendTo.append(normalFormat.format(number));
 
     return toAppendTo;
@@ -1,16 +1,25 @@
 package org.knowm.xchart.internal.chartpart;
 
-import java.math.BigDecimal;
 import java.text.*;
+import org.knowm.xchart.internal.FormatCache;
 import org.knowm.xchart.style.AxesChartStyler;
 
 class Formatter_Number extends Format {
 
+  // the patterns getNormalDecimalPatternPositive gives, by the place of the value, which only
+  // matters from -16 to 15
+  private static final String[] NORMAL_DECIMAL_PATTERNS = new String[32];
+
+  static {
+    for (int i = 0; i < NORMAL_DECIMAL_PATTERNS.length; i++) {
+      NORMAL_DECIMAL_PATTERNS[i] = getNormalDecimalPatternPositive(i - 16);
+    }
+  }
+
   private final AxesChartStyler styler;
   private final Axis.Direction axisDirection;
   private final double min;
   private final double max;
-  private final NumberFormat numberFormat;
   private int yIndex;
 
   /** Constructor */
@@ -21,7 +30,6 @@ class Formatter_Number extends Format {
     this.axisDirection = axisDirection;
     this.min = min;
     this.max = max;
-    numberFormat = NumberFormat.getNumberInstance(styler.getLocale());
   }
 
   /**
@@ -41,7 +49,6 @@ class Formatter_Number extends Format {
     this.min = min;
     this.max = max;
     this.yIndex = yIndex;
-    numberFormat = NumberFormat.getNumberInstance(styler.getLocale());
   }
 
   private String getFormatPattern(double value) {
@@ -51,7 +58,7 @@ class Formatter_Number extends Format {
     // System.out.println("max: " + max);
 
     // some special cases first
-    if (BigDecimal.valueOf(value).compareTo(BigDecimal.ZERO) == 0) {
+    if (value == 0.0) {
       return "0";
     }
 
@@ -75,14 +82,14 @@ class Formatter_Number extends Format {
 
     if (placeOfDifference <= 4 && placeOfDifference >= -4) {
       // System.out.println("getNormalDecimalPattern");
-      return getNormalDecimalPatternPositive(placeOfValue, placeOfDifference);
+      return NORMAL_DECIMAL_PATTERNS[Math.max(-16, Math.min(15, placeOfValue)) + 16];
     } else {
       // System.out.println("getScientificDecimalPattern");
       return "0.###############E0";
     }
   }
 
-  private String getNormalDecimalPatternPositive(int placeOfValue, int placeOfDifference) {
+  private static String getNormalDecimalPatternPositive(int placeOfValue) {
 
     int maxNumPlaces = 15;
     StringBuilder sb = new StringBuilder();
@@ -132,8 +139,7 @@ class Formatter_Number extends Format {
     }
     // System.out.println(decimalPattern);
 
-    DecimalFormat normalFormat = (DecimalFormat) numberFormat;
-    normalFormat.applyPattern(decimalPattern);
+    DecimalFormat normalFormat = FormatCache.getDecimalFormat(decimalPattern, styler.getLocale());
     toAppendTo.append(normalFormat.format(number));
 
     return toAppendTo;
@@ -0,0 +1,150 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.awt.Color;
+import java.util.Arrays;
+import org.knowm.xchart.style.HeatMapStyler;
+
+/**
+ * Maps heat map values to the colors of a HeatMapStyler's range colors. The colors are looked up in
+ * a table, sampled from the range colors for a gradient or one color per split if piecewise, so
+ * painting a cell doesn't interpolate or create a Color. The table is only rebuilt when the range
+ * colors, piecewise or split number settings change.
+ */
+class HeatMapColorMap {
+
+  /** The number of colors sampled from the range colors for a gradient */
+  static final int GRADIENT_SIZE = 1024;
+
+  // the settings the table was built for
+  private Color[] rangeColors;
+  private boolean isPiecewise;
+  private int splitNumber;
+
+  private Color[] colors;
+  private int[] rgbs;
+
+  /**
+   * Rebuilds the color table if the styler's settings changed since the last call
+   *
+   * @param styler
+   */
+  void update(HeatMapStyler styler) {
+
+    Color[] rangeColors = styler.getRangeColors();
+    if (colors != null
+        && isPiecewise == styler.isPiecewise()
+        && splitNumber == styler.getSplitNumber()
+        && Arrays.equals(this.rangeColors, rangeColors)) {
+      return;
+    }
+    // copied, as the styler's array may be changed in place
+    this.rangeColors = rangeColors.clone();
+    this.isPiecewise = styler.isPiecewise();
+    this.splitNumber = styler.getSplitNumber();
+
+    if (isPiecewise) {
+      colors = new Color[splitNumber];
+      for (int split = 0; split < splitNumber; split++) {
+        colors[split] = getPiecewiseColor(split);
+      }
+    } else {
+      colors = new Color[GRADIENT_SIZE];
+      for (int i = 0; i < GRADIENT_SIZE; i++) {
+        colors[i] = getGradientColor((double) i / (GRADIENT_SIZE - 1));
+      }
+    }
+    rgbs = new int[colors.length];
+    for (int i = 0; i < colors.length; i++) {
+      rgbs[i] = colors[i].getRGB();
+    }
+  }
+
+  /**
+   * Gets the color of a value
+   *
+   * @param value
+   * @param min the value mapped to the first range color
+   * @param max the value mapped to the last range color
+   * @return
+   */
+  Color getColor(double value, double min, double max) {
+
+    return colors[getIndex(value, min, max)];
+  }
+
+  /**
+   * Gets the color of a value as an ARGB int, for writing into an image raster
+   *
+   * @param value
+   * @param min the value mapped to the first range color
+   * @param max the value mapped to the last range color
+   * @return
+   */
+  int getRGB(double value, double min, double max) {
+
+    return rgbs[getIndex(value, min, max)];
+  }
+
+  /**
+   * Gets the color of a split of a piecewise heat map
+   *
+   * @param split 0 to splitNumber - 1
+   * @return
+   */
+  Color getSplitColor(int split) {
+
+    return colors[split];
+  }
+
+  private int getIndex(double value, double min, double max) {
+
+    if (value <= min) {
+      return 0;
+    }
+    if (value >= max) {
+      return colors.length - 1;
+    }
+    double valueRatio = (value - min) / (max - min);
+    if (isPiecewise) {
+      return Math.min((int) (valueRatio * splitNumber), splitNumber - 1);
+    }
+    return (int) (valueRatio * (GRADIENT_SIZE - 1) + 0.5);
+  }
+
+  private Color getPiecewiseColor(int split) {
+
+    if (split == 0) {
+      return rangeColors[0];
+    }
+    if (split == splitNumber - 1) {
+      return rangeColors[rangeColors.length - 1];
+    }
+    double index = (double) split / splitNumber * rangeColors.length;
+    return interpolate(index);
+  }
+
+  private Color getGradientColor(double valueRatio) {
+
+    double index = valueRatio * (rangeColors.length - 1);
+    if ((int) index >= rangeColors.length - 1) {
+      return rangeColors[rangeColors.length - 1];
+    }
+    return interpolate(index);
+  }
+
+  /** Interpolates between the range colors at the integer part of index and the next one */
+  private Color interpolate(double index) {
+
+    int beginColorIndex = (int) index;
+    int endColorIndex = Math.min(beginColorIndex + 1, rangeColors.length - 1);
+    Color beginColor = rangeColors[beginColorIndex];
+    Color endColor = rangeColors[endColorIndex];
+    double fraction = index - beginColorIndex;
+    int red = (int) (beginColor.getRed() + fraction * (endColor.getRed() - beginColor.getRed()));
+    int green =
+        (int) (beginColor.getGreen() + fraction * (endColor.getGreen() - beginColor.getGreen()));
+    int blue =
+        (int) (beginColor.getBlue() + fraction * (endColor.getBlue() - beginColor.getBlue()));
+    return new Color(red, green, blue);
+  }
+}
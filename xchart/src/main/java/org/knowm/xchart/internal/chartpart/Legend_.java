@@ -2,11 +2,11 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.*;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.internal.chartpart.RenderableSeries.LegendRenderType;
 import org.knowm.xchart.internal.series.Series;
 import org.knowm.xchart.style.Styler;
@@ -294,10 +294,9 @@ public abstract class Legend_<ST extends Styler, S extends Series> implements Ch
     Map<String, Rectangle2D> seriesTextBounds =
         new LinkedHashMap<String, Rectangle2D>(lines.length);
     for (String line : lines) {
-      TextLayout textLayout =
-          new TextLayout(
+      Shape shape =
+          TextLayoutCache.getOutline(
               line, chart.getStyler().getLegendFont(), new FontRenderContext(null, true, false));
-      Shape shape = textLayout.getOutline(null);
       Rectangle2D bounds = shape.getBounds2D();
       // System.out.println(tl.getAscent());
       // System.out.println(tl.getDescent());
@@ -352,8 +351,8 @@ public abstract class Legend_<ST extends Styler, S extends Series> implements Ch
       double centerOffsetY = (Math.max(markerSize, height) - height) / 2.0;
 
       FontRenderContext frc = g.getFontRenderContext();
-      TextLayout tl = new TextLayout(entry.getKey(), chart.getStyler().getLegendFont(), frc);
-      Shape shape = tl.getOutline(null);
+      Shape shape =
+          TextLayoutCache.getOutline(entry.getKey(), chart.getStyler().getLegendFont(), frc);
       AffineTransform orig = g.getTransform();
       AffineTransform at = new AffineTransform();
       at.translate(x, starty + height + centerOffsetY + multiLineOffset);
@@ -15,6 +15,7 @@ import java.text.Format;
 import java.util.function.BiFunction;
 import org.knowm.xchart.HeatMapChart;
 import org.knowm.xchart.HeatMapSeries;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.style.HeatMapStyler;
 import org.knowm.xchart.style.Styler;
 
@@ -92,7 +93,7 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
     Color[] rangeColors = chart.getStyler().getRangeColors();
     HeatMapSeries heatMapSeries = ((HeatMapChart) chart).getHeatMapSeries();
     if (chart.getStyler().isPiecewise()) {
-      paintPiecewise(g, startx, starty, rangeColors, heatMapSeries);
+      paintPiecewise(g, startx, starty, heatMapSeries);
     } else {
       paintGradient(g, startx, starty, rangeColors, heatMapSeries);
     }
@@ -132,7 +133,7 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
           text = formattingFunction.apply(min + step * i, min + step * (i + 1));
         }
         textLayout =
-            new TextLayout(
+            TextLayoutCache.getTextLayout(
                 text, chart.getStyler().getLegendFont(), new FontRenderContext(null, true, false));
 
         if (chart.getStyler().getLegendLayout() == Styler.LegendLayout.Vertical) {
@@ -165,13 +166,13 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
     } else {
 
       TextLayout textLayoutMin =
-          new TextLayout(
+          TextLayoutCache.getTextLayout(
               min + "",
               chart.getStyler().getLegendFont(),
               new FontRenderContext(null, true, false));
 
       TextLayout textLayoutMax =
-          new TextLayout(
+          TextLayoutCache.getTextLayout(
               max + "",
               chart.getStyler().getLegendFont(),
               new FontRenderContext(null, true, false));
@@ -211,11 +212,7 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
   }
 
   private void paintPiecewise(
-      Graphics2D g,
-      double startx,
-      double starty,
-      Color[] rangeColors,
-      HeatMapSeries heatMapSeries) {
+      Graphics2D g, double startx, double starty, HeatMapSeries heatMapSeries) {
 
     int splitNumber = chart.getStyler().getSplitNumber();
     TextLayout textLayout = null;
@@ -227,55 +224,23 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
     double y = 0;
     AffineTransform orig = g.getTransform();
     AffineTransform at = null;
-    Color splitColor = null;
-    int beginColorIndex = 0;
-    int endColorIndex = 1;
-    Color beginColor = null;
-    Color endColor = null;
-    int red = 0;
-    int green = 0;
-    int blue = 0;
-    double index = 0;
+    HeatMapColorMap colorMap = ((PlotContent_HeatMap<?, ?>) chart.plot.plotContent).getColorMap();
+    colorMap.update(chart.getStyler());
     BiFunction<Double, Double, String> formattingFunction =
         chart.getStyler().isPiecewiseRanged()
             ? (lower, upper) -> format.format(lower) + SPLIT + format.format(upper)
             : (lower, upper) -> format.format(lower);
     for (int i = 0; i < splitNumber; i++) {
-      index = (double) i / splitNumber * rangeColors.length;
       if (i == 0) {
         text = formattingFunction.apply(min, min + step);
-        splitColor = rangeColors[0];
       } else if (i == splitNumber - 1) {
         text = formattingFunction.apply(min + step * i, max);
-        splitColor = rangeColors[rangeColors.length - 1];
       } else {
         text = formattingFunction.apply(min + step * i, min + step * (i + 1));
-        beginColorIndex = (int) index;
-        if (rangeColors.length != 1) {
-          endColorIndex = beginColorIndex + 1;
-        } else {
-          endColorIndex = beginColorIndex;
-        }
-
-        beginColor = rangeColors[beginColorIndex];
-        endColor = rangeColors[endColorIndex];
-        red =
-            (int)
-                (beginColor.getRed()
-                    + (index - (int) index) * (endColor.getRed() - beginColor.getRed()));
-        green =
-            (int)
-                (beginColor.getGreen()
-                    + (index - (int) index) * (endColor.getGreen() - beginColor.getGreen()));
-        blue =
-            (int)
-                (beginColor.getBlue()
-                    + (index - (int) index) * (endColor.getBlue() - beginColor.getBlue()));
-        splitColor = new Color(red, green, blue);
       }
 
       textLayout =
-          new TextLayout(
+          TextLayoutCache.getTextLayout(
               text, chart.getStyler().getLegendFont(), new FontRenderContext(null, true, false));
 
       if (chart.getStyler().getLegendLayout() == Styler.LegendLayout.Vertical) {
@@ -290,7 +255,7 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
         y = starty;
       }
       boxRect = new Rectangle2D.Double(startx, y, BOX_SIZE, textLayout.getBounds().getHeight());
-      g.setColor(splitColor);
+      g.setColor(colorMap.getSplitColor(i));
       g.fill(boxRect);
 
       at = new AffineTransform();
@@ -316,7 +281,7 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
       HeatMapSeries heatMapSeries) {
 
     TextLayout textLayoutMin =
-        new TextLayout(
+        TextLayoutCache.getTextLayout(
             heatMapSeries.getMin() + "",
             chart.getStyler().getLegendFont(),
             new FontRenderContext(null, true, false));
@@ -374,7 +339,7 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
     g.fill(rect);
 
     TextLayout textLayoutMax =
-        new TextLayout(
+        TextLayoutCache.getTextLayout(
             heatMapSeries.getMax() + "",
             chart.getStyler().getLegendFont(),
             new FontRenderContext(null, true, false));
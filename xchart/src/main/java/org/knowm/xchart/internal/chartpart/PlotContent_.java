@@ -45,14 +45,7 @@ public abstract class PlotContent_<ST extends Styler, S extends Series> implemen
       return;
     }
 
-    java.awt.Shape saveClip = g.getClip();
-    // this is for preventing the series to be drawn outside the plot area if min and max is
-    // overridden to fall inside the data range
-    if (saveClip != null) {
-      g.setClip(bounds.createIntersection(saveClip.getBounds2D()));
-    } else {
-      g.setClip(bounds);
-    }
+    java.awt.Shape saveClip = clip(g, bounds);
 
     if (chart.getStyler().isToolTipsEnabled() && toolTips != null) {
       toolTips.clearData();
@@ -60,7 +53,35 @@ public abstract class PlotContent_<ST extends Styler, S extends Series> implemen
 
     doPaint(g);
 
-    // after painting the plot content, paint the tooltip(s) if necessary
+    // after painting the plot content, paint the overlay, unless it's painted on its own
+    if (!chart.isOverlayPaintedSeparately()) {
+      doPaintOverlay(g);
+    }
+
+    g.setClip(saveClip);
+  }
+
+  /**
+   * Paints the overlay of the plot content painted before, clipped to the plot content the same as
+   * when painted with it
+   *
+   * @param g
+   */
+  void paintOverlay(Graphics2D g) {
+
+    Rectangle2D bounds = getBounds();
+    if (bounds.getWidth() < 30) {
+      return;
+    }
+
+    java.awt.Shape saveClip = clip(g, bounds);
+    doPaintOverlay(g);
+    g.setClip(saveClip);
+  }
+
+  /** Paints the tool tip(s) and zoom selection on top of the plot content */
+  void doPaintOverlay(Graphics2D g) {
+
     if (chart.getStyler().isToolTipsEnabled() && toolTips != null) {
       toolTips.paint(g);
     }
@@ -69,8 +90,20 @@ public abstract class PlotContent_<ST extends Styler, S extends Series> implemen
     if (chart instanceof XYChart && ((XYStyler) chart.getStyler()).isZoomEnabled()) {
       chartZoom.paint(g);
     }
+  }
 
-    g.setClip(saveClip);
+  /** Clips g to the plot content bounds and returns the previous clip */
+  private static java.awt.Shape clip(Graphics2D g, Rectangle2D bounds) {
+
+    java.awt.Shape saveClip = g.getClip();
+    // this is for preventing the series to be drawn outside the plot area if min and max is
+    // overridden to fall inside the data range
+    if (saveClip != null) {
+      g.setClip(bounds.createIntersection(saveClip.getBounds2D()));
+    } else {
+      g.setClip(bounds);
+    }
+    return saveClip;
   }
 
   @Override
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import org.knowm.xchart.CategorySeries;
 import org.knowm.xchart.CategorySeries.CategorySeriesRenderStyle;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.internal.Utils;
 import org.knowm.xchart.style.CategoryStyler;
 import org.knowm.xchart.style.lines.SeriesLines;
@@ -587,7 +588,7 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
     String numberAsString = chart.getYAxisFormat().format(next);
 
     TextLayout textLayout =
-        new TextLayout(
+        TextLayoutCache.getTextLayout(
             numberAsString,
             stylerCategory.getLabelsFont(),
             new FontRenderContext(null, true, false));
@@ -2,7 +2,6 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.*;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
@@ -11,6 +10,7 @@ import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.Map;
 import org.knowm.xchart.DialSeries;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.style.DialStyler;
 
 public class PlotContent_Dial<ST extends DialStyler, S extends DialSeries>
@@ -95,10 +95,9 @@ public class PlotContent_Dial<ST extends DialStyler, S extends DialSeries>
         }
         String labels = axisTickLabels[i];
 
-        TextLayout textLayout =
-            new TextLayout(
+        Shape shape =
+            TextLayoutCache.getOutline(
                 labels, styler.getAxisTitleFont(), new FontRenderContext(null, true, false));
-        Shape shape = textLayout.getOutline(null);
 
         Rectangle2D labelBounds = shape.getBounds2D();
         double labelWidth = labelBounds.getWidth();
@@ -142,12 +141,11 @@ public class PlotContent_Dial<ST extends DialStyler, S extends DialSeries>
 
       // draw title
       if (styler.isAxisTitleVisible()) {
-        TextLayout textLayout =
-            new TextLayout(
+        Shape shape =
+            TextLayoutCache.getOutline(
                 series.getName(),
                 styler.getAxisTitleFont(),
                 new FontRenderContext(null, true, false));
-        Shape shape = textLayout.getOutline(null);
 
         Rectangle2D labelBounds = shape.getBounds2D();
         double labelWidth = labelBounds.getWidth();
@@ -182,10 +180,9 @@ public class PlotContent_Dial<ST extends DialStyler, S extends DialSeries>
           }
         }
         if (!label.isEmpty()) {
-          TextLayout textLayout =
-              new TextLayout(
+          Shape shape =
+              TextLayoutCache.getOutline(
                   label, styler.getLabelsFont(), new FontRenderContext(null, true, false));
-          Shape shape = textLayout.getOutline(null);
 
           Rectangle2D labelBounds = shape.getBounds2D();
           double labelnWidth = labelBounds.getWidth();
@@ -2,14 +2,18 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.font.FontRenderContext;
 import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.text.DecimalFormat;
 import java.util.List;
 import org.knowm.xchart.HeatMapChart;
 import org.knowm.xchart.HeatMapSeries;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.internal.Utils;
 import org.knowm.xchart.style.HeatMapStyler;
 
@@ -18,6 +22,10 @@ public class PlotContent_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeri
 
   private final ST heatMapStyler;
   private final DecimalFormat df = new DecimalFormat("");
+  private final HeatMapColorMap colorMap = new HeatMapColorMap();
+
+  // one pixel per cell of dense heat data, re-used while the grid size doesn't change
+  private BufferedImage denseImage;
 
   /**
    * Constructor
@@ -44,6 +52,7 @@ public class PlotContent_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeri
     if (heatMapStyler.getHeatMapValueDecimalPattern() != null) {
       df.applyPattern(heatMapStyler.getHeatMapValueDecimalPattern());
     }
+    colorMap.update(heatMapStyler);
 
     Rectangle2D plotContentBounds = getBounds();
 
@@ -52,16 +61,22 @@ public class PlotContent_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeri
       return;
     }
 
+    List<?> xData = series.getXData();
+    List<?> yData = series.getYData();
+    double rectWidth = (plotContentBounds.getWidth() - 2 * xLeftMargin) / xData.size();
+    double rectHeight = (plotContentBounds.getHeight() - 2 * yTopMargin) / yData.size();
+    double xStart = plotContentBounds.getX() + xLeftMargin;
+    double yStart = plotContentBounds.getY() + yTopMargin;
+
+    if (series.isDense()) {
+      paintDenseHeatData(g, series, xStart, yStart, rectWidth, rectHeight);
+      return;
+    }
+
     int x = 0;
     int y = 0;
     Number value = 0.0;
     List<? extends Number[]> list = series.getHeatData();
-    List<?> xData = series.getXData();
-    List<?> yData = series.getYData();
-    double plotContentBoundsWidth = plotContentBounds.getWidth();
-    double plotContentBoundsHeight = plotContentBounds.getHeight();
-    double rectWidth = (plotContentBoundsWidth - 2 * xLeftMargin) / xData.size();
-    double rectHeight = (plotContentBoundsHeight - 2 * yTopMargin) / yData.size();
     double xOffset = 0.0;
     double yOffset = 0.0;
     Rectangle2D rect = null;
@@ -76,143 +91,121 @@ public class PlotContent_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeri
       if (x >= xData.size() || y >= yData.size()) {
         continue;
       }
-      xOffset = getBounds().getX() + xLeftMargin + rectWidth * x;
-      yOffset = getBounds().getY() + yTopMargin + rectHeight * (yData.size() - 1 - y);
+      xOffset = xStart + rectWidth * x;
+      yOffset = yStart + rectHeight * (yData.size() - 1 - y);
       rect = new Rectangle2D.Double(xOffset, yOffset, rectWidth, rectHeight);
-      heatMapValueColor = getColor(series, value.doubleValue());
+      heatMapValueColor = colorMap.getColor(value.doubleValue(), series.getMin(), series.getMax());
       g.setColor(heatMapValueColor);
       g.fill(rect);
 
-      // draw rect border
-      if (heatMapStyler.isDrawBorder()) {
-        g.setColor(heatMapValueColor);
-        g.setStroke(SOLID_STROKE);
-        g.draw(rect);
-      }
-
-      // show heat data value
-      if (heatMapStyler.isShowValue()) {
-        showValue(g, rect, df.format(numbers[2]));
-      }
-
-      if (heatMapStyler.isToolTipsEnabled()) {
-        toolTips.addData(
-            rect,
-            rect.getCenterX(),
-            rect.getCenterY() + heatMapStyler.getToolTipFont().getSize(),
-            0,
-            series.getName()
-                + ": "
-                + chart.getXAxisFormat().format(xData.get(x))
-                + ", "
-                + chart.getYAxisFormat().format(yData.get(y))
-                + ", "
-                + df.format(numbers[2]));
-      }
+      paintCellDecorations(g, series, rect, heatMapValueColor, x, y, numbers[2]);
     }
   }
 
-  private Color getColor(HeatMapSeries series, double value) {
+  /**
+   * Paints dense heat data by writing the color of each cell into an image with a pixel per cell
+   * and drawing that image scaled to the plot with a single drawImage, instead of filling a
+   * rectangle per cell
+   */
+  private void paintDenseHeatData(
+      Graphics2D g,
+      HeatMapSeries series,
+      double xStart,
+      double yStart,
+      double rectWidth,
+      double rectHeight) {
+
+    int columns = series.getXData().size();
+    int rows = series.getYData().size();
+    if (denseImage == null || denseImage.getWidth() != columns || denseImage.getHeight() != rows) {
+      denseImage = new BufferedImage(columns, rows, BufferedImage.TYPE_INT_ARGB);
+    }
+    int[] pixels = ((DataBufferInt) denseImage.getRaster().getDataBuffer()).getData();
 
-    Color color = null;
-    Color[] rangeColors = chart.getStyler().getRangeColors();
     double min = series.getMin();
     double max = series.getMax();
-    if (value <= min) {
-      color = rangeColors[0];
-    } else if (value >= max) {
-      color = rangeColors[rangeColors.length - 1];
-    } else {
-      double valueRation = (value - min) / (max - min);
-      if (heatMapStyler.isPiecewise()) {
-        color = getPiecewiseColor(rangeColors, valueRation);
-      } else {
-        color = getGradientColor(rangeColors, valueRation);
+    for (int y = 0; y < rows; y++) {
+      // the first Y-Axis value is at the bottom
+      int pixel = (rows - 1 - y) * columns;
+      for (int x = 0; x < columns; x++) {
+        double value = series.getDenseValue(y * columns + x);
+        pixels[pixel++] = Double.isNaN(value) ? 0 : colorMap.getRGB(value, min, max);
       }
     }
-    return color;
-  }
 
-  private Color getPiecewiseColor(Color[] rangeColors, double valueRation) {
-
-    Color color = null;
-    int splitNumber = chart.getStyler().getSplitNumber();
-    int splitNumberIndex = (int) (valueRation * splitNumber);
-    for (int i = 0; i < splitNumber; i++) {
-      if (splitNumberIndex == 0) {
-        color = rangeColors[0];
-        break;
-      } else if (splitNumberIndex == splitNumber - 1) {
-        color = rangeColors[rangeColors.length - 1];
-        break;
-      } else {
-        double index = (double) i / splitNumber * rangeColors.length;
-        int beginColorIndex = (int) index;
-        int endColorIndex = 0;
-        if (rangeColors.length != 1) {
-          endColorIndex = beginColorIndex + 1;
-        } else {
-          endColorIndex = beginColorIndex;
-        }
+    Object oldHint = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+    g.setRenderingHint(
+        RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+    g.drawImage(denseImage, new AffineTransform(rectWidth, 0, 0, rectHeight, xStart, yStart), null);
+    if (oldHint != null) {
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, oldHint);
+    }
 
-        if (splitNumberIndex == i) {
-          Color beginColor = rangeColors[beginColorIndex];
-          Color endColor = rangeColors[endColorIndex];
-          int red =
-              (int)
-                  (beginColor.getRed()
-                      + (index - (int) index) * (endColor.getRed() - beginColor.getRed()));
-          int green =
-              (int)
-                  (beginColor.getGreen()
-                      + (index - (int) index) * (endColor.getGreen() - beginColor.getGreen()));
-          int blue =
-              (int)
-                  (beginColor.getBlue()
-                      + (index - (int) index) * (endColor.getBlue() - beginColor.getBlue()));
-          color = new Color(red, green, blue);
-          break;
+    // borders, values and tooltips still need a pass over the cells
+    if (!heatMapStyler.isDrawBorder()
+        && !heatMapStyler.isShowValue()
+        && !heatMapStyler.isToolTipsEnabled()) {
+      return;
+    }
+    for (int y = 0; y < rows; y++) {
+      for (int x = 0; x < columns; x++) {
+        double value = series.getDenseValue(y * columns + x);
+        if (Double.isNaN(value)) {
+          continue;
         }
+        Rectangle2D rect =
+            new Rectangle2D.Double(
+                xStart + rectWidth * x,
+                yStart + rectHeight * (rows - 1 - y),
+                rectWidth,
+                rectHeight);
+        paintCellDecorations(g, series, rect, colorMap.getColor(value, min, max), x, y, value);
       }
     }
-    return color;
   }
 
-  private Color getGradientColor(Color[] rangeColors, double valueRation) {
-
-    double index = valueRation * (rangeColors.length - 1);
-    Color color = null;
-    int beginColorIndex = (int) index;
-    int endColorIndex = 0;
+  /** Paints the border and value of a cell and adds its tooltip, if enabled */
+  private void paintCellDecorations(
+      Graphics2D g,
+      HeatMapSeries series,
+      Rectangle2D rect,
+      Color color,
+      int x,
+      int y,
+      Number value) {
+
+    // draw rect border
+    if (heatMapStyler.isDrawBorder()) {
+      g.setColor(color);
+      g.setStroke(SOLID_STROKE);
+      g.draw(rect);
+    }
 
-    if (rangeColors.length != 1) {
-      endColorIndex = beginColorIndex + 1;
-    } else {
-      endColorIndex = beginColorIndex;
+    // show heat data value
+    if (heatMapStyler.isShowValue()) {
+      showValue(g, rect, df.format(value));
     }
 
-    Color beginColor = rangeColors[beginColorIndex];
-    Color endColor = rangeColors[endColorIndex];
-
-    if ((int) index < rangeColors.length - 1) {
-      int red =
-          (int)
-              (beginColor.getRed()
-                  + (index - (int) index) * (endColor.getRed() - beginColor.getRed()));
-      int green =
-          (int)
-              (beginColor.getGreen()
-                  + (index - (int) index) * (endColor.getGreen() - beginColor.getGreen()));
-      int blue =
-          (int)
-              (beginColor.getBlue()
-                  + (index - (int) index) * (endColor.getBlue() - beginColor.getBlue()));
-      color = new Color(red, green, blue);
-    } else {
-      color = endColor;
+    if (heatMapStyler.isToolTipsEnabled()) {
+      toolTips.addData(
+          rect,
+          rect.getCenterX(),
+          rect.getCenterY() + heatMapStyler.getToolTipFont().getSize(),
+          0,
+          series.getName()
+              + ": "
+              + chart.getXAxisFormat().format(series.getXData().get(x))
+              + ", "
+              + chart.getYAxisFormat().format(series.getYData().get(y))
+              + ", "
+              + df.format(value));
     }
+  }
+
+  /** The colors of the heat data values, also used by the legend */
+  HeatMapColorMap getColorMap() {
 
-    return color;
+    return colorMap;
   }
 
   private void showValue(Graphics2D g, Rectangle2D rect, String value) {
@@ -220,9 +213,8 @@ public class PlotContent_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeri
     double rectCenterX = rect.getCenterX();
     double rectCenterY = rect.getCenterY();
 
-    TextLayout textLayout =
-        new TextLayout(
-            value, heatMapStyler.getValueFont(), new FontRenderContext(null, true, false));
+    FontRenderContext frc = new FontRenderContext(null, true, false);
+    TextLayout textLayout = TextLayoutCache.getTextLayout(value, heatMapStyler.getValueFont(), frc);
     Rectangle2D annotationRectangle = textLayout.getBounds();
     g.setColor(heatMapStyler.getValueFontColor());
     AffineTransform orig = g.getTransform();
@@ -231,7 +223,7 @@ public class PlotContent_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeri
         rectCenterX - annotationRectangle.getWidth() / 2,
         rectCenterY + annotationRectangle.getHeight() / 2);
     g.transform(at);
-    g.fill(textLayout.getOutline(null));
+    g.fill(TextLayoutCache.getOutline(value, heatMapStyler.getValueFont(), frc));
     g.setTransform(orig);
   }
 }
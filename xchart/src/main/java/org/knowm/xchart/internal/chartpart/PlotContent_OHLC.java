@@ -7,6 +7,7 @@ import java.awt.geom.Rectangle2D;
 import java.util.Map;
 import org.knowm.xchart.OHLCSeries;
 import org.knowm.xchart.OHLCSeries.OHLCSeriesRenderStyle;
+import org.knowm.xchart.StreamingOHLCSeries;
 import org.knowm.xchart.internal.Utils;
 import org.knowm.xchart.style.AxesChartStyler;
 import org.knowm.xchart.style.lines.SeriesLines;
@@ -149,12 +150,19 @@ public class PlotContent_OHLC<ST extends AxesChartStyler, S extends OHLCSeries>
         }
       } else {
 
+        if (series instanceof StreamingOHLCSeries && !ohlcStyler.isXAxisLogarithmic()) {
+          // only the candles in range, merged when zoomed out so they don't get too narrow
+          ((StreamingOHLCSeries) series)
+              .setPaintedRange(chart.getXAxis().getMin(), chart.getXAxis().getMax(), xTickSpace);
+        }
+
         // data points
         double[] xData = series.getXData();
         double[] openData = series.getOpenData();
         double[] highData = series.getHighData();
         double[] lowData = series.getLowData();
         double[] closeData = series.getCloseData();
+        long[] volumeData = series.getVolumeData();
 
         double candleHalfWidth =
             Math.max(3, xTickSpace / xData.length / 2 - ohlcStyler.getAxisTickPadding());
@@ -293,9 +301,9 @@ public class PlotContent_OHLC<ST extends AxesChartStyler, S extends OHLCSeries>
           if (chart.getStyler().isToolTipsEnabled()) {
 
             StringBuilder sb = new StringBuilder();
-            if (series.getVolumeData() != null) {
+            if (volumeData != null) {
               sb.append(chart.getXAxisFormat().format(x));
-              sb.append(System.lineSeparator()).append("Volume: " + series.getVolumeData()[i]);
+              sb.append(System.lineSeparator()).append("Volume: " + volumeData[i]);
               sb.append(System.lineSeparator()).append(" ").append(System.lineSeparator());
             }
             sb.append(chart.getXAxisFormat().format(x));
@@ -9,6 +9,7 @@ import java.text.DecimalFormat;
 import java.util.Map;
 import org.knowm.xchart.PieSeries;
 import org.knowm.xchart.PieSeries.PieSeriesRenderStyle;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.style.PieStyler;
 import org.knowm.xchart.style.PieStyler.ClockwiseDirectionType;
 import org.knowm.xchart.style.PieStyler.LabelType;
@@ -293,7 +294,7 @@ public class PlotContent_Pie<ST extends PieStyler, S extends PieSeries>
         }
 
         TextLayout textLayout =
-            new TextLayout(
+            TextLayoutCache.getTextLayout(
                 label, pieStyler.getLabelsFont(), new FontRenderContext(null, true, false));
         Rectangle2D labelRectangle = textLayout.getBounds();
 
@@ -312,7 +313,9 @@ public class PlotContent_Pie<ST extends PieStyler, S extends PieSeries>
                     * (pieBounds.getHeight() / 2 * pieStyler.getLabelsDistance());
 
         // get annotation width
-        Shape shape = textLayout.getOutline(null);
+        Shape shape =
+            TextLayoutCache.getOutline(
+                label, pieStyler.getLabelsFont(), new FontRenderContext(null, true, false));
         Rectangle2D labelBounds = shape.getBounds2D();
         double labelWidth = labelBounds.getWidth();
         // System.out.println("annotationWidth= " + annotationWidth);
@@ -430,9 +433,9 @@ public class PlotContent_Pie<ST extends PieStyler, S extends PieSeries>
               ? df.format(total)
               : String.format(pieStyler.getSumFormat(), total);
 
-      TextLayout textLayout =
-          new TextLayout(label, pieStyler.getSumFont(), new FontRenderContext(null, true, false));
-      Shape shape = textLayout.getOutline(null);
+      FontRenderContext frc = new FontRenderContext(null, true, false);
+      TextLayout textLayout = TextLayoutCache.getTextLayout(label, pieStyler.getSumFont(), frc);
+      Shape shape = TextLayoutCache.getOutline(label, pieStyler.getSumFont(), frc);
       g.setColor(pieStyler.getChartFontColor());
 
       // compute center
@@ -3,7 +3,6 @@ package org.knowm.xchart.internal.chartpart;
 import java.awt.Graphics2D;
 import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Ellipse2D;
 import java.awt.geom.Line2D;
@@ -14,13 +13,15 @@ import java.text.NumberFormat;
 import java.util.Map;
 import org.knowm.xchart.RadarChart;
 import org.knowm.xchart.RadarSeries;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.style.RadarStyler;
 
 public class PlotContent_Radar<ST extends RadarStyler, S extends RadarSeries>
     extends PlotContent_<ST, S> {
 
   private final RadarStyler styler;
-  private static final NumberFormat df = DecimalFormat.getPercentInstance();
+  // not static, NumberFormat isn't thread safe and charts may be painted concurrently
+  private final NumberFormat df = DecimalFormat.getPercentInstance();
 
   /**
    * Constructor
@@ -97,10 +98,9 @@ public class PlotContent_Radar<ST extends RadarStyler, S extends RadarSeries>
       if (styler.isRadiiTitleVisible()) {
 
         String radiiLabel = radiiLabels[i];
-        TextLayout textLayout =
-            new TextLayout(
+        Shape shape =
+            TextLayoutCache.getOutline(
                 radiiLabel, styler.getRadiiTitleFont(), new FontRenderContext(null, true, false));
-        Shape shape = textLayout.getOutline(null);
         Rectangle2D labelBounds = shape.getBounds2D();
         double labelWidth = labelBounds.getWidth();
         double labelHeight = labelBounds.getHeight();
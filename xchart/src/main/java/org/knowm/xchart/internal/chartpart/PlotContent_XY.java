@@ -4,11 +4,15 @@ import java.awt.Graphics2D;
 import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
 import java.text.Format;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import org.knowm.xchart.DataSourceXYSeries;
 import org.knowm.xchart.XYSeries;
 import org.knowm.xchart.XYSeries.XYSeriesRenderStyle;
 import org.knowm.xchart.internal.Utils;
 import org.knowm.xchart.style.XYStyler;
+import org.knowm.xchart.style.XYStyler.DecimationMode;
 import org.knowm.xchart.style.lines.SeriesLines;
 
 public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends PlotContent_<ST, S> {
@@ -17,6 +21,9 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
 
   Cursor cursor;
 
+  // decimated indices of the last paint, re-used as long as data and plot bounds don't change
+  private final Map<S, DecimatedIndices> decimatedIndicesMap = new IdentityHashMap<>();
+
   /**
    * Constructor
    *
@@ -50,6 +57,12 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
       xMax = Math.log10(xMax);
     }
 
+    boolean isLinePathRendering = xyStyler.isLinePathRendering();
+
+    if (xyStyler.isCursorEnabled() && cursor != null) {
+      cursor.clearData();
+    }
+
     Map<String, S> map = chart.getSeriesMap();
 
     for (S series : map.values()) {
@@ -65,9 +78,38 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
         yMax = Math.log10(yMax);
       }
 
-      // data points
-      double[] xData = series.getXData();
-      double[] yData = series.getYData();
+      // data points, read in place from the range of the backing arrays which is zoomed in on
+      double[] xData;
+      double[] yData;
+      int dataOffset;
+      int dataCount;
+      int[] indices;
+      if (series instanceof DataSourceXYSeries) {
+        // only the points within range, read from the data source and already reduced to the plot
+        DataSourceXYSeries dataSourceSeries = (DataSourceXYSeries) series;
+        dataSourceSeries.setPaintedRange(
+            chart.getXAxis().getMin(),
+            chart.getXAxis().getMax(),
+            (int) Math.ceil(getBounds().getWidth()),
+            xyStyler.isXAxisLogarithmic(),
+            yAxis.getMin(),
+            yAxis.getMax(),
+            (int) Math.ceil(getBounds().getHeight()),
+            xyStyler.isYAxisLogarithmic());
+        xData = dataSourceSeries.getPaintedXData();
+        yData = dataSourceSeries.getPaintedYData();
+        dataOffset = 0;
+        dataCount = dataSourceSeries.getPaintedDataCount();
+        indices = null;
+      } else {
+        xData = series.getBackingXData();
+        yData = series.getBackingYData();
+        dataOffset = series.getDataOffset();
+        dataCount = series.getDataCount();
+        // only keep the points that make a visible difference at this plot width
+        indices = getDecimatedIndices(series, xData, yData, dataOffset, dataCount, xMin, xMax);
+      }
+      int pointCount = indices == null ? dataCount : indices.length;
 
       double previousX = -Double.MAX_VALUE;
       double previousY = -Double.MAX_VALUE;
@@ -76,18 +118,46 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
       double polygonStartX = -Double.MAX_VALUE;
       double polygonStartY = -Double.MAX_VALUE;
 
-      double[] errorBars = series.getExtraValues();
+      double[] errorBars = series.getBackingExtraValues();
+
+      // tooltip labels are only formatted for the tooltips shown
+      ToolTips.ToolTipLabeler toolTipLabeler = null;
+      if (chart.getStyler().isToolTipsEnabled()) {
+        Format xFormat = chart.getXAxisFormat();
+        Format yFormat = chart.getYAxisFormat(series.getYAxisDecimalPattern());
+        boolean isXAxisLogarithmic = xyStyler.isXAxisLogarithmic();
+        toolTipLabeler =
+            index ->
+                toolTips.getLabel(
+                    xFormat.format(isXAxisLogarithmic ? Math.log10(xData[index]) : xData[index]),
+                    yFormat.format(yData[index]));
+      }
+      Cursor.DataPointFormatter cursorFormatter = null;
+      if (xyStyler.isCursorEnabled()) {
+        cursorFormatter = getCursorFormatter(series, xData, yData);
+      }
       Path2D.Double path = null;
-      // smooth curve
-      Path2D.Double smoothPath = null;
+      // smooth curve or, with line path rendering, the current contiguous run of the line
+      Path2D.Double linePath = null;
+      // with line path rendering, the markers and error bars of the current run of the line
+      DeferredPoints deferredPoints = null;
+      if (isLinePathRendering
+          && series.getLineStyle() != SeriesLines.NONE
+          && XYSeriesRenderStyle.Scatter != series.getXYSeriesRenderStyle()) {
+        deferredPoints = new DeferredPoints();
+      }
 
       // for area charts
       double yZeroTransform =
           getBounds().getHeight() - (yTopMargin + (0 - yMin) / (yMax - yMin) * yTickSpace);
       double yZeroOffset = yZeroTransform + getBounds().getY();
 
-      for (int i = 0; i < xData.length; i++) {
+      for (int k = 0; k < pointCount; k++) {
 
+        int i = indices == null ? dataOffset + k : indices[k];
+        if (!series.isInView(i)) {
+          continue;
+        }
         double x = xData[i];
         // System.out.println(x);
         if (xyStyler.isXAxisLogarithmic()) {
@@ -103,11 +173,14 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
           closePathXY(g, path, previousX, yZeroOffset, polygonStartX, polygonStartY);
           path = null;
 
-          if (smoothPath != null) {
+          if (linePath != null) {
             g.setColor(series.getLineColor());
             g.setStroke(series.getLineStyle());
-            g.draw(smoothPath);
-            smoothPath = null;
+            g.draw(linePath);
+            linePath = null;
+          }
+          if (deferredPoints != null) {
+            deferredPoints.paint(g, series, line);
           }
 
           previousX = -Double.MAX_VALUE;
@@ -163,33 +236,47 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
           if (series.getLineStyle() != SeriesLines.NONE) {
 
             if (previousX != -Double.MAX_VALUE && previousY != -Double.MAX_VALUE) {
-              g.setColor(series.getLineColor());
-              g.setStroke(series.getLineStyle());
-              if (isSeriesLineOrArea) {
-                if (series.isSmooth()) {
-                  if (smoothPath == null) {
-                    smoothPath = new Path2D.Double();
-                    smoothPath.moveTo(previousX, previousY);
+              if ((isSeriesLineOrArea && series.isSmooth()) || isLinePathRendering) {
+                // the line is collected into one path and stroked once per contiguous run
+                if (linePath == null) {
+                  linePath = new Path2D.Double();
+                  linePath.moveTo(previousX, previousY);
+                }
+                if (isSeriesLineOrArea) {
+                  if (series.isSmooth()) {
+                    linePath.curveTo(
+                        (previousX + xOffset) / 2,
+                        previousY,
+                        (previousX + xOffset) / 2,
+                        yOffset,
+                        xOffset,
+                        yOffset);
+                  } else {
+                    linePath.lineTo(xOffset, yOffset);
                   }
-                  smoothPath.curveTo(
-                      (previousX + xOffset) / 2,
-                      previousY,
-                      (previousX + xOffset) / 2,
-                      yOffset,
-                      xOffset,
-                      yOffset);
                 } else {
-                  line.setLine(previousX, previousY, xOffset, yOffset);
-                  g.draw(line);
+                  if (previousX != xOffset) {
+                    linePath.lineTo(xOffset, previousY);
+                  }
+                  if (previousY != yOffset) {
+                    linePath.lineTo(xOffset, yOffset);
+                  }
                 }
               } else {
-                if (previousX != xOffset) {
-                  line.setLine(previousX, previousY, xOffset, previousY);
-                  g.draw(line);
-                }
-                if (previousY != yOffset) {
-                  line.setLine(xOffset, previousY, xOffset, yOffset);
+                g.setColor(series.getLineColor());
+                g.setStroke(series.getLineStyle());
+                if (isSeriesLineOrArea) {
+                  line.setLine(previousX, previousY, xOffset, yOffset);
                   g.draw(line);
+                } else {
+                  if (previousX != xOffset) {
+                    line.setLine(previousX, previousY, xOffset, previousY);
+                    g.draw(line);
+                  }
+                  if (previousY != yOffset) {
+                    line.setLine(xOffset, previousY, xOffset, yOffset);
+                    g.draw(line);
+                  }
                 }
               }
             }
@@ -244,25 +331,13 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
         previousX = xOffset;
         previousY = yOffset;
 
-        // paint marker
-        if (series.getMarker() != null) {
-          g.setColor(series.getMarkerColor());
-          series.getMarker().paint(g, xOffset, yOffset, xyStyler.getMarkerSize());
-        }
-
-        // paint error bars
+        // error bar ends, NaN without error bars
+        double topEBOffset = Double.NaN;
+        double bottomEBOffset = Double.NaN;
         if (errorBars != null) {
 
           double eb = errorBars[i];
 
-          // set error bar style
-          if (xyStyler.isErrorBarsColorSeriesColor()) {
-            g.setColor(series.getLineColor());
-          } else {
-            g.setColor(xyStyler.getErrorBarsColor());
-          }
-          g.setStroke(ERROR_BAR_STROKE);
-
           // Top value
           double topValue;
           if (xyStyler.isYAxisLogarithmic()) {
@@ -274,7 +349,7 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
           double topEBTransform =
               getBounds().getHeight()
                   - (yTopMargin + (topValue - yMin) / (yMax - yMin) * yTickSpace);
-          double topEBOffset = getBounds().getY() + topEBTransform;
+          topEBOffset = getBounds().getY() + topEBTransform;
 
           // Bottom value
           double bottomValue;
@@ -288,56 +363,86 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
           double bottomEBTransform =
               getBounds().getHeight()
                   - (yTopMargin + (bottomValue - yMin) / (yMax - yMin) * yTickSpace);
-          double bottomEBOffset = getBounds().getY() + bottomEBTransform;
-
-          // Draw it
-          line.setLine(xOffset, topEBOffset, xOffset, bottomEBOffset);
-          g.draw(line);
-          line.setLine(xOffset - 3, bottomEBOffset, xOffset + 3, bottomEBOffset);
-          g.draw(line);
-          line.setLine(xOffset - 3, topEBOffset, xOffset + 3, topEBOffset);
-          g.draw(line);
+          bottomEBOffset = getBounds().getY() + bottomEBTransform;
+        }
+
+        if (deferredPoints != null) {
+          // painted once the line of the run is stroked, so the line doesn't cover them
+          deferredPoints.add(xOffset, yOffset, topEBOffset, bottomEBOffset);
+        } else {
+          paintMarkerAndErrorBar(g, series, line, xOffset, yOffset, topEBOffset, bottomEBOffset);
         }
 
         // add tooltips
-        if (chart.getStyler().isToolTipsEnabled()) {
-          toolTips.addData(
-              xOffset,
-              yOffset,
-              chart.getXAxisFormat().format(x),
-              chart.getYAxisFormat(series.getYAxisDecimalPattern()).format(yOrig));
+        if (toolTipLabeler != null) {
+          toolTips.addData(xOffset, yOffset, toolTipLabeler, i);
         }
 
-        if (xyStyler.isCursorEnabled()) {
-          Format xFormat;
-          Format yFormat;
-          if (xyStyler.getCustomCursorXDataFormattingFunction() == null) {
-            xFormat = chart.getXAxisFormat();
-          } else {
-            xFormat = new Formatter_Custom(xyStyler.getCustomCursorXDataFormattingFunction());
-          }
-          if (xyStyler.getCustomCursorYDataFormattingFunction() == null) {
-            yFormat = chart.getYAxisFormat(series.getYAxisDecimalPattern());
-          } else {
-            yFormat = new Formatter_Custom(xyStyler.getCustomCursorYDataFormattingFunction());
-          }
-          cursor.addData(
-              xOffset, yOffset, xFormat.format(x), yFormat.format(yOrig), series.getName());
+        if (cursorFormatter != null) {
+          cursor.addData(xOffset, yOffset, cursorFormatter, i, series.getName());
         }
       }
 
-      if (smoothPath != null) {
+      if (linePath != null) {
         g.setColor(series.getLineColor());
         g.setStroke(series.getLineStyle());
-        g.draw(smoothPath);
+        g.draw(linePath);
+      }
+      if (deferredPoints != null) {
+        deferredPoints.paint(g, series, line);
       }
       // close any open path for area charts
       g.setColor(series.getFillColor());
       closePathXY(g, path, previousX, yZeroOffset, polygonStartX, polygonStartY);
     }
-    if (chart.getStyler().isCursorEnabled()) {
+    // forget removed series
+    decimatedIndicesMap.keySet().retainAll(map.values());
+  }
+
+  /** Paints the marker and error bar of a point, the error bar only if its ends aren't NaN */
+  private void paintMarkerAndErrorBar(
+      Graphics2D g,
+      S series,
+      Line2D.Double line,
+      double xOffset,
+      double yOffset,
+      double topEBOffset,
+      double bottomEBOffset) {
+
+    // paint marker
+    if (series.getMarker() != null) {
+      g.setColor(series.getMarkerColor());
+      series.getMarker().paint(g, xOffset, yOffset, xyStyler.getMarkerSize());
+    }
+
+    // paint error bars
+    if (!Double.isNaN(topEBOffset)) {
+
+      // set error bar style
+      if (xyStyler.isErrorBarsColorSeriesColor()) {
+        g.setColor(series.getLineColor());
+      } else {
+        g.setColor(xyStyler.getErrorBarsColor());
+      }
+      g.setStroke(ERROR_BAR_STROKE);
+
+      // Draw it
+      line.setLine(xOffset, topEBOffset, xOffset, bottomEBOffset);
+      g.draw(line);
+      line.setLine(xOffset - 3, bottomEBOffset, xOffset + 3, bottomEBOffset);
+      g.draw(line);
+      line.setLine(xOffset - 3, topEBOffset, xOffset + 3, topEBOffset);
+      g.draw(line);
+    }
+  }
+
+  @Override
+  void doPaintOverlay(Graphics2D g) {
+
+    if (chart.getStyler().isCursorEnabled() && cursor != null) {
       cursor.paint(g);
     }
+    super.doPaintOverlay(g);
   }
 
   void closePathXY(
@@ -358,7 +463,158 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
     }
   }
 
+  /**
+   * Gets the indices of the points of the series to render, or null if all of them should be
+   * rendered. The result is cached until the data, the axis range or the plot width changes, i.e.
+   * it is recalculated after zooming or updating the series.
+   */
+  private int[] getDecimatedIndices(
+      S series,
+      double[] xData,
+      double[] yData,
+      int dataOffset,
+      int dataCount,
+      double xMin,
+      double xMax) {
+
+    DecimationMode decimationMode =
+        series.getDecimationMode() != null
+            ? series.getDecimationMode()
+            : xyStyler.getDecimationMode();
+    // scatter and polygon series don't draw a continuous line, so all points are needed
+    XYSeriesRenderStyle renderStyle = series.getXYSeriesRenderStyle();
+    if (decimationMode == null
+        || decimationMode == DecimationMode.None
+        || renderStyle == XYSeriesRenderStyle.Scatter
+        || renderStyle == XYSeriesRenderStyle.PolygonArea) {
+      decimatedIndicesMap.remove(series);
+      return null;
+    }
+
+    int columns = (int) Math.ceil(getBounds().getWidth());
+    DecimatedIndices decimatedIndices = decimatedIndicesMap.get(series);
+    if (decimatedIndices == null
+        || !decimatedIndices.isValid(
+            decimationMode, series.getDataVersion(), xMin, xMax, columns)) {
+      decimatedIndices =
+          new DecimatedIndices(
+              decimationMode,
+              series.getDataVersion(),
+              xMin,
+              xMax,
+              columns,
+              XYDecimator.decimate(
+                  decimationMode,
+                  xData,
+                  yData,
+                  dataOffset,
+                  dataOffset + dataCount,
+                  xMin,
+                  xMax,
+                  columns,
+                  xyStyler.isXAxisLogarithmic()));
+      decimatedIndicesMap.put(series, decimatedIndices);
+    }
+    return decimatedIndices.indices;
+  }
+
+  private Cursor.DataPointFormatter getCursorFormatter(S series, double[] xData, double[] yData) {
+
+    Format xFormat;
+    Format yFormat;
+    if (xyStyler.getCustomCursorXDataFormattingFunction() == null) {
+      xFormat = chart.getXAxisFormat();
+    } else {
+      xFormat = new Formatter_Custom(xyStyler.getCustomCursorXDataFormattingFunction());
+    }
+    if (xyStyler.getCustomCursorYDataFormattingFunction() == null) {
+      yFormat = chart.getYAxisFormat(series.getYAxisDecimalPattern());
+    } else {
+      yFormat = new Formatter_Custom(xyStyler.getCustomCursorYDataFormattingFunction());
+    }
+    boolean isXAxisLogarithmic = xyStyler.isXAxisLogarithmic();
+    return new Cursor.DataPointFormatter() {
+
+      @Override
+      public String formatX(int index) {
+
+        return xFormat.format(isXAxisLogarithmic ? Math.log10(xData[index]) : xData[index]);
+      }
+
+      @Override
+      public String formatY(int index) {
+
+        return yFormat.format(yData[index]);
+      }
+    };
+  }
+
   public void setCursor(Cursor cursor) {
     this.cursor = cursor;
   }
+
+  private static class DecimatedIndices {
+
+    private final DecimationMode decimationMode;
+    private final int dataVersion;
+    private final double xMin;
+    private final double xMax;
+    private final int columns;
+    private final int[] indices;
+
+    DecimatedIndices(
+        DecimationMode decimationMode,
+        int dataVersion,
+        double xMin,
+        double xMax,
+        int columns,
+        int[] indices) {
+
+      this.decimationMode = decimationMode;
+      this.dataVersion = dataVersion;
+      this.xMin = xMin;
+      this.xMax = xMax;
+      this.columns = columns;
+      this.indices = indices;
+    }
+
+    boolean isValid(
+        DecimationMode decimationMode, int dataVersion, double xMin, double xMax, int columns) {
+
+      return this.decimationMode == decimationMode
+          && this.dataVersion == dataVersion
+          && this.xMin == xMin
+          && this.xMax == xMax
+          && this.columns == columns;
+    }
+  }
+
+  /** The markers and error bars of a run of a line, painted after the line */
+  private class DeferredPoints {
+
+    // x, y, top and bottom error bar offsets of each point
+    private double[] offsets = new double[64];
+    private int size;
+
+    void add(double xOffset, double yOffset, double topEBOffset, double bottomEBOffset) {
+
+      if (size + 4 > offsets.length) {
+        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+      }
+      offsets[size++] = xOffset;
+      offsets[size++] = yOffset;
+      offsets[size++] = topEBOffset;
+      offsets[size++] = bottomEBOffset;
+    }
+
+    /** Paints the points added since the last paint */
+    void paint(Graphics2D g, S series, Line2D.Double line) {
+
+      for (int k = 0; k < size; k += 4) {
+        paintMarkerAndErrorBar(
+            g, series, line, offsets[k], offsets[k + 1], offsets[k + 2], offsets[k + 3]);
+      }
+      size = 0;
+    }
+  }
 }
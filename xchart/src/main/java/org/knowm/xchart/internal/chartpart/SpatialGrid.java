@@ -0,0 +1,182 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * A uniform grid indexing items, e.g. tooltips, by the cells their bounds overlap, so that a hit
+ * test at a point only has to look at the items near it instead of all of them. Items are
+ * identified by the order they were added in, starting at 0, and are returned in that order. The
+ * grid is built on the first query after items were added.
+ */
+class SpatialGrid {
+
+  /** The preferred cell width and height in pixels */
+  static final double CELL_SIZE = 16;
+
+  private static final int MAX_CELLS_PER_AXIS = 512;
+
+  // the bounds of the items, 4 values (minX, minY, maxX, maxY) per item
+  private double[] bounds = new double[64];
+  private int itemCount;
+
+  // the grid, items of cell c are cellItems[cellStart[c]] to cellItems[cellStart[c + 1] - 1]
+  private boolean isBuilt;
+  private double originX;
+  private double originY;
+  private double cellWidth;
+  private double cellHeight;
+  private int columns;
+  private int rows;
+  private int[] cellStart;
+  private int[] cellItems;
+
+  /**
+   * Adds an item
+   *
+   * @return the id of the item
+   */
+  int add(double minX, double minY, double maxX, double maxY) {
+
+    if (4 * itemCount == bounds.length) {
+      bounds = Arrays.copyOf(bounds, 2 * bounds.length);
+    }
+    int offset = 4 * itemCount;
+    bounds[offset] = minX;
+    bounds[offset + 1] = minY;
+    bounds[offset + 2] = maxX;
+    bounds[offset + 3] = maxY;
+    isBuilt = false;
+    return itemCount++;
+  }
+
+  void clear() {
+
+    itemCount = 0;
+    isBuilt = false;
+    cellItems = null;
+  }
+
+  int size() {
+
+    return itemCount;
+  }
+
+  /**
+   * Finds the first item, in the order they were added, whose bounds may contain the given point
+   * and which passes the given hit test
+   *
+   * @return the id of the item or -1 if there is none
+   */
+  int findFirst(double x, double y, IntPredicate hitTest) {
+
+    if (itemCount == 0) {
+      return -1;
+    }
+    build();
+    int cell = getCell(x, y);
+    for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+      if (hitTest.test(cellItems[i])) {
+        return cellItems[i];
+      }
+    }
+    return -1;
+  }
+
+  /** Passes all items whose bounds may contain the given point to the given consumer, in order */
+  void forEachCandidate(double x, double y, IntConsumer consumer) {
+
+    if (itemCount == 0) {
+      return;
+    }
+    build();
+    int cell = getCell(x, y);
+    for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+      consumer.accept(cellItems[i]);
+    }
+  }
+
+  private int getCell(double x, double y) {
+
+    return getRow(y) * columns + getColumn(x);
+  }
+
+  // points outside of the grid are clamped to the cells at its edge, the same as the items
+  private int getColumn(double x) {
+
+    return (int) Math.max(0, Math.min(columns - 1, Math.floor((x - originX) / cellWidth)));
+  }
+
+  private int getRow(double y) {
+
+    return (int) Math.max(0, Math.min(rows - 1, Math.floor((y - originY) / cellHeight)));
+  }
+
+  /** Sorts the items into the cells their bounds overlap with two passes of a counting sort */
+  private void build() {
+
+    if (isBuilt) {
+      return;
+    }
+    isBuilt = true;
+
+    double minX = Double.MAX_VALUE;
+    double minY = Double.MAX_VALUE;
+    double maxX = -Double.MAX_VALUE;
+    double maxY = -Double.MAX_VALUE;
+    // written so that NaN bounds are ignored, those items end up in the first cell
+    for (int i = 0; i < 4 * itemCount; i += 4) {
+      if (bounds[i] < minX) {
+        minX = bounds[i];
+      }
+      if (bounds[i + 1] < minY) {
+        minY = bounds[i + 1];
+      }
+      if (bounds[i + 2] > maxX) {
+        maxX = bounds[i + 2];
+      }
+      if (bounds[i + 3] > maxY) {
+        maxY = bounds[i + 3];
+      }
+    }
+    if (minX > maxX || minY > maxY) {
+      minX = maxX = minY = maxY = 0;
+    }
+    originX = minX;
+    originY = minY;
+    columns = (int) Math.max(1, Math.min(MAX_CELLS_PER_AXIS, Math.ceil((maxX - minX) / CELL_SIZE)));
+    rows = (int) Math.max(1, Math.min(MAX_CELLS_PER_AXIS, Math.ceil((maxY - minY) / CELL_SIZE)));
+    cellWidth = Math.max(CELL_SIZE, (maxX - minX) / columns);
+    cellHeight = Math.max(CELL_SIZE, (maxY - minY) / rows);
+
+    // count the items per cell, shifted by one so that the prefix sum gives the start of each cell
+    cellStart = new int[columns * rows + 1];
+    for (int i = 0; i < itemCount; i++) {
+      int offset = 4 * i;
+      int lastColumn = getColumn(bounds[offset + 2]);
+      int lastRow = getRow(bounds[offset + 3]);
+      for (int row = getRow(bounds[offset + 1]); row <= lastRow; row++) {
+        for (int column = getColumn(bounds[offset]); column <= lastColumn; column++) {
+          cellStart[row * columns + column + 1]++;
+        }
+      }
+    }
+    for (int cell = 1; cell < cellStart.length; cell++) {
+      cellStart[cell] += cellStart[cell - 1];
+    }
+
+    int[] next = Arrays.copyOf(cellStart, cellStart.length - 1);
+    cellItems = new int[cellStart[cellStart.length - 1]];
+    for (int i = 0; i < itemCount; i++) {
+      int offset = 4 * i;
+      int lastColumn = getColumn(bounds[offset + 2]);
+      int lastRow = getRow(bounds[offset + 3]);
+      for (int row = getRow(bounds[offset + 1]); row <= lastRow; row++) {
+        for (int column = getColumn(bounds[offset]); column <= lastColumn; column++) {
+          cellItems[next[row * columns + column]++] = i;
+        }
+      }
+    }
+  }
+}
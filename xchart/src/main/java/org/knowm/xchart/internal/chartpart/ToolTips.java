@@ -1,5 +1,6 @@
 package org.knowm.xchart.internal.chartpart;
 
+import java.awt.Component;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.Shape;
@@ -10,9 +11,11 @@ import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Ellipse2D;
 import java.awt.geom.Rectangle2D;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Objects;
+import org.knowm.xchart.XChartPanel;
+import org.knowm.xchart.internal.TextLayoutCache;
 import org.knowm.xchart.style.BoxStyler;
 import org.knowm.xchart.style.OHLCStyler;
 import org.knowm.xchart.style.Styler;
@@ -26,13 +29,33 @@ public class ToolTips extends MouseAdapter implements ChartPart {
   private static final int MARGIN = 5;
   private static final int MOUSE_MARGIN = 20;
 
+  // the circle around a point tool tip
+  private static final double POINT_HALF_SIZE = MARGIN * 1.5;
+  private static final double POINT_SIZE = MARGIN * 3;
+
   private final Chart chart;
   private final Styler styler;
 
-  // The tool tips and currently shown Tooltip
-  private final List<ToolTip> toolTipList = new ArrayList<>();
+  // The tool tips, stored by index rather than as ToolTip objects which are only created for the
+  // tool tips actually shown: the label center and width, the shape for popup detection and
+  // highlight or null for a circle around the center, and the label, either a String or a
+  // ToolTipLabeler with the index of the data point.
+  private double[] toolTipCoordinates = new double[3 * 64];
+  private Shape[] toolTipShapes = new Shape[64];
+  private Object[] toolTipLabels = new Object[64];
+  private int[] toolTipDataIndices = new int[64];
+  private int toolTipCount;
+
+  // currently shown Tooltip
   private ToolTip tooltip = null;
 
+  // index of the tool tip shapes for finding the one under the mouse
+  private final SpatialGrid toolTipGrid = new SpatialGrid();
+
+  // pixels of the plot content already taken by a point tool tip
+  private final BitSet takenPixels = new BitSet();
+  private final Rectangle pixelArea = new Rectangle();
+
   /**
    * Constructor
    *
@@ -77,22 +100,31 @@ public class ToolTips extends MouseAdapter implements ChartPart {
     if (isRepaint) {
       //      xChartPanel.invalidate();
       //      xChartPanel.repaint();
-      e.getComponent().repaint();
+      repaintOverlay(e.getComponent());
+    }
+  }
+
+  /** Repaints only the overlay if the component is an XChartPanel, as nothing else changed */
+  static void repaintOverlay(Component component) {
+
+    if (component instanceof XChartPanel) {
+      ((XChartPanel<?>) component).repaintOverlay();
+    } else {
+      component.repaint();
     }
   }
 
+  /** Gets the tool tip shown since the last mouse move, null if there is none */
+  ToolTip getShownToolTip() {
+
+    return tooltip;
+  }
+
   private ToolTip getSelectedTooltip(int x, int y) {
 
     // find the datapoint based on the mouse location
-    ToolTip newPoint = null;
-    for (ToolTip tooltip : toolTipList) {
-      if (tooltip.shape.contains(x, y)) {
-        newPoint = tooltip;
-        break;
-      }
-    }
-    //    System.out.println("newPoint = " + newPoint);
-    return newPoint;
+    int index = toolTipGrid.findFirst(x, y, i -> contains(i, x, y));
+    return index < 0 ? null : getToolTip(index);
   }
 
   ////////////////////////////////////////////
@@ -108,8 +140,8 @@ public class ToolTips extends MouseAdapter implements ChartPart {
   public void paint(Graphics2D g) {
 
     if (styler.isToolTipsAlwaysVisible()) {
-      for (ToolTip tooltip : toolTipList) {
-        paintToolTip(g, tooltip);
+      for (int i = 0; i < toolTipCount; i++) {
+        paintToolTip(g, getToolTip(i));
       }
     }
 
@@ -132,9 +164,9 @@ public class ToolTips extends MouseAdapter implements ChartPart {
 
   private void paintToolTip(Graphics2D g, ToolTip tooltip) {
 
+    FontRenderContext frc = new FontRenderContext(null, true, false);
     TextLayout textLayout =
-        new TextLayout(
-            tooltip.label, styler.getToolTipFont(), new FontRenderContext(null, true, false));
+        TextLayoutCache.getTextLayout(tooltip.label, styler.getToolTipFont(), frc);
     Rectangle2D annotationRectangle = textLayout.getBounds();
 
     double w = annotationRectangle.getWidth() + 2 * MARGIN;
@@ -196,7 +228,7 @@ public class ToolTips extends MouseAdapter implements ChartPart {
     g.draw(rectangle);
 
     // draw text label
-    Shape shape = textLayout.getOutline(null);
+    Shape shape = TextLayoutCache.getOutline(tooltip.label, styler.getToolTipFont(), frc);
     g.setColor(styler.getChartFontColor());
     g.setFont(styler.getToolTipFont());
     AffineTransform orig = g.getTransform();
@@ -210,21 +242,19 @@ public class ToolTips extends MouseAdapter implements ChartPart {
   private void paintMultiLineToolTip(Graphics2D g) {
 
     String[] texts = tooltip.label.split(System.lineSeparator());
-    List<TextLayout> list = new ArrayList<>();
+    FontRenderContext frc = new FontRenderContext(null, true, false);
     TextLayout textLayout = null;
     Rectangle2D bounds = null;
     double backgroundHeight = MARGIN;
     double backgroundWidth = 0;
     for (String text : texts) {
-      textLayout =
-          new TextLayout(text, styler.getToolTipFont(), new FontRenderContext(null, true, false));
+      textLayout = TextLayoutCache.getTextLayout(text, styler.getToolTipFont(), frc);
       bounds = textLayout.getBounds();
       bounds.getHeight();
       if (backgroundWidth < bounds.getWidth()) {
         backgroundWidth = bounds.getWidth();
       }
       backgroundHeight += styler.getToolTipFont().getSize() + MARGIN;
-      list.add(textLayout);
     }
 
     //    System.out.println("paintMultiLineToolTip");
@@ -256,8 +286,8 @@ public class ToolTips extends MouseAdapter implements ChartPart {
     // TODO make a fontcolor for tooltips in styler
     g.setColor(styler.getChartFontColor());
     g.setFont(styler.getToolTipFont());
-    for (TextLayout t : list) {
-      g.fill(t.getOutline(null));
+    for (String text : texts) {
+      g.fill(TextLayoutCache.getOutline(text, styler.getToolTipFont(), frc));
       at = new AffineTransform();
       at.translate(0, styler.getToolTipFont().getSize() + MARGIN);
       g.transform(at);
@@ -267,6 +297,15 @@ public class ToolTips extends MouseAdapter implements ChartPart {
 
   // Adding Tooltips ////////////////////////////
 
+  /**
+   * Creates the label of a tool tip from the index of its data point. Labels are only created for
+   * the tool tips actually shown, so formatting the data of all points is avoided on each paint.
+   */
+  interface ToolTipLabeler {
+
+    String getLabel(int index);
+  }
+
   /**
    * Adds a data (xValue, yValue) with coordinates (xOffset, yOffset). This point will be
    * highlighted with a circle centering (xOffset, yOffset)
@@ -284,8 +323,16 @@ public class ToolTips extends MouseAdapter implements ChartPart {
    */
   void addData(double xOffset, double yOffset, String label) {
 
-    ToolTip toolTip = new ToolTip(xOffset, yOffset, label);
-    toolTipList.add(toolTip);
+    addPoint(xOffset, yOffset, label, 0);
+  }
+
+  /**
+   * Adds a data with coordinates (xOffset, yOffset) whose label is created on demand by the given
+   * labeler. This point will be highlighted with a circle centering (xOffset, yOffset)
+   */
+  void addData(double xOffset, double yOffset, ToolTipLabeler labeler, int dataIndex) {
+
+    addPoint(xOffset, yOffset, labeler, dataIndex);
   }
 
   /**
@@ -301,11 +348,94 @@ public class ToolTips extends MouseAdapter implements ChartPart {
 
   void addData(Shape shape, double xOffset, double yOffset, double width, String label) {
 
-    ToolTip toolTip = new ToolTip(shape, xOffset, yOffset, width, label);
-    toolTipList.add(toolTip);
+    Rectangle2D bounds = shape.getBounds2D();
+    add(shape, xOffset, yOffset, width, label, 0, bounds);
+  }
+
+  private void addPoint(double xOffset, double yOffset, Object label, int dataIndex) {
+
+    // only the first tool tip of a pixel can ever be hovered, unless they are all painted anyway
+    if (!styler.isToolTipsAlwaysVisible() && isPixelTaken(xOffset, yOffset)) {
+      return;
+    }
+    Rectangle2D bounds =
+        new Rectangle2D.Double(
+            xOffset - POINT_HALF_SIZE, yOffset - POINT_HALF_SIZE, POINT_SIZE, POINT_SIZE);
+    add(null, xOffset, yOffset, 0, label, dataIndex, bounds);
+  }
+
+  private void add(
+      Shape shape,
+      double xOffset,
+      double yOffset,
+      double width,
+      Object label,
+      int dataIndex,
+      Rectangle2D bounds) {
+
+    if (toolTipCount == toolTipShapes.length) {
+      int capacity = 2 * toolTipCount;
+      toolTipCoordinates = Arrays.copyOf(toolTipCoordinates, 3 * capacity);
+      toolTipShapes = Arrays.copyOf(toolTipShapes, capacity);
+      toolTipLabels = Arrays.copyOf(toolTipLabels, capacity);
+      toolTipDataIndices = Arrays.copyOf(toolTipDataIndices, capacity);
+    }
+    toolTipCoordinates[3 * toolTipCount] = xOffset;
+    toolTipCoordinates[3 * toolTipCount + 1] = yOffset;
+    toolTipCoordinates[3 * toolTipCount + 2] = width;
+    toolTipShapes[toolTipCount] = shape;
+    toolTipLabels[toolTipCount] = label;
+    toolTipDataIndices[toolTipCount] = dataIndex;
+    toolTipCount++;
+
+    toolTipGrid.add(bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY());
+  }
+
+  /** Whether the shape of the tool tip with the given index contains the given point */
+  private boolean contains(int index, double x, double y) {
+
+    if (toolTipShapes[index] != null) {
+      return toolTipShapes[index].contains(x, y);
+    }
+    // the same test as Ellipse2D.contains for the circle of a point tool tip
+    double normX = (x - (toolTipCoordinates[3 * index] - POINT_HALF_SIZE)) / POINT_SIZE - 0.5;
+    double normY = (y - (toolTipCoordinates[3 * index + 1] - POINT_HALF_SIZE)) / POINT_SIZE - 0.5;
+    return (normX * normX + normY * normY) < 0.25;
+  }
+
+  /** Creates the ToolTip with the given index, including its label */
+  private ToolTip getToolTip(int index) {
+
+    double x = toolTipCoordinates[3 * index];
+    double y = toolTipCoordinates[3 * index + 1];
+    Object label = toolTipLabels[index];
+    String labelString =
+        label instanceof ToolTipLabeler
+            ? ((ToolTipLabeler) label).getLabel(toolTipDataIndices[index])
+            : (String) label;
+    if (toolTipShapes[index] == null) {
+      return new ToolTip(x, y, labelString);
+    }
+    return new ToolTip(toolTipShapes[index], x, y, toolTipCoordinates[3 * index + 2], labelString);
   }
 
-  private String getLabel(String xValue, String yValue) {
+  /** Marks the pixel of the given point as taken, returns whether it already was */
+  private boolean isPixelTaken(double x, double y) {
+
+    int column = (int) Math.floor(x) - pixelArea.x;
+    int row = (int) Math.floor(y) - pixelArea.y;
+    if (column < 0 || row < 0 || column >= pixelArea.width || row >= pixelArea.height) {
+      return false;
+    }
+    int pixel = row * pixelArea.width + column;
+    if (takenPixels.get(pixel)) {
+      return true;
+    }
+    takenPixels.set(pixel);
+    return false;
+  }
+
+  String getLabel(String xValue, String yValue) {
 
     switch (styler.getToolTipType()) {
       case xAndYLabels:
@@ -321,7 +451,13 @@ public class ToolTips extends MouseAdapter implements ChartPart {
   }
 
   public void clearData() {
-    toolTipList.clear();
+    // drop the references to the shapes and labels of the last paint
+    Arrays.fill(toolTipShapes, 0, toolTipCount, null);
+    Arrays.fill(toolTipLabels, 0, toolTipCount, null);
+    toolTipCount = 0;
+    toolTipGrid.clear();
+    takenPixels.clear();
+    pixelArea.setBounds(chart.plot.plotContent.getBounds().getBounds());
   }
 
   static class ToolTip {
@@ -329,12 +465,12 @@ public class ToolTips extends MouseAdapter implements ChartPart {
     // width of data point (used for bar charts)
     // TODO possibly delete this
     final double w;
-    private final String label;
+    final String label;
     // used for popup detection & popup highlight
     private final Shape shape;
     // label center coordinates
-    private final double x;
-    private final double y;
+    final double x;
+    final double y;
 
     /**
      * Constructor
@@ -345,10 +481,8 @@ public class ToolTips extends MouseAdapter implements ChartPart {
      */
     ToolTip(double x, double y, String label) {
 
-      double halfSize = MARGIN * 1.5;
-      double markerSize = MARGIN * 3;
-
-      this.shape = new Ellipse2D.Double(x - halfSize, y - halfSize, markerSize, markerSize);
+      this.shape =
+          new Ellipse2D.Double(x - POINT_HALF_SIZE, y - POINT_HALF_SIZE, POINT_SIZE, POINT_SIZE);
 
       this.x = x;
       this.y = y;
@@ -0,0 +1,372 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.util.Arrays;
+import org.knowm.xchart.XYDataSource;
+import org.knowm.xchart.style.XYStyler.DecimationMode;
+
+/**
+ * Reduces a series to the subset of points that is actually visible at the current plot width. Both
+ * algorithms return the indices of the kept points, in ascending order, so that error bars,
+ * tooltips and the cursor can still refer back to the original data. NaN y values are always kept
+ * so that gaps in the data are still rendered as gaps.
+ *
+ * <p>This is an internal class which shouldn't be used from client code. Min/max decimation is also
+ * used by DataSourceXYSeries, reading its data source.
+ */
+public class XYDecimator {
+
+  /** Number of points per pixel column above which decimation is worthwhile */
+  public static final int POINTS_PER_COLUMN = 4;
+
+  /** Constructor - Private constructor to prevent instantiation */
+  private XYDecimator() {}
+
+  /**
+   * Decimate a range of the given data for the given number of pixel columns
+   *
+   * @param decimationMode
+   * @param xData - must be in ascending order within the range
+   * @param yData
+   * @param from - the first index of the range, inclusive
+   * @param to - the last index of the range, exclusive
+   * @param xMin - the x value of the left edge of the plot, log10 for a logarithmic X-Axis
+   * @param xMax - the x value of the right edge of the plot, log10 for a logarithmic X-Axis
+   * @param columns - the width of the plot in pixels
+   * @param isXAxisLogarithmic
+   * @return the indices, into the whole arrays, of the points to render or null if the data should
+   *     be rendered as is
+   */
+  static int[] decimate(
+      DecimationMode decimationMode,
+      double[] xData,
+      double[] yData,
+      int from,
+      int to,
+      double xMin,
+      double xMax,
+      int columns,
+      boolean isXAxisLogarithmic) {
+
+    if (decimationMode == null
+        || decimationMode == DecimationMode.None
+        || columns < 1
+        || to - from <= POINTS_PER_COLUMN * columns
+        || !isAscending(xData, from, to)) {
+      return null;
+    }
+
+    switch (decimationMode) {
+      case MinMax:
+        return minMax(
+            new ArrayData(xData, yData), from, to, xMin, xMax, columns, isXAxisLogarithmic);
+      case LTTB:
+        return lttbInView(xData, yData, from, to, xMin, xMax, columns, isXAxisLogarithmic);
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Keeps the first, minimum, maximum and last point of every pixel column, which renders a line
+   * identical to the full data set at the given width.
+   *
+   * @param data - X data in ascending order within the range
+   * @param from - the first index of the range, inclusive
+   * @param to - the last index of the range, exclusive
+   * @param xMin - the x value of the left edge of the plot, log10 for a logarithmic X-Axis
+   * @param xMax - the x value of the right edge of the plot, log10 for a logarithmic X-Axis
+   * @param columns - the width of the plot in pixels
+   * @param isXAxisLogarithmic
+   * @return the indices of the points to render
+   */
+  public static int[] minMax(
+      XYDataSource data,
+      int from,
+      int to,
+      double xMin,
+      double xMax,
+      int columns,
+      boolean isXAxisLogarithmic) {
+
+    double columnsPerUnit = xMax > xMin ? columns / (xMax - xMin) : 0.0;
+
+    IndexBuffer indices = new IndexBuffer(POINTS_PER_COLUMN * (columns + 2));
+
+    int currentColumn = Integer.MIN_VALUE;
+    int first = -1;
+    int last = -1;
+    int min = -1;
+    int max = -1;
+    double minY = 0;
+    double maxY = 0;
+
+    for (int i = from; i < to; i++) {
+
+      double y = data.getY(i);
+      if (Double.isNaN(y)) {
+        flushColumn(indices, first, min, max, last);
+        indices.add(i);
+        currentColumn = Integer.MIN_VALUE;
+        first = -1;
+        continue;
+      }
+
+      double x = isXAxisLogarithmic ? Math.log10(data.getX(i)) : data.getX(i);
+      // everything outside of the plot is collapsed into one column on either side
+      int column = (int) Math.floor((x - xMin) * columnsPerUnit);
+      column = Math.max(-1, Math.min(columns, column));
+
+      if (column != currentColumn || first == -1) {
+        flushColumn(indices, first, min, max, last);
+        currentColumn = column;
+        first = i;
+        min = i;
+        max = i;
+        minY = y;
+        maxY = y;
+      } else {
+        if (y < minY) {
+          min = i;
+          minY = y;
+        }
+        if (y > maxY) {
+          max = i;
+          maxY = y;
+        }
+      }
+      last = i;
+    }
+    flushColumn(indices, first, min, max, last);
+
+    return indices.toArray();
+  }
+
+  private static void flushColumn(IndexBuffer indices, int first, int min, int max, int last) {
+
+    if (first == -1) {
+      return;
+    }
+    indices.add(first);
+    // keep the original order of the extremes so the line is drawn the way it was recorded
+    int lower = Math.min(min, max);
+    int upper = Math.max(min, max);
+    if (lower != first) {
+      indices.add(lower);
+    }
+    if (upper != lower && upper != first) {
+      indices.add(upper);
+    }
+    if (last != upper && last != first) {
+      indices.add(last);
+    }
+  }
+
+  /**
+   * LTTB down sampling of the points within the plot. Buckets spread over the whole range would
+   * leave few points on screen while the X-Axis is narrowed, so of the points outside of the plot
+   * only the one just beyond either edge is kept, for the line to run to the edge.
+   */
+  private static int[] lttbInView(
+      double[] xData,
+      double[] yData,
+      int from,
+      int to,
+      double xMin,
+      double xMax,
+      int columns,
+      boolean isXAxisLogarithmic) {
+
+    int viewFrom = Math.max(from, lowerBound(xData, from, to, xMin, isXAxisLogarithmic) - 1);
+    int viewTo = Math.min(to, upperBound(xData, from, to, xMax, isXAxisLogarithmic) + 1);
+    return lttb(xData, yData, viewFrom, Math.max(viewFrom, viewTo), 2 * columns);
+  }
+
+  /** Index of the first x value >= key in the ascending range, log10 for a logarithmic X-Axis */
+  private static int lowerBound(
+      double[] xData, int from, int to, double key, boolean isXAxisLogarithmic) {
+
+    int low = from;
+    int high = to;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      double x = isXAxisLogarithmic ? Math.log10(xData[mid]) : xData[mid];
+      if (x < key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /** Index of the first x value > key in the ascending range, log10 for a logarithmic X-Axis */
+  private static int upperBound(
+      double[] xData, int from, int to, double key, boolean isXAxisLogarithmic) {
+
+    int low = from;
+    int high = to;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      double x = isXAxisLogarithmic ? Math.log10(xData[mid]) : xData[mid];
+      if (x <= key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Largest-Triangle-Three-Buckets down sampling. Each NaN separated run of data is sampled on its
+   * own, with its share of the threshold proportional to its length.
+   */
+  static int[] lttb(double[] xData, double[] yData, int from, int to, int threshold) {
+
+    IndexBuffer indices = new IndexBuffer(threshold + 16);
+
+    int runStart = -1;
+    for (int i = from; i <= to; i++) {
+      if (i == to || Double.isNaN(yData[i])) {
+        if (runStart != -1) {
+          int runThreshold =
+              (int) Math.max(3, Math.ceil((double) threshold * (i - runStart) / (to - from)));
+          lttbRun(xData, yData, runStart, i, runThreshold, indices);
+          runStart = -1;
+        }
+        if (i < to) {
+          indices.add(i);
+        }
+      } else if (runStart == -1) {
+        runStart = i;
+      }
+    }
+
+    return indices.toArray();
+  }
+
+  private static void lttbRun(
+      double[] xData, double[] yData, int from, int to, int threshold, IndexBuffer indices) {
+
+    int length = to - from;
+    if (length <= threshold) {
+      for (int i = from; i < to; i++) {
+        indices.add(i);
+      }
+      return;
+    }
+
+    // the first and last point are always kept, the rest is split into threshold - 2 buckets
+    double bucketSize = (double) (length - 2) / (threshold - 2);
+
+    int a = from;
+    indices.add(a);
+
+    for (int bucket = 0; bucket < threshold - 2; bucket++) {
+
+      // average of the next bucket
+      int nextStart = from + (int) Math.floor((bucket + 1) * bucketSize) + 1;
+      int nextEnd = Math.min(to, from + (int) Math.floor((bucket + 2) * bucketSize) + 1);
+      double avgX = 0;
+      double avgY = 0;
+      for (int i = nextStart; i < nextEnd; i++) {
+        avgX += xData[i];
+        avgY += yData[i];
+      }
+      int nextLength = nextEnd - nextStart;
+      if (nextLength > 0) {
+        avgX /= nextLength;
+        avgY /= nextLength;
+      } else {
+        avgX = xData[to - 1];
+        avgY = yData[to - 1];
+      }
+
+      // point of the current bucket forming the largest triangle with a and the average
+      int start = from + (int) Math.floor(bucket * bucketSize) + 1;
+      int end = from + (int) Math.floor((bucket + 1) * bucketSize) + 1;
+      double ax = xData[a];
+      double ay = yData[a];
+      double maxArea = -1;
+      int selected = start;
+      for (int i = start; i < end; i++) {
+        double area = Math.abs((ax - avgX) * (yData[i] - ay) - (ax - xData[i]) * (avgY - ay)) * 0.5;
+        if (area > maxArea) {
+          maxArea = area;
+          selected = i;
+        }
+      }
+
+      indices.add(selected);
+      a = selected;
+    }
+
+    indices.add(to - 1);
+  }
+
+  static boolean isAscending(double[] xData, int from, int to) {
+
+    for (int i = from + 1; i < to; i++) {
+      if (xData[i] < xData[i - 1]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** The arrays of a series read as a data source */
+  private static class ArrayData implements XYDataSource {
+
+    private final double[] xData;
+    private final double[] yData;
+
+    ArrayData(double[] xData, double[] yData) {
+
+      this.xData = xData;
+      this.yData = yData;
+    }
+
+    @Override
+    public int size() {
+
+      return yData.length;
+    }
+
+    @Override
+    public double getX(int index) {
+
+      return xData[index];
+    }
+
+    @Override
+    public double getY(int index) {
+
+      return yData[index];
+    }
+  }
+
+  /** A growable int[] */
+  private static class IndexBuffer {
+
+    private int[] data;
+    private int size;
+
+    IndexBuffer(int initialCapacity) {
+
+      data = new int[Math.max(16, initialCapacity)];
+    }
+
+    void add(int index) {
+
+      if (size == data.length) {
+        data = Arrays.copyOf(data, data.length * 2);
+      }
+      data[size++] = index;
+    }
+
+    int[] toArray() {
+
+      return Arrays.copyOf(data, size);
+    }
+  }
+}
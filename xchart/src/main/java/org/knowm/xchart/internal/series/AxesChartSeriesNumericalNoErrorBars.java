@@ -14,10 +14,32 @@ public abstract class AxesChartSeriesNumericalNoErrorBars extends MarkerSeries {
   double[] yDataAll;
   double[] extraValuesAll;
 
-  // temporary data different from permanent data if some is filter out for zooming
-  double[] xData; // can be Number or Date(epochtime)
-  double[] yData;
-  double[] extraValues;
+  // the temporary data, which is different from the permanent data if some is filtered out for
+  // zooming, is the range [dataOffset, dataOffset + dataCount) of the permanent data. Without
+  // copying, zooming in on unsorted X data can't make a range, so instead it views all of the data
+  // and leaves out the points with an X value outside [filterXMin, filterXMax].
+  int dataOffset;
+  int dataCount;
+  private boolean isXRangeFiltered;
+  private double filterXMin;
+  private double filterXMax;
+
+  // the temporary data copied into arrays of their own, only created when asked for
+  private double[] xDataCopy;
+  private double[] yDataCopy;
+  private double[] extraValuesCopy;
+
+  // incremented whenever the data or the filter changes
+  private int dataVersion;
+
+  // min and max of the permanent data and indexes for the min and max of ranges of it, calculated
+  // lazily and dropped whenever the permanent data changes
+  private double[] allMinMax;
+  private MinMaxIndex xIndex;
+  private MinMaxIndex yIndex;
+
+  // whether the permanent X data is in ascending order, null until checked
+  private Boolean isXDataAllAscending;
 
   /**
    * Constructor
@@ -36,9 +58,7 @@ public abstract class AxesChartSeriesNumericalNoErrorBars extends MarkerSeries {
     this.yDataAll = yData;
     this.extraValuesAll = extraValues;
 
-    this.xData = xData;
-    this.yData = yData;
-    this.extraValues = extraValues;
+    setView(0, xData.length);
 
     calculateMinMax();
   }
@@ -65,37 +85,88 @@ public abstract class AxesChartSeriesNumericalNoErrorBars extends MarkerSeries {
     this.yDataAll = newYData;
     this.extraValuesAll = newExtraValues;
 
-    xData = newXData;
-    yData = newYData;
-    extraValues = newExtraValues;
+    setView(0, newXData.length);
+    dataChanged();
 
     calculateMinMax();
   }
 
+  /**
+   * Replaces the data like replaceData, but without recalculating min and max. This is meant for
+   * subclasses which maintain min and max themselves as the data changes.
+   *
+   * @param newXData
+   * @param newYData
+   * @param newExtraValues
+   */
+  protected void setData(double[] newXData, double[] newYData, double[] newExtraValues) {
+
+    this.xDataAll = newXData;
+    this.yDataAll = newYData;
+    this.extraValuesAll = newExtraValues;
+
+    setView(0, newXData.length);
+    dataChanged();
+  }
+
+  private void dataChanged() {
+
+    allMinMax = null;
+    xIndex = null;
+    yIndex = null;
+    isXDataAllAscending = null;
+  }
+
+  /** Sets the range of the temporary data */
+  private void setView(int dataOffset, int dataCount) {
+
+    this.dataOffset = dataOffset;
+    this.dataCount = dataCount;
+    isXRangeFiltered = false;
+    xDataCopy = null;
+    yDataCopy = null;
+    extraValuesCopy = null;
+    dataVersion++;
+  }
+
   public void filterXByIndex(int startIndex, int endIndex) {
 
+    refreshData();
+
     startIndex = Math.max(0, startIndex);
     endIndex = Math.min(yDataAll.length, endIndex);
-
-    xData = Arrays.copyOfRange(xDataAll, startIndex, endIndex);
-    yData = Arrays.copyOfRange(yDataAll, startIndex, endIndex);
-    if (extraValuesAll != null) {
-      extraValues = Arrays.copyOfRange(extraValuesAll, startIndex, endIndex);
+    if (startIndex > endIndex) {
+      throw new IllegalArgumentException("Start index must not be greater than end index!!!");
     }
 
+    setView(startIndex, endIndex - startIndex);
+
     calculateMinMax();
   }
 
   public boolean filterXByValue(double minValue, double maxValue) {
 
+    refreshData();
+
     int length = xDataAll.length;
-    boolean[] filterResult = new boolean[length];
+
+    if (isXDataAllAscending()) {
+      // the remaining data is a contiguous range which is found by binary search
+      int from = lowerBound(xDataAll, minValue);
+      int to = Math.max(from, upperBound(xDataAll, maxValue));
+      if (to - from == length) {
+        return false;
+      }
+      setView(from, to - from);
+
+      calculateMinMax();
+      return true;
+    }
+
     int remainingDataCount = 0;
     for (int i = 0; i < length; i++) {
       double val = xDataAll[i];
-      boolean result = val >= minValue && val <= maxValue;
-      filterResult[i] = result;
-      if (result) {
+      if (val >= minValue && val <= maxValue) {
         remainingDataCount++;
       }
     }
@@ -106,36 +177,110 @@ public abstract class AxesChartSeriesNumericalNoErrorBars extends MarkerSeries {
       return false;
     }
 
-    xData = new double[remainingDataCount];
-    yData = new double[remainingDataCount];
-    boolean extra = extraValuesAll != null;
+    // the remaining data isn't contiguous, so it's all of the data with the rest left out
+    setView(0, length);
+    isXRangeFiltered = true;
+    filterXMin = minValue;
+    filterXMax = maxValue;
 
-    if (extra) {
-      extraValues = new double[remainingDataCount];
+    calculateMinMax();
+    return true;
+  }
+
+  /**
+   * Whether any of the temporary X data lies within the given range
+   *
+   * @param minValue
+   * @param maxValue
+   * @return
+   */
+  public boolean hasXDataBetween(double minValue, double maxValue) {
+
+    refreshData();
+
+    if (!isXRangeFiltered && isXDataAllAscending()) {
+      int from = Math.max(dataOffset, lowerBound(xDataAll, minValue));
+      return from < dataOffset + dataCount && xDataAll[from] <= maxValue;
     }
+    for (int i = dataOffset; i < dataOffset + dataCount; i++) {
+      if (xDataAll[i] >= minValue && xDataAll[i] <= maxValue && isInView(i)) {
+        return true;
+      }
+    }
+    return false;
+  }
 
-    int ind = 0;
-    for (int i = 0; i < length; i++) {
-      if (!filterResult[i]) {
-        continue;
+  /**
+   * Whether the point at the given index of the backing arrays is part of the temporary data. All
+   * points of the range starting at getDataOffset with getDataCount values are, unless zooming in
+   * on unsorted X data left out the points with an X value outside the zoomed in range.
+   *
+   * @param index
+   * @return
+   */
+  public boolean isInView(int index) {
+
+    if (!isXRangeFiltered) {
+      return true;
+    }
+    double x = xDataAll[index];
+    return x >= filterXMin && x <= filterXMax;
+  }
+
+  /**
+   * Whether the permanent X data is in ascending order, which is checked once after each data
+   * change. NaN X values count as not ascending.
+   */
+  private boolean isXDataAllAscending() {
+
+    if (isXDataAllAscending == null) {
+      boolean ascending = true;
+      for (int i = 0; i < xDataAll.length && ascending; i++) {
+        // written so that NaN fails the check
+        ascending = xDataAll[i] == xDataAll[i] && (i == 0 || xDataAll[i] >= xDataAll[i - 1]);
       }
-      xData[ind] = xDataAll[i];
-      yData[ind] = yDataAll[i];
-      if (extra) {
-        extraValues[ind] = extraValuesAll[i];
+      isXDataAllAscending = ascending;
+    }
+    return isXDataAllAscending;
+  }
+
+  /** Index of the first value >= key in ascending data */
+  private static int lowerBound(double[] data, double key) {
+
+    int low = 0;
+    int high = data.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (data[mid] < key) {
+        low = mid + 1;
+      } else {
+        high = mid;
       }
-      ind++;
     }
+    return low;
+  }
 
-    calculateMinMax();
-    return true;
+  /** Index of the first value > key in ascending data */
+  private static int upperBound(double[] data, double key) {
+
+    int low = 0;
+    int high = data.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (data[mid] <= key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
   }
 
   public void resetFilter() {
 
-    xData = xDataAll;
-    yData = yDataAll;
-    extraValues = extraValuesAll;
+    refreshData();
+
+    setView(0, xDataAll.length);
     calculateMinMax();
   }
 
@@ -170,74 +315,225 @@ public abstract class AxesChartSeriesNumericalNoErrorBars extends MarkerSeries {
   @Override
   protected void calculateMinMax() {
 
-    // xData
-    double[] xMinMax = findMinMax(xData);
-    xMin = xMinMax[0];
-    xMax = xMinMax[1];
-    // System.out.println(xMin);
-    // System.out.println(xMax);
-
-    // yData
-    double[] yMinMax;
-    if (extraValues == null) {
-      yMinMax = findMinMax(yData);
+    double[] minMax;
+    if (isXRangeFiltered) {
+      minMax = scanMinMax();
+    } else if (dataCount == xDataAll.length) {
+      if (allMinMax == null) {
+        allMinMax = scanMinMax();
+      }
+      minMax = allMinMax;
     } else {
-      yMinMax = findMinMaxWithErrorBars(yData, extraValues);
+      // a range of the permanent data, e.g. zoomed in on sorted X data
+      if (xIndex == null) {
+        xIndex = new MinMaxIndex(xDataAll, null);
+        yIndex = new MinMaxIndex(yDataAll, extraValuesAll);
+      }
+      int to = dataOffset + dataCount;
+      double[] xMinMax = xIndex.findMinMax(dataOffset, to);
+      double[] yMinMax = yIndex.findMinMax(dataOffset, to);
+      minMax = new double[] {xMinMax[0], xMinMax[1], yMinMax[0], yMinMax[1]};
     }
-    yMin = yMinMax[0];
-    yMax = yMinMax[1];
-    // System.out.println(yMin);
-    // System.out.println(yMax);
+    xMin = minMax[0];
+    xMax = minMax[1];
+    yMin = minMax[2];
+    yMax = minMax[3];
   }
 
   /**
-   * Finds the min and max of a dataset accounting for error bars
+   * Scans the temporary data for its min and max
    *
-   * @param data
-   * @param errorBars
-   * @return
+   * @return {xMin, xMax, yMin, yMax}
    */
-  private double[] findMinMaxWithErrorBars(double[] data, double[] errorBars) {
-
-    double min = Double.MAX_VALUE;
-    double max = -Double.MAX_VALUE;
-
-    for (int i = 0; i < data.length; i++) {
-
-      double d = data[i];
-      double eb = errorBars[i];
-      if (d - eb < min) {
-        min = d - eb;
+  private double[] scanMinMax() {
+
+    double xMin = Double.MAX_VALUE;
+    double xMax = -Double.MAX_VALUE;
+    double yMin = Double.MAX_VALUE;
+    double yMax = -Double.MAX_VALUE;
+    for (int i = dataOffset; i < dataOffset + dataCount; i++) {
+      if (!isInView(i)) {
+        continue;
       }
-      if (d + eb > max) {
-        max = d + eb;
+      double x = xDataAll[i];
+      if (x < xMin) {
+        xMin = x;
+      }
+      if (x > xMax) {
+        xMax = x;
+      }
+      // NaN values fail the comparisons and are thereby skipped
+      double y = yDataAll[i];
+      double error = extraValuesAll == null ? 0 : extraValuesAll[i];
+      if (y - error < yMin) {
+        yMin = y - error;
+      }
+      if (y + error > yMax) {
+        yMax = y + error;
       }
     }
-    return new double[] {min, max};
+    return new double[] {xMin, xMax, yMin, yMax};
   }
 
   /**
-   * Is xData.length equal to xDataAll.length
+   * Is the temporary data all of the permanent data
    *
    * @return true: equal; false: not equal
    */
   public boolean isAllXData() {
 
-    return xData.length == xDataAll.length;
+    refreshData();
+
+    return dataCount == xDataAll.length && !isXRangeFiltered;
   }
 
+  /**
+   * Gets a counter which changes whenever the data or the filter of the series changes, so that
+   * anything derived from the data can tell whether it needs to be recalculated.
+   *
+   * @return the data version
+   */
+  public int getDataVersion() {
+
+    refreshData();
+
+    return dataVersion;
+  }
+
+  /**
+   * Gets the X data. While zoomed in, this copies the data on the first call. Use getBackingXData
+   * with getDataOffset, getDataCount and isInView to read it without copying.
+   *
+   * @return
+   */
   public double[] getXData() {
 
-    return xData;
+    refreshData();
+
+    if (isAllXData()) {
+      return xDataAll;
+    }
+    if (xDataCopy == null) {
+      xDataCopy = copyView(xDataAll);
+    }
+    return xDataCopy;
   }
 
   public double[] getYData() {
 
-    return yData;
+    refreshData();
+
+    if (isAllXData()) {
+      return yDataAll;
+    }
+    if (yDataCopy == null) {
+      yDataCopy = copyView(yDataAll);
+    }
+    return yDataCopy;
   }
 
   public double[] getExtraValues() {
 
-    return extraValues;
+    refreshData();
+
+    if (extraValuesAll == null || isAllXData()) {
+      return extraValuesAll;
+    }
+    if (extraValuesCopy == null) {
+      extraValuesCopy = copyView(extraValuesAll);
+    }
+    return extraValuesCopy;
+  }
+
+  /** Copies the temporary data out of the given permanent data */
+  private double[] copyView(double[] data) {
+
+    if (!isXRangeFiltered) {
+      return Arrays.copyOfRange(data, dataOffset, dataOffset + dataCount);
+    }
+    int count = 0;
+    for (int i = dataOffset; i < dataOffset + dataCount; i++) {
+      if (isInView(i)) {
+        count++;
+      }
+    }
+    double[] copy = new double[count];
+    int j = 0;
+    for (int i = dataOffset; i < dataOffset + dataCount; i++) {
+      if (isInView(i)) {
+        copy[j++] = data[i];
+      }
+    }
+    return copy;
+  }
+
+  /**
+   * Gets the array the X data is read from. The X data is the range starting at getDataOffset with
+   * getDataCount values, without the values for which isInView is false.
+   *
+   * @return
+   */
+  public double[] getBackingXData() {
+
+    refreshData();
+
+    return xDataAll;
+  }
+
+  /**
+   * Gets the array the Y data is read from. The Y data is the range starting at getDataOffset with
+   * getDataCount values, without the values for which isInView is false.
+   *
+   * @return
+   */
+  public double[] getBackingYData() {
+
+    refreshData();
+
+    return yDataAll;
+  }
+
+  /**
+   * Gets the array the error bars are read from, null if there are none. The error bars are the
+   * range starting at getDataOffset with getDataCount values, without the values for which isInView
+   * is false.
+   *
+   * @return
+   */
+  public double[] getBackingExtraValues() {
+
+    refreshData();
+
+    return extraValuesAll;
   }
+
+  /**
+   * Gets the index of the first value of the data in the backing arrays
+   *
+   * @return
+   */
+  public int getDataOffset() {
+
+    refreshData();
+
+    return dataOffset;
+  }
+
+  /**
+   * Gets the number of values of the range of the backing arrays holding the data
+   *
+   * @return
+   */
+  public int getDataCount() {
+
+    refreshData();
+
+    return dataCount;
+  }
+
+  /**
+   * Called before the data is read or filtered, for subclasses which update the data lazily with
+   * setData
+   */
+  protected void refreshData() {}
 }
@@ -0,0 +1,163 @@
+package org.knowm.xchart.internal.series;
+
+/**
+ * A fixed capacity circular buffer of primitive doubles. Once full, each added value overwrites the
+ * oldest one. The min and max of the values currently in the buffer are maintained incrementally
+ * with monotonic deques, so adding a value and querying min and max are amortized O(1). NaN values
+ * are stored but ignored for min and max.
+ */
+public class DoubleRingBuffer {
+
+  private final double[] data;
+  private final int capacity;
+
+  /** slot of the oldest value */
+  private int head;
+
+  private int size;
+
+  // slots of the candidates for min and max, ordered from oldest to newest
+  private final int[] minDeque;
+  private int minDequeHead;
+  private int minDequeSize;
+
+  private final int[] maxDeque;
+  private int maxDequeHead;
+  private int maxDequeSize;
+
+  /**
+   * Constructor
+   *
+   * @param capacity the maximum number of values kept
+   */
+  public DoubleRingBuffer(int capacity) {
+
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be greater than zero!!!");
+    }
+    this.capacity = capacity;
+    this.data = new double[capacity];
+    this.minDeque = new int[capacity];
+    this.maxDeque = new int[capacity];
+  }
+
+  /**
+   * Adds a value, overwriting the oldest one if the buffer is full
+   *
+   * @param value
+   */
+  public void add(double value) {
+
+    int slot;
+    if (size == capacity) {
+      slot = head;
+      head = next(head);
+      // the overwritten value is the oldest one, so if it's a candidate it's at the front
+      if (minDequeSize > 0 && minDeque[minDequeHead] == slot) {
+        minDequeHead = next(minDequeHead);
+        minDequeSize--;
+      }
+      if (maxDequeSize > 0 && maxDeque[maxDequeHead] == slot) {
+        maxDequeHead = next(maxDequeHead);
+        maxDequeSize--;
+      }
+    } else {
+      slot = (head + size) % capacity;
+      size++;
+    }
+    data[slot] = value;
+
+    if (Double.isNaN(value)) {
+      return;
+    }
+
+    // drop all newer candidates that can never be the min or max again
+    while (minDequeSize > 0 && data[minDeque[last(minDequeHead, minDequeSize)]] >= value) {
+      minDequeSize--;
+    }
+    minDeque[(minDequeHead + minDequeSize) % capacity] = slot;
+    minDequeSize++;
+
+    while (maxDequeSize > 0 && data[maxDeque[last(maxDequeHead, maxDequeSize)]] <= value) {
+      maxDequeSize--;
+    }
+    maxDeque[(maxDequeHead + maxDequeSize) % capacity] = slot;
+    maxDequeSize++;
+  }
+
+  /**
+   * Gets a value
+   *
+   * @param index 0 is the oldest value
+   * @return
+   */
+  public double get(int index) {
+
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return data[(head + index) % capacity];
+  }
+
+  /**
+   * Copies the values, oldest first, into the given array
+   *
+   * @param destination an array of at least getSize() length
+   */
+  public void copyTo(double[] destination) {
+
+    int firstPart = Math.min(size, capacity - head);
+    System.arraycopy(data, head, destination, 0, firstPart);
+    System.arraycopy(data, 0, destination, firstPart, size - firstPart);
+  }
+
+  /**
+   * Gets the min of all values, ignoring NaN
+   *
+   * @return the min or Double.MAX_VALUE if there are no values
+   */
+  public double getMin() {
+
+    return minDequeSize == 0 ? Double.MAX_VALUE : data[minDeque[minDequeHead]];
+  }
+
+  /**
+   * Gets the max of all values, ignoring NaN
+   *
+   * @return the max or -Double.MAX_VALUE if there are no values
+   */
+  public double getMax() {
+
+    return maxDequeSize == 0 ? -Double.MAX_VALUE : data[maxDeque[maxDequeHead]];
+  }
+
+  public void clear() {
+
+    head = 0;
+    size = 0;
+    minDequeHead = 0;
+    minDequeSize = 0;
+    maxDequeHead = 0;
+    maxDequeSize = 0;
+  }
+
+  public int getSize() {
+
+    return size;
+  }
+
+  public int getCapacity() {
+
+    return capacity;
+  }
+
+  private int last(int dequeHead, int dequeSize) {
+
+    return (dequeHead + dequeSize - 1) % capacity;
+  }
+
+  private int next(int slot) {
+
+    return slot + 1 == capacity ? 0 : slot + 1;
+  }
+}
@@ -0,0 +1,242 @@
+package org.knowm.xchart.internal.series;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * A block summary index answering min and max queries over index ranges of a data array in O(B +
+ * log(n / B)) instead of O(n). The data is split into blocks of B values and the min and max of
+ * each block are kept in a segment tree. With error bars, the min is taken over data - errorBar and
+ * the max over data + errorBar. NaN values are ignored.
+ *
+ * <p>The data can also be read through a function, e.g. of a data source far larger than the heap,
+ * with the block min and max values summarized by the caller while reading the data anyway.
+ */
+public class MinMaxIndex {
+
+  static final int BLOCK_SIZE = 64;
+
+  /** The number of blocks above which the blocks of data read through a function are made larger */
+  private static final int MAX_BLOCK_COUNT = 1 << 16;
+
+  private final double[] data;
+  private final double[] errorBars;
+  private final IntToDoubleFunction values;
+  private final int size;
+  private final int blockSize;
+  private final int blockCount;
+
+  // segment trees over the blocks, leaves start at index leafCount
+  private final int leafCount;
+  private final double[] minTree;
+  private final double[] maxTree;
+
+  /**
+   * Constructor
+   *
+   * @param data
+   * @param errorBars - null if there are no error bars
+   */
+  MinMaxIndex(double[] data, double[] errorBars) {
+
+    this.data = data;
+    this.errorBars = errorBars;
+    this.values = null;
+    this.size = data.length;
+    this.blockSize = BLOCK_SIZE;
+    this.blockCount = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    this.leafCount = getLeafCount(blockCount);
+    minTree = new double[2 * leafCount];
+    maxTree = new double[2 * leafCount];
+    Arrays.fill(minTree, Double.MAX_VALUE);
+    Arrays.fill(maxTree, -Double.MAX_VALUE);
+
+    double[] minMax = new double[2];
+    for (int block = 0; block < blockCount; block++) {
+      int from = block * BLOCK_SIZE;
+      minMax[0] = Double.MAX_VALUE;
+      minMax[1] = -Double.MAX_VALUE;
+      scan(from, Math.min(size, from + BLOCK_SIZE), minMax);
+      minTree[leafCount + block] = minMax[0];
+      maxTree[leafCount + block] = minMax[1];
+    }
+    buildTree();
+  }
+
+  /**
+   * Constructor - for data read through a function, from the min and max of each block of
+   * getBlockSize(size) values
+   *
+   * @param values
+   * @param size
+   * @param blockMins - the min of each block, Double.MAX_VALUE if it only holds NaN values
+   * @param blockMaxes - the max of each block, -Double.MAX_VALUE if it only holds NaN values
+   */
+  public MinMaxIndex(
+      IntToDoubleFunction values, int size, double[] blockMins, double[] blockMaxes) {
+
+    this.data = null;
+    this.errorBars = null;
+    this.values = values;
+    this.size = size;
+    this.blockSize = getBlockSize(size);
+    this.blockCount = (size + blockSize - 1) / blockSize;
+    if (blockMins.length != blockCount || blockMaxes.length != blockCount) {
+      throw new IllegalArgumentException("There must be a min and max for each block!!!");
+    }
+    this.leafCount = getLeafCount(blockCount);
+    minTree = new double[2 * leafCount];
+    maxTree = new double[2 * leafCount];
+    Arrays.fill(minTree, Double.MAX_VALUE);
+    Arrays.fill(maxTree, -Double.MAX_VALUE);
+    System.arraycopy(blockMins, 0, minTree, leafCount, blockCount);
+    System.arraycopy(blockMaxes, 0, maxTree, leafCount, blockCount);
+    buildTree();
+  }
+
+  /**
+   * Gets the size of the blocks of data read through a function, which grows with the size so that
+   * the index stays small even for data far larger than the heap
+   *
+   * @param size
+   * @return
+   */
+  public static int getBlockSize(int size) {
+
+    int blockSize = BLOCK_SIZE;
+    while ((long) blockSize * MAX_BLOCK_COUNT < size) {
+      blockSize <<= 1;
+    }
+    return blockSize;
+  }
+
+  /**
+   * Gets the min of a block of values, Double.MAX_VALUE if it only holds NaN values
+   *
+   * @param block
+   * @return
+   */
+  public double getBlockMin(int block) {
+
+    return minTree[leafCount + block];
+  }
+
+  /**
+   * Gets the max of a block of values, -Double.MAX_VALUE if it only holds NaN values
+   *
+   * @param block
+   * @return
+   */
+  public double getBlockMax(int block) {
+
+    return maxTree[leafCount + block];
+  }
+
+  private static int getLeafCount(int blockCount) {
+
+    int leafCount = 1;
+    while (leafCount < blockCount) {
+      leafCount <<= 1;
+    }
+    return leafCount;
+  }
+
+  private void buildTree() {
+
+    for (int node = leafCount - 1; node > 0; node--) {
+      minTree[node] = Math.min(minTree[2 * node], minTree[2 * node + 1]);
+      maxTree[node] = Math.max(maxTree[2 * node], maxTree[2 * node + 1]);
+    }
+  }
+
+  /**
+   * Finds the min and max of a range of the data
+   *
+   * @param from - inclusive
+   * @param to - exclusive
+   * @return {min, max}, {Double.MAX_VALUE, -Double.MAX_VALUE} for an empty range
+   */
+  public double[] findMinMax(int from, int to) {
+
+    double[] minMax = {Double.MAX_VALUE, -Double.MAX_VALUE};
+    if (from >= to) {
+      return minMax;
+    }
+
+    int firstFullBlock = (from + blockSize - 1) / blockSize;
+    int lastFullBlock = to / blockSize; // exclusive
+    if (firstFullBlock >= lastFullBlock) {
+      // the range doesn't cover a whole block
+      scan(from, to, minMax);
+      return minMax;
+    }
+
+    // the partial blocks at either end
+    scan(from, firstFullBlock * blockSize, minMax);
+    scan(lastFullBlock * blockSize, to, minMax);
+
+    // the whole blocks in between
+    double min = minMax[0];
+    double max = minMax[1];
+    int left = leafCount + firstFullBlock;
+    int right = leafCount + lastFullBlock;
+    while (left < right) {
+      if ((left & 1) == 1) {
+        min = Math.min(min, minTree[left]);
+        max = Math.max(max, maxTree[left]);
+        left++;
+      }
+      if ((right & 1) == 1) {
+        right--;
+        min = Math.min(min, minTree[right]);
+        max = Math.max(max, maxTree[right]);
+      }
+      left >>= 1;
+      right >>= 1;
+    }
+    minMax[0] = min;
+    minMax[1] = max;
+    return minMax;
+  }
+
+  /** Widens minMax by the values in [from, to) */
+  private void scan(int from, int to, double[] minMax) {
+
+    double min = minMax[0];
+    double max = minMax[1];
+    if (values != null) {
+      for (int i = from; i < to; i++) {
+        double d = values.applyAsDouble(i);
+        if (d < min) {
+          min = d;
+        }
+        if (d > max) {
+          max = d;
+        }
+      }
+    } else if (errorBars == null) {
+      for (int i = from; i < to; i++) {
+        double d = data[i];
+        if (d < min) {
+          min = d;
+        }
+        if (d > max) {
+          max = d;
+        }
+      }
+    } else {
+      for (int i = from; i < to; i++) {
+        double d = data[i];
+        double eb = errorBars[i];
+        if (d - eb < min) {
+          min = d - eb;
+        }
+        if (d + eb > max) {
+          max = d + eb;
+        }
+      }
+    }
+    minMax[0] = min;
+    minMax[1] = max;
+  }
+}
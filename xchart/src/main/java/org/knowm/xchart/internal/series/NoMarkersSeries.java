@@ -20,8 +20,6 @@ public abstract class NoMarkersSeries extends AxesChartSeriesNumericalNoErrorBar
 
     super(name, xData, yData, extraValues, axisType);
 
-    // TODO why do we need this here?
-    this.extraValues = extraValues;
     calculateMinMax();
   }
 
@@ -29,14 +27,14 @@ public abstract class NoMarkersSeries extends AxesChartSeriesNumericalNoErrorBar
   protected void calculateMinMax() {
 
     // xData
-    double[] xMinMax = findMinMax(xData);
+    double[] xMinMax = findMinMax(getXData());
     xMin = xMinMax[0];
     xMax = xMinMax[1];
     // System.out.println(xMin);
     // System.out.println(xMax);
 
     // yData
-    double[] yMinMax = findMinMax(yData);
+    double[] yMinMax = findMinMax(getYData());
     yMin = yMinMax[0];
     yMax = yMinMax[1];
     // System.out.println(yMin);
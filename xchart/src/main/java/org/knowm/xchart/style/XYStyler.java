@@ -10,6 +10,8 @@ import org.knowm.xchart.style.theme.Theme;
 public class XYStyler extends AxesChartStyler {
 
   private XYSeriesRenderStyle xySeriesRenderStyle;
+  private DecimationMode decimationMode;
+  private boolean isLinePathRendering;
 
   // Zoom ///////////////////////////
   private boolean isZoomEnabled;
@@ -42,6 +44,8 @@ public class XYStyler extends AxesChartStyler {
     // Zoom ///////////////////////////
     // TODO set this from the theme
     xySeriesRenderStyle = XYSeriesRenderStyle.Line; // set default to line
+    decimationMode = DecimationMode.None;
+    isLinePathRendering = false;
     isZoomEnabled = false; // set default to false
     zoomSelectionColor = ChartColor.LIGHT_GREY.getColorTranslucent();
     zoomResetByDoubleClick = true;
@@ -84,6 +88,52 @@ public class XYStyler extends AxesChartStyler {
     return this;
   }
 
+  public DecimationMode getDecimationMode() {
+
+    return decimationMode;
+  }
+
+  /**
+   * Sets the default decimation mode for the chart. With a mode other than None, line, area and
+   * step series with many more points than the plot is wide are reduced to a subset of points
+   * before rendering. You can override the decimation mode individually on each Series object.
+   *
+   * @param decimationMode
+   */
+  public XYStyler setDecimationMode(DecimationMode decimationMode) {
+
+    this.decimationMode = decimationMode;
+    return this;
+  }
+
+  public enum DecimationMode {
+    /** render every data point */
+    None,
+    /** keep the first, min, max and last point of each pixel column */
+    MinMax,
+    /** Largest-Triangle-Three-Buckets down sampling to about two points per pixel column */
+    LTTB
+  }
+
+  public boolean isLinePathRendering() {
+
+    return isLinePathRendering;
+  }
+
+  /**
+   * Set whether line and step series are drawn as one path per contiguous run of data (split only
+   * at NaN gaps) instead of one line segment at a time. This is much faster for series with many
+   * points and produces far smaller SVG, EPS and PDF files. Dashed lines keep their dash pattern
+   * across data points and line joins are applied between segments.
+   *
+   * @param isLinePathRendering
+   */
+  public XYStyler setLinePathRendering(boolean isLinePathRendering) {
+
+    this.isLinePathRendering = isLinePathRendering;
+    return this;
+  }
+
   // Zoom ///////////////////////////////
 
   public boolean isZoomEnabled() {
@@ -0,0 +1,167 @@
+package org.knowm.xchart;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.knowm.xchart.BitmapEncoder.BitmapFormat;
+import org.knowm.xchart.BitmapEncoder.PNGFilter;
+
+public class BitmapEncoderTest {
+
+  @Test
+  public void saveBitmapsShouldWriteSameBytesAsSaveBitmap() throws Exception {
+    // given
+    List<XYChart> charts = new ArrayList<>();
+    List<ByteArrayOutputStream> streams = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      double[] xData = {0, 1, 2, 3};
+      double[] yData = {i, 2 * i, i * i, 1};
+      charts.add(QuickChart.getChart("Chart " + i, "X", "Y", "y(x)", xData, yData));
+      streams.add(new ByteArrayOutputStream());
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // when
+    try {
+      BitmapEncoder.saveBitmaps(charts, streams, BitmapFormat.PNG, executor);
+    } finally {
+      executor.shutdown();
+    }
+
+    // test
+    for (int i = 0; i < charts.size(); i++) {
+      assertArrayEquals(
+          BitmapEncoder.getBitmapBytes(charts.get(i), BitmapFormat.PNG),
+          streams.get(i).toByteArray());
+    }
+  }
+
+  @Test
+  public void getBufferedImagesShouldPaintLikeSequentialPainting() throws Exception {
+    // given
+    List<CategoryChart> charts = new ArrayList<>();
+    List<BufferedImage> expected = new ArrayList<>();
+    for (int i = 0; i < 24; i++) {
+      // the same title, axis and tick label texts on all charts
+      CategoryChart chart =
+          new CategoryChartBuilder().width(400).height(300).title("Chart").build();
+      chart.addSeries("a", Arrays.asList("x", "y", "z"), Arrays.asList(i % 3, 2, 3));
+      chart.addSeries("b", Arrays.asList("x", "y", "z"), Arrays.asList(1.5, i % 4, 2.5));
+      charts.add(chart);
+      expected.add(BitmapEncoder.getBufferedImage(chart));
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // when
+    List<List<BufferedImage>> rounds = new ArrayList<>();
+    try {
+      for (int round = 0; round < 5; round++) {
+        rounds.add(BitmapEncoder.getBufferedImages(charts, executor));
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    // test
+    for (List<BufferedImage> images : rounds) {
+      for (int i = 0; i < charts.size(); i++) {
+        assertArrayEquals(getPixels(expected.get(i)), getPixels(images.get(i)));
+      }
+    }
+  }
+
+  @Test
+  public void saveBitmapsShouldRejectSharedCharts() {
+    // given
+    XYChart chart = new XYChartBuilder().build();
+
+    // when & test
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            BitmapEncoder.saveBitmaps(
+                Arrays.asList(chart, chart),
+                Arrays.asList(new ByteArrayOutputStream(), new ByteArrayOutputStream()),
+                BitmapFormat.PNG));
+  }
+
+  @Test
+  public void saveBitmapOfAGridShouldPaintEachCellLikeGetBufferedImage() throws Exception {
+    // given
+    XYChart first =
+        QuickChart.getChart("First", "X", "Y", "y(x)", new double[] {0, 1}, new double[] {0, 1});
+    XYChart second =
+        QuickChart.getChart("Second", "X", "Y", "y(x)", new double[] {0, 1}, new double[] {1, 0});
+    // a chart may fill several cells
+    List<XYChart> charts = Arrays.asList(first, second, second, first);
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+    // when
+    BitmapEncoder.saveBitmap(charts, 2, 2, stream, BitmapFormat.PNG);
+
+    // test
+    BufferedImage merged = ImageIO.read(new ByteArrayInputStream(stream.toByteArray()));
+    int width = first.getWidth();
+    int height = first.getHeight();
+    for (int i = 0; i < charts.size(); i++) {
+      BufferedImage cell = merged.getSubimage(i % 2 * width, i / 2 * height, width, height);
+      assertArrayEquals(getPixels(BitmapEncoder.getBufferedImage(charts.get(i))), getPixels(cell));
+    }
+  }
+
+  @Test
+  public void savePNGShouldDecodeToTheSamePixels() throws Exception {
+    // given
+    double[] xData = {0, 1, 2};
+    double[] yData = {3, 1, 2};
+    XYChart chart = QuickChart.getChart("PNG", "X", "Y", "y(x)", xData, yData);
+    int[] expected = getPixels(BitmapEncoder.getBufferedImage(chart));
+
+    for (PNGFilter filter : PNGFilter.values()) {
+      // when
+      ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      BitmapEncoder.savePNG(chart, stream, 1, filter, null);
+
+      // test
+      BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(stream.toByteArray()));
+      assertArrayEquals(expected, getPixels(decoded));
+    }
+  }
+
+  @Test
+  public void pooledImagesShouldBeReusedAndCleared() {
+    // given
+    XYChart chart =
+        QuickChart.getChart("Pool", "X", "Y", "y(x)", new double[] {0, 1}, new double[] {0, 1});
+    BufferedImagePool pool = new BufferedImagePool(1);
+    BufferedImage first = BitmapEncoder.getBufferedImage(chart, pool);
+    pool.release(first);
+
+    // when
+    BufferedImage second = pool.acquire(chart.getWidth(), chart.getHeight(), first.getType());
+
+    // test
+    assertSame(first, second);
+    assertArrayEquals(new int[chart.getWidth() * chart.getHeight()], getPixels(second));
+  }
+
+  private static int[] getPixels(BufferedImage image) {
+
+    int[] pixels = new int[image.getWidth() * image.getHeight()];
+    for (int i = 0; i < pixels.length; i++) {
+      pixels[i] = image.getRGB(i % image.getWidth(), i / image.getWidth()) & 0xFFFFFF;
+    }
+    return pixels;
+  }
+}
@@ -0,0 +1,71 @@
+package org.knowm.xchart;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.knowm.xchart.CSVImporter.DataOrientation;
+
+public class CSVExporterTest {
+
+  @Test
+  public void writeCSVColumnsShouldBeReadBackByCSVImporter() throws Exception {
+    // given
+    Random random = new Random(42);
+    double[] xData = new double[10_000];
+    double[] yData = new double[10_000];
+    for (int i = 0; i < xData.length; i++) {
+      xData[i] = i * 0.1;
+      yData[i] = random.nextGaussian() * Math.pow(10, random.nextInt(20) - 10);
+    }
+    XYChart chart = new XYChartBuilder().build();
+    chart.addSeries("a", xData, yData);
+    chart.addSeries("b", yData, xData);
+    Path dir = Files.createTempDirectory("xchart");
+    dir.toFile().deleteOnExit();
+    dir.resolve("a.csv").toFile().deleteOnExit();
+    dir.resolve("b.csv").toFile().deleteOnExit();
+    dir.resolve("a.csv.gz").toFile().deleteOnExit();
+
+    // when
+    CSVExporter.writeCSVColumns(chart, dir + "/");
+    CSVExporter.writeCSVColumns(chart.getSeriesMap().get("a"), dir + "/", true);
+
+    // test
+    XYChart importedChart =
+        CSVImporter.getChartFromCSVDir(dir + "/", DataOrientation.Columns, 8, 6);
+    assertArrayEquals(xData, importedChart.getSeriesMap().get("a").getXData());
+    assertArrayEquals(yData, importedChart.getSeriesMap().get("a").getYData());
+    assertArrayEquals(yData, importedChart.getSeriesMap().get("b").getXData());
+    try (InputStream in = new GZIPInputStream(Files.newInputStream(dir.resolve("a.csv.gz")))) {
+      ByteArrayOutputStream unzipped = new ByteArrayOutputStream();
+      byte[] buffer = new byte[4096];
+      for (int length; (length = in.read(buffer)) != -1; ) {
+        unzipped.write(buffer, 0, length);
+      }
+      assertArrayEquals(Files.readAllBytes(dir.resolve("a.csv")), unzipped.toByteArray());
+    }
+  }
+
+  @Test
+  public void formatShouldWritePlainValuesLikeDoubleToString() {
+    // given
+    double[] values = {0, -0.0, 0.1, -0.5, 42, 0.001, 0.3 + 0.6, 1.0 / 3, 9_999_999.5, 1e7, 1e-4};
+
+    for (double value : values) {
+      // when
+      byte[] bytes = new byte[32];
+      int length = CSVDataWriter.format(value, bytes, 0);
+
+      // test
+      assertEquals(Double.toString(value), new String(bytes, 0, length, StandardCharsets.US_ASCII));
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package org.knowm.xchart;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.knowm.xchart.CSVImporter.DataOrientation;
+
+public class CSVImporterTest {
+
+  @Test
+  public void getChartFromCSVDirShouldReadRowsAndColumns() throws Exception {
+    // given
+    Path rowsDir = Files.createTempDirectory("xchart");
+    Path columnsDir = Files.createTempDirectory("xchart");
+    rowsDir.toFile().deleteOnExit();
+    columnsDir.toFile().deleteOnExit();
+    write(rowsDir.resolve("a.csv"), "1,2,3\n10.5,-2e1,30\n");
+    write(rowsDir.resolve("b.csv"), "1, 2 ,3,\r\n4,5,6\r\n0.1,0.2,0.3\r\n");
+    write(columnsDir.resolve("c.csv"), "1,10\n\n2,20,\n3,30\n");
+
+    // when
+    XYChart rowsChart = CSVImporter.getChartFromCSVDir(rowsDir + "/", DataOrientation.Rows, 8, 6);
+    XYChart columnsChart =
+        CSVImporter.getChartFromCSVDir(columnsDir + "/", DataOrientation.Columns, 8, 6);
+
+    // test
+    XYSeries a = rowsChart.getSeriesMap().get("a");
+    assertArrayEquals(new double[] {1, 2, 3}, a.getXData());
+    assertArrayEquals(new double[] {10.5, -20, 30}, a.getYData());
+    assertNull(a.getExtraValues());
+    XYSeries b = rowsChart.getSeriesMap().get("b");
+    assertArrayEquals(new double[] {4, 5, 6}, b.getYData());
+    assertArrayEquals(new double[] {0.1, 0.2, 0.3}, b.getExtraValues());
+    XYSeries c = columnsChart.getSeriesMap().get("c");
+    assertArrayEquals(new double[] {1, 2, 3}, c.getXData());
+    assertArrayEquals(new double[] {10, 20, 30}, c.getYData());
+  }
+
+  @Test
+  public void parseDoubleShouldReturnSameAsDoubleParseDouble() {
+    // given
+    Random random = new Random(42);
+    String[] dataPoints = new String[10_000];
+    String[] specialDataPoints = {
+      "0",
+      "-0",
+      "+1",
+      "1.",
+      ".5",
+      "0.1",
+      "1e22",
+      "1e23",
+      "9007199254740993",
+      "123456789.123456789",
+      "4.9e-324",
+      "1.7976931348623157e308",
+      "1e-400",
+      "NaN",
+      "-Infinity",
+      "0x1p3",
+      "2.5f",
+      "7d"
+    };
+    for (int i = 0; i < dataPoints.length; i++) {
+      if (i < specialDataPoints.length) {
+        dataPoints[i] = specialDataPoints[i];
+      } else if (i % 2 == 0) {
+        double scale = Math.pow(10, random.nextInt(40) - 20);
+        dataPoints[i] = Double.toString(random.nextGaussian() * scale);
+      } else {
+        dataPoints[i] = String.format(Locale.ROOT, "%.4f", random.nextDouble() * 1000 - 500);
+      }
+    }
+
+    for (String dataPoint : dataPoints) {
+      // when
+      byte[] bytes = dataPoint.getBytes(StandardCharsets.US_ASCII);
+      double value = CSVDataReader.parseDouble(bytes, 0, bytes.length);
+
+      // test
+      assertEquals(Double.parseDouble(dataPoint), value, dataPoint);
+    }
+  }
+
+  @Test
+  public void parseDoubleShouldNameTheDataPointItCannotParse() {
+    // given
+    byte[] bytes = "1.5,abc".getBytes(StandardCharsets.US_ASCII);
+
+    // when
+    NumberFormatException e =
+        assertThrows(
+            NumberFormatException.class, () -> CSVDataReader.parseDouble(bytes, 4, bytes.length));
+
+    // test
+    assertEquals("Error parsing >abc<!!!", e.getMessage());
+  }
+
+  private static void write(Path file, String content) throws Exception {
+
+    file.toFile().deleteOnExit();
+    Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+  }
+}
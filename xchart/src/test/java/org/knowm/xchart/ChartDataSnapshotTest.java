@@ -0,0 +1,104 @@
+package org.knowm.xchart;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.knowm.xchart.internal.series.Series.DataType;
+
+public class ChartDataSnapshotTest {
+
+  @Test
+  public void xyAndOHLCChartDataShouldBeLoadedAsSaved() throws Exception {
+    // given
+    XYChart xyChart = new XYChartBuilder().build();
+    List<Date> dates = new ArrayList<>();
+    List<Double> values = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      dates.add(new Date(1_600_000_000_000L + i * 1000L));
+      values.add(Math.sin(i / 100.0));
+    }
+    xyChart.addSeries("dates", dates, values);
+    xyChart.addSeries("errorBars", new double[] {1, 2, 3}, new double[] {4, 5, 6}, new double[3]);
+    OHLCChart ohlcChart = new OHLCChartBuilder().build();
+    ohlcChart.addSeries(
+        "candles",
+        new double[] {1, 2},
+        new double[] {10, 11},
+        new double[] {12, 13},
+        new double[] {9, 10},
+        new double[] {11, 12},
+        new long[] {100, 200});
+    Path file = Files.createTempFile("xchart", ".snapshot");
+    file.toFile().deleteOnExit();
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+    // when
+    ChartDataSnapshot.save(xyChart, file, false);
+    ChartDataSnapshot.save(ohlcChart, compressed, true);
+    XYChart loadedXYChart = new XYChartBuilder().build();
+    ChartDataSnapshot.load(loadedXYChart, file);
+    OHLCChart loadedOHLCChart = new OHLCChartBuilder().build();
+    ChartDataSnapshot.load(loadedOHLCChart, new ByteArrayInputStream(compressed.toByteArray()));
+
+    // test
+    XYSeries dateSeries = loadedXYChart.getSeriesMap().get("dates");
+    assertEquals(DataType.Date, dateSeries.getxAxisDataType());
+    assertArrayEquals(xyChart.getSeriesMap().get("dates").getXData(), dateSeries.getXData());
+    assertArrayEquals(xyChart.getSeriesMap().get("dates").getYData(), dateSeries.getYData());
+    XYSeries errorBarSeries = loadedXYChart.getSeriesMap().get("errorBars");
+    assertArrayEquals(new double[3], errorBarSeries.getExtraValues());
+    OHLCSeries candles = loadedOHLCChart.getSeriesMap().get("candles");
+    assertArrayEquals(new double[] {12, 13}, candles.getHighData());
+    assertArrayEquals(new long[] {100, 200}, candles.getVolumeData());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ChartDataSnapshot.load(new CategoryChartBuilder().build(), file));
+  }
+
+  @Test
+  public void categoryAndHeatMapChartDataShouldBeLoadedAsSaved() throws Exception {
+    // given
+    CategoryChart categoryChart = new CategoryChartBuilder().build();
+    categoryChart.addSeries("fruit", Arrays.asList("apples", "pears"), Arrays.asList(3, null));
+    HeatMapChart heatMapChart = new HeatMapChartBuilder().build();
+    heatMapChart.addSeries(
+        "heat",
+        Arrays.asList(1.0, 2.0, 3.0),
+        Arrays.asList(1.0, 2.0),
+        Arrays.asList(new Number[] {0, 0, 5}, new Number[] {2, 1, 7}));
+    Path file = Files.createTempFile("xchart", ".snapshot");
+    file.toFile().deleteOnExit();
+    ByteArrayOutputStream categoryOut = new ByteArrayOutputStream();
+
+    // when
+    ChartDataSnapshot.save(categoryChart, categoryOut, false);
+    ChartDataSnapshot.save(heatMapChart, file, false);
+    CategoryChart loadedCategoryChart = new CategoryChartBuilder().build();
+    ChartDataSnapshot.load(
+        loadedCategoryChart, new ByteArrayInputStream(categoryOut.toByteArray()));
+    HeatMapChart loadedHeatMapChart = new HeatMapChartBuilder().build();
+    ChartDataSnapshot.load(loadedHeatMapChart, file);
+
+    // test
+    CategorySeries fruit = loadedCategoryChart.getSeriesMap().get("fruit");
+    assertEquals(Arrays.asList("apples", "pears"), fruit.getXData());
+    assertEquals(Arrays.asList(3.0, null), fruit.getYData());
+    assertNull(fruit.getExtraValues());
+    HeatMapSeries heat = loadedHeatMapChart.getSeriesMap().get("heat");
+    assertEquals(Arrays.asList(1.0, 2.0, 3.0), heat.getXData());
+    assertEquals(5.0, heat.getDenseValue(0));
+    assertEquals(7.0, heat.getDenseValue(5));
+    assertEquals(Double.NaN, heat.getDenseValue(1));
+  }
+}
@@ -0,0 +1,111 @@
+package org.knowm.xchart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.Test;
+
+public class ChartUpdateSchedulerTest {
+
+  @Test
+  public void shouldCoalesceUpdatesFromManyThreadsIntoFewFrames() throws Exception {
+    // given
+    AtomicInteger repaints = new AtomicInteger();
+    JPanel panel =
+        new JPanel() {
+
+          @Override
+          public void repaint() {
+
+            repaints.incrementAndGet();
+          }
+        };
+    int initialRepaints = repaints.get();
+    ChartUpdateScheduler scheduler = new ChartUpdateScheduler(panel);
+    scheduler.setMaxFPS(10);
+    int[] latest = new int[4];
+    AtomicInteger applied = new AtomicInteger();
+
+    // when
+    long start = System.nanoTime();
+    List<Thread> producers = new ArrayList<>();
+    for (int p = 0; p < latest.length; p++) {
+      int series = p;
+      Thread producer =
+          new Thread(
+              () -> {
+                for (int i = 1; i <= 1000; i++) {
+                  int value = i;
+                  scheduler.submit(
+                      series,
+                      () -> {
+                        latest[series] = value;
+                        applied.incrementAndGet();
+                      });
+                }
+              });
+      producers.add(producer);
+      producer.start();
+    }
+    for (Thread producer : producers) {
+      producer.join();
+    }
+    // wait for the frame delayed by the frame rate limit
+    Thread.sleep(300);
+    SwingUtilities.invokeAndWait(() -> {});
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    // test
+    for (int value : latest) {
+      assertEquals(1000, value);
+    }
+    assertEquals(0, scheduler.getPendingUpdateCount());
+    assertEquals(4000, scheduler.getSubmittedUpdateCount());
+    assertEquals(4000, scheduler.getDroppedUpdateCount() + applied.get());
+    assertEquals(applied.get(), scheduler.getFrameCount() + scheduler.getMergedUpdateCount());
+    assertEquals(repaints.get() - initialRepaints, scheduler.getFrameCount());
+    // at most 10 frames per second
+    assertTrue(scheduler.getFrameCount() <= elapsedMillis / 100 + 1);
+  }
+
+  @Test
+  public void shouldKeepOnlyTheNewestUpdateWithoutAKey() throws Exception {
+    // given
+    ChartUpdateScheduler scheduler = new ChartUpdateScheduler(new JPanel());
+    int[] latest = new int[1];
+    int[] pending = new int[1];
+
+    // when
+    // submitted on the Event Dispatch Thread, so no frame runs in between
+    SwingUtilities.invokeAndWait(
+        () -> {
+          for (int i = 1; i <= 1000; i++) {
+            int value = i;
+            scheduler.submit(() -> latest[0] = value);
+          }
+          pending[0] = scheduler.getPendingUpdateCount();
+        });
+    SwingUtilities.invokeAndWait(() -> {});
+
+    // test
+    assertEquals(1, pending[0]);
+    assertEquals(1000, latest[0]);
+    assertEquals(999, scheduler.getDroppedUpdateCount());
+    assertEquals(0, scheduler.getPendingUpdateCount());
+  }
+
+  @Test
+  public void shouldRejectInvalidMaxFPS() {
+    // given
+    ChartUpdateScheduler scheduler = new ChartUpdateScheduler(new JPanel());
+
+    // when & test
+    assertThrows(IllegalArgumentException.class, () -> scheduler.setMaxFPS(0));
+  }
+}
@@ -0,0 +1,81 @@
+package org.knowm.xchart;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import com.madgag.gif.fmsware.AnimatedGifEncoder;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class GifEncoderTest {
+
+  @Test
+  public void animatedGifWriterShouldWriteSameBytesAsAnimatedGifEncoder() throws Exception {
+    // given
+    int frameCount = 12;
+    BufferedImage[] frames = new BufferedImage[frameCount];
+    for (int i = 0; i < frameCount; i++) {
+      double[] yData = {i, 2 * i, i * i, 1};
+      XYChart chart = QuickChart.getChart("Frame " + i, "X", "Y", "y(x)", null, yData);
+      chart.getStyler().setChartBackgroundColor(new java.awt.Color(20 * i, 100, 200));
+      frames[i] = BitmapEncoder.getBufferedImage(chart);
+    }
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    AnimatedGifEncoder encoder = new AnimatedGifEncoder();
+    encoder.setRepeat(0);
+    encoder.start(expected);
+    encoder.setDelay(100);
+    for (BufferedImage frame : frames) {
+      encoder.addFrame(frame);
+    }
+    encoder.finish();
+    ByteArrayOutputStream actual = new ByteArrayOutputStream();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // when
+    try {
+      AnimatedGifWriter writer = new AnimatedGifWriter(actual, 0, 100, executor, 3);
+      for (BufferedImage frame : frames) {
+        writer.addFrame(frame);
+      }
+      writer.finish();
+    } finally {
+      executor.shutdown();
+    }
+
+    // test
+    assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+  }
+
+  @Test
+  public void saveGifShouldPaintTheChartForEachFrame() throws Exception {
+    // given
+    XYChart chart = new XYChartBuilder().width(200).height(150).build();
+    chart.addSeries("series", new double[] {0, 1, 2});
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    AnimatedGifEncoder encoder = new AnimatedGifEncoder();
+    encoder.setRepeat(-1);
+    encoder.start(expected);
+    encoder.setDelay(50);
+    for (int i = 0; i < 5; i++) {
+      chart.updateXYSeries("series", null, new double[] {i, 1, 2 * i}, null);
+      encoder.addFrame(BitmapEncoder.getBufferedImage(chart));
+    }
+    encoder.finish();
+    ByteArrayOutputStream actual = new ByteArrayOutputStream();
+
+    // when
+    GifEncoder.saveGif(
+        actual,
+        chart,
+        5,
+        i -> chart.updateXYSeries("series", null, new double[] {i, 1, 2 * i}, null),
+        -1,
+        50);
+
+    // test
+    assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+  }
+}
@@ -0,0 +1,77 @@
+package org.knowm.xchart;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class HeatMapChartTest {
+
+  @Test
+  public void denseSeriesShouldIgnoreNaNAndViewValuesAsTriples() {
+    // given
+    HeatMapChart chart = new HeatMapChartBuilder().build();
+    List<Integer> xData = Arrays.asList(1, 2, 3);
+    List<Integer> yData = Arrays.asList(1, 2);
+    double[] heatData = {4, 2, Double.NaN, 7, 5, 3};
+
+    // when
+    HeatMapSeries series = chart.addSeries("dense", xData, yData, heatData);
+
+    // test
+    assertTrue(series.isDense());
+    assertEquals(2, series.getMin(), 0);
+    assertEquals(7, series.getMax(), 0);
+    assertEquals(6, series.getHeatData().size());
+    assertArrayEquals(new Number[] {0, 1, 7.0}, series.getHeatData().get(3));
+  }
+
+  @Test
+  public void denseSeriesShouldPaintLikeTriples() {
+    // given
+    List<Integer> xData = Arrays.asList(1, 2, 3);
+    List<Integer> yData = Arrays.asList(1, 2);
+    double[] heatData = {0, 100, 50, 25, 75, 100};
+    HeatMapChart denseChart = new HeatMapChartBuilder().build();
+    denseChart.addSeries("heat", xData, yData, heatData);
+    HeatMapChart chart = new HeatMapChartBuilder().build();
+    int[][] triples = {{0, 25}, {100, 75}, {50, 100}};
+    chart.addSeries("heat", new int[] {1, 2, 3}, new int[] {1, 2}, triples);
+
+    // when
+    BufferedImage denseImage = BitmapEncoder.getBufferedImage(denseChart);
+    BufferedImage image = BitmapEncoder.getBufferedImage(chart);
+
+    // test, only the edges of the cells differ, as dense cells are not anti-aliased
+    int differentPixels = 0;
+    for (int x = 0; x < image.getWidth(); x++) {
+      for (int y = 0; y < image.getHeight(); y++) {
+        int expected = image.getRGB(x, y);
+        int actual = denseImage.getRGB(x, y);
+        for (int shift = 0; shift < 24; shift += 8) {
+          if (Math.abs(((expected >> shift) & 0xFF) - ((actual >> shift) & 0xFF)) > 1) {
+            differentPixels++;
+            break;
+          }
+        }
+      }
+    }
+    assertTrue(differentPixels < image.getWidth() * image.getHeight() / 100);
+  }
+
+  @Test
+  public void denseSeriesShouldRejectTooLittleData() {
+    // given
+    HeatMapChart chart = new HeatMapChartBuilder().build();
+
+    // when & test
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> chart.addSeries("dense", Arrays.asList(1, 2), Arrays.asList(1, 2), new double[3]));
+  }
+}
@@ -0,0 +1,120 @@
+package org.knowm.xchart;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.knowm.xchart.internal.series.Series;
+
+public class OHLCChartTest {
+
+  @Test
+  public void streamingSeriesShouldMergeTicksIntoCandles() {
+    // given
+    OHLCChart chart = new OHLCChartBuilder().width(400).height(300).build();
+    StreamingOHLCSeries series = chart.addStreamingSeries("ticks", 10, 3);
+
+    // when
+    series.addTick(0, 5, 1);
+    series.addTick(3, 7, 2);
+    series.addTick(9, 4, 3);
+    series.addTick(12, 6, 4);
+    series.addTick(25, 8, 5);
+    series.addTick(31, 9, 6);
+    BitmapEncoder.getBufferedImage(chart);
+
+    // test
+    Assertions.assertArrayEquals(new double[] {10, 20, 30}, series.getXData());
+    Assertions.assertArrayEquals(new double[] {6, 8, 9}, series.getOpenData());
+    Assertions.assertArrayEquals(new long[] {4, 5, 6}, series.getVolumeData());
+    Assertions.assertEquals(6.0, series.getYMin());
+    Assertions.assertEquals(9.0, series.getYMax());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> series.addTick(29, 1, 1));
+  }
+
+  @Test
+  public void streamingSeriesShouldKeepMinAndMaxOfTheCandlesWithinCapacity() {
+    // given
+    StreamingOHLCSeries series = new StreamingOHLCSeries("ticks", 1, 50, Series.DataType.Number);
+    StreamingOHLCSeries single = new StreamingOHLCSeries("tick", 1, 1, Series.DataType.Number);
+    double[] prices = new double[1_000];
+    for (int i = 0; i < prices.length; i++) {
+      prices[i] = (i * 7919) % 1000;
+    }
+
+    for (int i = 0; i < prices.length; i++) {
+      // when
+      series.addTick(i, prices[i], i);
+      series.addTick(i + 0.5, prices[i] / 2, 1);
+      single.addTick(i, prices[i], i);
+
+      // test
+      double min = Double.MAX_VALUE;
+      double max = -Double.MAX_VALUE;
+      for (int j = Math.max(0, i - 49); j <= i; j++) {
+        min = Math.min(min, prices[j] / 2);
+        max = Math.max(max, prices[j]);
+      }
+      Assertions.assertEquals(Math.min(i + 1, 50), series.getSize());
+      Assertions.assertEquals(min, series.getYMin());
+      Assertions.assertEquals(max, series.getYMax());
+      Assertions.assertEquals(Math.max(0, i - 49), series.getXMin());
+      Assertions.assertEquals(i + 1, series.getVolumeData()[series.getSize() - 1]);
+      Assertions.assertEquals(1, single.getSize());
+      Assertions.assertEquals(prices[i], single.getYMax());
+    }
+    Assertions.assertEquals(950 + 1, series.getVolumeData()[0]);
+  }
+
+  @Test
+  public void streamingSeriesAtCapacityShouldReuseItsArrays() {
+    // given
+    OHLCChart chart = new OHLCChartBuilder().width(400).height(300).build();
+    StreamingOHLCSeries series = chart.addStreamingSeries("ticks", 1, 1_000);
+    for (int i = 0; i < 1_000; i++) {
+      series.addTick(i, i % 100, 1);
+    }
+    double[] xData = series.getXData();
+    series.setPaintedRange(0, 1_000, 400);
+    double[] mergedXData = series.getXData();
+    series.endPaint();
+
+    // when
+    series.addTick(999.5, 200, 1);
+    double[] tickXData = series.getXData();
+    double tickHigh = series.getHighData()[999];
+    series.addTick(1_000, 0, 1);
+    double[] candleXData = series.getXData();
+    double candleXMin = series.getXMin();
+    // the same 50 merged candles
+    series.setPaintedRange(0, 999, 400);
+
+    // test
+    Assertions.assertSame(xData, tickXData);
+    Assertions.assertEquals(200.0, tickHigh);
+    Assertions.assertSame(xData, candleXData);
+    Assertions.assertEquals(1.0, candleXMin);
+    Assertions.assertEquals(1_000.0, candleXData[999]);
+    Assertions.assertSame(mergedXData, series.getXData());
+  }
+
+  @Test
+  public void streamingSeriesShouldMergeCandlesWhenZoomedOut() {
+    // given
+    OHLCChart chart = new OHLCChartBuilder().width(400).height(300).build();
+    StreamingOHLCSeries series = chart.addStreamingSeries("ticks", 1, 100_000);
+    for (int i = 0; i < 100_000; i++) {
+      series.addTick(i, i % 100, 1);
+    }
+    BitmapEncoder.getBufferedImage(chart);
+
+    // when
+    series.setPaintedRange(0, 100_000, 400);
+
+    // test
+    double[] xData = series.getXData();
+    Assertions.assertTrue(xData.length <= 400 / StreamingOHLCSeries.DEFAULT_MIN_CANDLE_WIDTH);
+    Assertions.assertEquals(0.0, series.getOpenData()[0]);
+    Assertions.assertEquals(99.0, series.getHighData()[0]);
+    Assertions.assertEquals(100_000 / xData.length, series.getVolumeData()[0]);
+    Assertions.assertEquals(99_999.0, series.getXMax());
+  }
+}
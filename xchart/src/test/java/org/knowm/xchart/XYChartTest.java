@@ -1,9 +1,28 @@
 package org.knowm.xchart;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.knowm.xchart.internal.chartpart.ToolTips;
+import org.knowm.xchart.internal.series.Series.DataType;
+import org.knowm.xchart.style.Styler;
 
 public class XYChartTest {
   private static final String digestType = "md5";
@@ -26,4 +45,539 @@ public class XYChartTest {
     // test
     // finishes
   }
+
+  @Test
+  public void streamingSeriesShouldKeepWindowOfNewestPoints() throws Exception {
+    // given
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    StreamingXYSeries series = chart.addStreamingSeries("stream", 100);
+    BitmapEncoder.getBufferedImage(chart);
+
+    // when
+    for (int i = 0; i < 250; i++) {
+      series.append(i, i % 10);
+    }
+    BitmapEncoder.getBufferedImage(chart);
+
+    // test
+    Assertions.assertEquals(100, series.getXData().length);
+    Assertions.assertEquals(150.0, series.getXData()[0]);
+    Assertions.assertEquals(249.0, series.getXMax());
+    Assertions.assertEquals(150.0, series.getXMin());
+    Assertions.assertEquals(0.0, series.getYMin());
+    Assertions.assertEquals(9.0, series.getYMax());
+  }
+
+  @Test
+  public void streamingSeriesAtCapacityShouldReuseItsSnapshots() throws Exception {
+    // given
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    StreamingXYSeries series = chart.addStreamingSeries("stream", 100);
+    for (int i = 0; i < 100; i++) {
+      series.append(i, i);
+    }
+    BitmapEncoder.getBufferedImage(chart);
+    double[] painted = series.getXData();
+
+    // when
+    series.append(100, 100);
+    double[] first = series.getXData();
+    series.append(101, 101);
+    double[] second = series.getXData();
+    double paintedX = painted[0];
+    BitmapEncoder.getBufferedImage(chart);
+    series.append(102, 102);
+    double[] third = series.getXData();
+
+    // test
+    // the painted snapshot keeps its values until the next paint
+    Assertions.assertNotSame(painted, first);
+    Assertions.assertSame(first, second);
+    Assertions.assertEquals(0.0, paintedX);
+    Assertions.assertEquals(2.0, second[0]);
+    Assertions.assertSame(painted, third);
+    Assertions.assertEquals(3.0, third[0]);
+  }
+
+  @Test
+  public void filterXByValueShouldViewSortedDataWithoutCopying() throws Exception {
+    // given
+    double[] xData = new double[1_000];
+    double[] yData = new double[1_000];
+    for (int i = 0; i < xData.length; i++) {
+      xData[i] = i;
+      yData[i] = i % 100;
+    }
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    XYSeries series = chart.addSeries("series", xData, yData);
+
+    // when
+    boolean filtered = series.filterXByValue(250.5, 420);
+    BitmapEncoder.getBufferedImage(chart);
+
+    // test
+    Assertions.assertTrue(filtered);
+    Assertions.assertSame(xData, series.getBackingXData());
+    Assertions.assertEquals(251, series.getDataOffset());
+    Assertions.assertEquals(170, series.getDataCount());
+    Assertions.assertEquals(170, series.getXData().length);
+    Assertions.assertEquals(251.0, series.getXMin());
+    Assertions.assertEquals(420.0, series.getXMax());
+    Assertions.assertEquals(0.0, series.getYMin());
+    Assertions.assertEquals(99.0, series.getYMax());
+    Assertions.assertFalse(series.isAllXData());
+
+    series.resetFilter();
+    Assertions.assertTrue(series.isAllXData());
+    Assertions.assertSame(xData, series.getXData());
+  }
+
+  @Test
+  public void filterXByValueShouldLeaveOutUnsortedDataWithoutCopying() throws Exception {
+    // given
+    double[] xData = new double[1_000];
+    double[] yData = new double[1_000];
+    for (int i = 0; i < xData.length; i++) {
+      xData[i] = (i * 7) % 1_000;
+      yData[i] = xData[i] % 100;
+    }
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    XYSeries series = chart.addSeries("series", xData, yData);
+
+    // when
+    boolean filtered = series.filterXByValue(250.5, 420);
+    BitmapEncoder.getBufferedImage(chart);
+
+    // test
+    Assertions.assertTrue(filtered);
+    Assertions.assertSame(xData, series.getBackingXData());
+    Assertions.assertEquals(1_000, series.getDataCount());
+    Assertions.assertFalse(series.isInView(0));
+    Assertions.assertEquals(170, series.getXData().length);
+    Assertions.assertEquals(251.0, series.getXMin());
+    Assertions.assertEquals(420.0, series.getXMax());
+    Assertions.assertFalse(series.isAllXData());
+
+    series.resetFilter();
+    Assertions.assertTrue(series.isAllXData());
+    Assertions.assertSame(xData, series.getXData());
+  }
+
+  @Test
+  public void overlayPaintedSeparatelyShouldPaintTheSamePixels() throws Exception {
+    // given
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    chart.getStyler().setToolTipsEnabled(true);
+    chart.getStyler().setToolTipsAlwaysVisible(true);
+    chart.getStyler().setLegendPosition(Styler.LegendPosition.OutsideE);
+    chart.addSeries("series", new double[] {0, 1, 2}, new double[] {2, 0, 1});
+    new ToolTips(chart);
+    BufferedImage expected = BitmapEncoder.getBufferedImage(chart);
+
+    // when
+    chart.setOverlayPaintedSeparately(true);
+    BufferedImage withoutOverlay = BitmapEncoder.getBufferedImage(chart);
+    BufferedImage image = BitmapEncoder.getBufferedImage(chart);
+    Graphics2D g = image.createGraphics();
+    chart.paintOverlay(g);
+    g.dispose();
+
+    // test
+    Assertions.assertArrayEquals(getPixels(expected), getPixels(image));
+    Assertions.assertFalse(Arrays.equals(getPixels(expected), getPixels(withoutOverlay)));
+  }
+
+  @Test
+  public void overlayPaintedLayeredShouldStayBelowTheLegendAndAnnotations() throws Exception {
+    // given
+    XYChart chart = new XYChartBuilder().width(400).height(300).title("Layers").build();
+    chart.getStyler().setToolTipsEnabled(true);
+    chart.getStyler().setToolTipsAlwaysVisible(true);
+    chart.getStyler().setLegendPosition(Styler.LegendPosition.InsideNE);
+    chart.addSeries("series", new double[] {0, 1, 2}, new double[] {0, 1, 2.1});
+    chart.addAnnotation(new AnnotationText("text", 1.8, 1.9, false));
+    new ToolTips(chart);
+    BufferedImage expected = BitmapEncoder.getBufferedImage(chart);
+
+    // when
+    BufferedImage image = new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB);
+    BufferedImage foreground = new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    Graphics2D foregroundGraphics = foreground.createGraphics();
+    chart.paintLayered(g, foregroundGraphics, 400, 300);
+    chart.paintOverlay(g);
+    g.drawImage(foreground, 0, 0, null);
+    g.dispose();
+    foregroundGraphics.dispose();
+
+    // test
+    int[] expectedPixels = getPixels(expected);
+    int[] pixels = getPixels(image);
+    int differentPixels = 0;
+    for (int i = 0; i < pixels.length; i++) {
+      for (int shift = 0; shift < 24; shift += 8) {
+        if (Math.abs(((expectedPixels[i] >> shift) & 0xFF) - ((pixels[i] >> shift) & 0xFF)) > 2) {
+          differentPixels++;
+          break;
+        }
+      }
+    }
+    Assertions.assertEquals(0, differentPixels);
+  }
+
+  @Test
+  public void paintLayeredShouldKeepTheOverlaySetting() throws Exception {
+    // given
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    chart.addSeries("series", new double[] {0, 1, 2}, new double[] {0, 1, 2});
+    BufferedImage image = new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB);
+    BufferedImage foreground = new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    Graphics2D foregroundGraphics = foreground.createGraphics();
+
+    // when
+    chart.setOverlayPaintedSeparately(true);
+    chart.paintLayered(g, foregroundGraphics, 400, 300);
+    boolean isSetAfterPaint = chart.isOverlayPaintedSeparately();
+    chart.setOverlayPaintedSeparately(false);
+    chart.paintLayered(g, foregroundGraphics, 400, 300);
+    g.dispose();
+    foregroundGraphics.dispose();
+
+    // test
+    Assertions.assertTrue(isSetAfterPaint);
+    Assertions.assertFalse(chart.isOverlayPaintedSeparately());
+  }
+
+  @Test
+  public void linePathRenderingShouldPaintMarkersLikeLineSegments() throws Exception {
+    // given
+    BufferedImage[] images = new BufferedImage[2];
+    for (int k = 0; k < images.length; k++) {
+      XYChart chart = new XYChartBuilder().width(400).height(300).build();
+      chart.getStyler().setLinePathRendering(k == 1);
+      chart.getStyler().setMarkerSize(12);
+      double[] yData = {1, 4, 2, 5, Double.NaN, 3, 6, 1, 4, 2};
+      XYSeries series = chart.addSeries("markers", null, yData, new double[yData.length]);
+      series.setLineColor(Color.BLUE);
+      series.setMarkerColor(Color.RED);
+
+      // when
+      images[k] = BitmapEncoder.getBufferedImage(chart);
+    }
+
+    // test, the line doesn't cover the markers, and only where lines are joined pixels differ
+    int[] segmentPixels = getPixels(images[0]);
+    int[] pathPixels = getPixels(images[1]);
+    int differentPixels = 0;
+    int segmentMarkerPixels = 0;
+    int pathMarkerPixels = 0;
+    for (int i = 0; i < segmentPixels.length; i++) {
+      if (segmentPixels[i] != pathPixels[i]) {
+        differentPixels++;
+      }
+      if ((segmentPixels[i] & 0xFFFFFF) == 0xFF0000) {
+        segmentMarkerPixels++;
+      }
+      if ((pathPixels[i] & 0xFFFFFF) == 0xFF0000) {
+        pathMarkerPixels++;
+      }
+    }
+    Assertions.assertTrue(segmentMarkerPixels > 0);
+    Assertions.assertTrue(pathMarkerPixels >= segmentMarkerPixels);
+    Assertions.assertTrue(differentPixels < segmentPixels.length / 100);
+  }
+
+  @Test
+  public void seriesShouldBeUpdatableWhilePaintingOnAnotherThread() throws Exception {
+    // given
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    chart.addSeries("series", new double[] {0, 1}, new double[] {1, 0});
+    StreamingXYSeries stream = chart.addStreamingSeries("stream", 500);
+    AtomicBoolean isDone = new AtomicBoolean();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    Thread producer =
+        new Thread(
+            () -> {
+              try {
+                for (int i = 0; !isDone.get(); i++) {
+                  // differently sized data, so a torn update would fail to paint
+                  double[] data = new double[2 + i % 1000];
+                  chart.updateXYSeries("series", data, data, null);
+                  stream.append(i, i % 7);
+                  if (i % 100 == 0) {
+                    chart.removeSeries("extra");
+                    chart.addSeries("extra", data, data);
+                  }
+                }
+              } catch (Throwable t) {
+                failure.set(t);
+              }
+            });
+
+    // when
+    producer.start();
+    try {
+      for (int i = 0; i < 50; i++) {
+        BitmapEncoder.getBufferedImage(chart);
+      }
+    } finally {
+      isDone.set(true);
+      producer.join();
+    }
+
+    // test
+    Assertions.assertNull(failure.get());
+    Assertions.assertEquals(stream.getXData().length, stream.getYData().length);
+  }
+
+  @Test
+  public void dataSourceSeriesShouldOnlyKeepAFewPointsPerPixel() throws Exception {
+    // given
+    int size = 20_000;
+    ByteBuffer buffer = ByteBuffer.allocate(size * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    for (int i = 0; i < size; i++) {
+      buffer.putFloat(i % 1000 == 0 ? 50 : (float) Math.sin(i / 100.0));
+    }
+    Path yFile = Files.createTempFile("xchart", ".f32");
+    yFile.toFile().deleteOnExit();
+    Files.write(yFile, buffer.array());
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    MappedXYDataSource dataSource =
+        new MappedXYDataSource(yFile, MappedXYDataSource.ValueType.FLOAT);
+    DataSourceXYSeries series = chart.addSeries("mapped", dataSource);
+
+    // when
+    BitmapEncoder.getBufferedImage(chart);
+
+    // test
+    Assertions.assertTrue(series.getPaintedDataCount() <= 4 * 402);
+    Assertions.assertTrue(series.getBackingXData().length < size);
+    Assertions.assertTrue(series.getBackingYData().length < size);
+    Assertions.assertEquals(series.getPaintedDataCount(), series.getDataCount());
+    Assertions.assertEquals(size, series.getXData().length);
+    Assertions.assertEquals(50.0, series.getYData()[0]);
+    Assertions.assertEquals(1.0, series.getXMin());
+    Assertions.assertEquals(size, series.getXMax());
+    Assertions.assertEquals(50.0, series.getYMax());
+    Assertions.assertTrue(series.filterXByValue(1000, 2000));
+    Assertions.assertEquals(50.0, series.getYMax());
+    Assertions.assertEquals(1001, series.getXData().length);
+    Assertions.assertTrue(series.filterXByValue(1100, 1200));
+    Assertions.assertTrue(series.getYMax() < 1);
+  }
+
+  @Test
+  public void scatterDataSourceSeriesShouldKeepOnePointPerPixel() {
+    // given
+    double[] xData = new double[50_000];
+    float[] yData = new float[50_000];
+    for (int i = 0; i < xData.length; i++) {
+      xData[i] = i;
+      yData[i] = (i * 7919) % 1000;
+    }
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    DataSourceXYSeries series = chart.addSeries("scatter", ArrayXYDataSource.of(xData, yData));
+    DataSourceXYSeries line = chart.addSeries("line", ArrayXYDataSource.of(xData, yData));
+    series.setXYSeriesRenderStyle(XYSeries.XYSeriesRenderStyle.Scatter);
+
+    // when
+    BitmapEncoder.getBufferedImage(chart);
+    Set<Long> pixels = new HashSet<>();
+    double xScale = chart.getWidth() / series.getXMax();
+    double yScale = chart.getHeight() / series.getYMax();
+
+    // test
+    Assertions.assertTrue(series.getPaintedDataCount() > 4 * chart.getWidth());
+    Assertions.assertTrue(series.getPaintedDataCount() < xData.length);
+    Assertions.assertTrue(line.getPaintedDataCount() <= 4 * chart.getWidth());
+    Assertions.assertTrue(line.getBackingXData().length < xData.length);
+    for (int i = 0; i < series.getPaintedDataCount(); i++) {
+      long column = (long) (series.getPaintedXData()[i] * xScale);
+      long row = (long) (series.getPaintedYData()[i] * yScale);
+      pixels.add(column << 32 | row);
+    }
+    Assertions.assertTrue(pixels.size() > chart.getWidth() * chart.getHeight() / 4);
+  }
+
+  @Test
+  public void arrayDataSourceShouldReadFloatDataWithoutWidening() throws Exception {
+    // given
+    double[] xData = new double[10_000];
+    float[] yData = new float[10_000];
+    for (int i = 0; i < xData.length; i++) {
+      xData[i] = 1.6e12 + i * 1000.0;
+      yData[i] = (float) Math.cos(i / 50.0);
+    }
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+
+    // when
+    DataSourceXYSeries series =
+        chart.addSeries("floats", ArrayXYDataSource.of(xData, yData), DataType.Date);
+    BitmapEncoder.getBufferedImage(chart);
+
+    // test
+    Assertions.assertTrue(series.getPaintedDataCount() < xData.length);
+    Assertions.assertArrayEquals(xData, series.getXData());
+    Assertions.assertEquals(1.6e12, series.getXMin());
+    Assertions.assertEquals(1.0, series.getYMax());
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> ArrayXYDataSource.of(new short[2], new short[3]));
+  }
+
+  @Test
+  public void dataSourceLargerThanTheHeapShouldPaint() throws Exception {
+    // given
+    String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    ProcessBuilder processBuilder =
+        new ProcessBuilder(
+            java,
+            "-Xmx64m",
+            "-Djava.awt.headless=true",
+            "-cp",
+            System.getProperty("java.class.path"),
+            LargeDataSourcePainter.class.getName());
+    processBuilder.redirectErrorStream(true);
+
+    // when
+    Process process = processBuilder.start();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    InputStream inputStream = process.getInputStream();
+    for (int read; (read = inputStream.read(buffer)) != -1; ) {
+      output.write(buffer, 0, read);
+    }
+
+    // test
+    Assertions.assertEquals(0, process.waitFor(), output.toString("UTF-8"));
+  }
+
+  @Test
+  public void arrayDataSourceShouldNotRetainWidenedDataAfterPainting() {
+    // given
+    float[] xData = new float[1_000_000];
+    float[] yData = new float[1_000_000];
+    for (int i = 0; i < xData.length; i++) {
+      xData[i] = i;
+      yData[i] = (float) Math.sin(i / 1000.0);
+    }
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    DataSourceXYSeries series = chart.addSeries("floats", ArrayXYDataSource.of(xData, yData));
+
+    // when
+    BitmapEncoder.getBufferedImage(chart);
+
+    // test
+    // only the painted points are held as doubles, not a widened copy of the float data
+    Assertions.assertTrue(series.getPaintedDataCount() <= 4 * chart.getWidth());
+    Assertions.assertTrue(series.getBackingXData().length < xData.length);
+    Assertions.assertTrue(series.getBackingYData().length < yData.length);
+  }
+
+  @Test
+  public void dataSourceSeriesShouldReadChangedData() throws Exception {
+    // given
+    float[] xData = {0, 1, 2, 3};
+    float[] yData = {0, 1, 2, 3};
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    DataSourceXYSeries series = chart.addSeries("data", ArrayXYDataSource.of(xData, yData));
+    BitmapEncoder.getBufferedImage(chart);
+    int dataVersion = series.getDataVersion();
+
+    // when
+    yData[3] = 30;
+    series.dataChanged();
+    BitmapEncoder.getBufferedImage(chart);
+    double changedYMax = series.getYMax();
+    double changedPaintedY = series.getPaintedYData()[3];
+    chart.updateXYSeries("data", ArrayXYDataSource.of(new float[] {5, 6}, new float[] {-1, 1}));
+    BitmapEncoder.getBufferedImage(chart);
+
+    // test
+    Assertions.assertNotEquals(dataVersion, series.getDataVersion());
+    Assertions.assertEquals(30.0, changedYMax);
+    Assertions.assertEquals(30.0, changedPaintedY);
+    Assertions.assertEquals(5.0, series.getXMin());
+    Assertions.assertEquals(-1.0, series.getYMin());
+    Assertions.assertEquals(2, series.getPaintedDataCount());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> chart.updateXYSeries("data", new double[] {1}, new double[] {1}, null));
+  }
+
+  @Test
+  public void unsortedDataSourceSeriesShouldKeepAllPointsInRange() throws Exception {
+    // given
+    float[] xData = new float[20_000];
+    float[] yData = new float[20_000];
+    for (int i = 0; i < xData.length; i++) {
+      xData[i] = (i * 7919) % xData.length;
+      yData[i] = xData[i] / 2;
+    }
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    DataSourceXYSeries scatter = chart.addSeries("scatter", ArrayXYDataSource.of(xData, yData));
+    scatter.setXYSeriesRenderStyle(XYSeries.XYSeriesRenderStyle.Scatter);
+    DataSourceXYSeries line = chart.addSeries("line", ArrayXYDataSource.of(xData, yData));
+
+    // when
+    BitmapEncoder.getBufferedImage(chart);
+    ByteArrayOutputStream csv = new ByteArrayOutputStream();
+    CSVExporter.writeCSVColumns(scatter, csv);
+
+    // test
+    Assertions.assertEquals(xData.length, line.getPaintedDataCount());
+    Assertions.assertTrue(scatter.getPaintedDataCount() < xData.length);
+    Assertions.assertEquals(xData.length, csv.toString("UTF-8").split("\n").length);
+    Assertions.assertEquals(0.0, scatter.getXMin());
+    Assertions.assertEquals(xData.length - 1, scatter.getXMax());
+    Assertions.assertTrue(scatter.filterXByValue(100, 199));
+    Assertions.assertEquals(100, scatter.getXData().length);
+    Assertions.assertEquals(50.0, scatter.getYMin());
+    Assertions.assertEquals(99.5, scatter.getYMax());
+    Assertions.assertTrue(scatter.hasXDataBetween(150, 150));
+    Assertions.assertFalse(scatter.hasXDataBetween(250, 300));
+    Assertions.assertFalse(scatter.filterXByValue(0, xData.length));
+  }
+
+  private static int[] getPixels(BufferedImage image) {
+
+    return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+  }
+
+  /**
+   * Paints a data source of 20 million points, 320 MB as doubles, zoomed out and in. Run in a JVM
+   * with a heap far smaller than that, it only exits normally without copying the data.
+   */
+  public static class LargeDataSourcePainter {
+
+    public static void main(String[] args) {
+
+      XYDataSource dataSource =
+          new XYDataSource() {
+
+            @Override
+            public int size() {
+
+              return 20_000_000;
+            }
+
+            @Override
+            public double getX(int index) {
+
+              return index;
+            }
+
+            @Override
+            public double getY(int index) {
+
+              return Math.sin(index / 1000.0);
+            }
+          };
+      XYChart chart = new XYChartBuilder().width(400).height(300).build();
+      DataSourceXYSeries series = chart.addSeries("large", dataSource);
+      BitmapEncoder.getBufferedImage(chart);
+      series.filterXByValue(1_000_000, 2_000_000);
+      BitmapEncoder.getBufferedImage(chart);
+    }
+  }
 }
@@ -0,0 +1,56 @@
+package org.knowm.xchart.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+public class FormatCacheTest {
+
+  private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+  @Test
+  public void shouldReuseFormatsOfTheSamePatternLocaleAndTimeZone() throws Exception {
+    // given
+    SimpleDateFormat dateFormat = FormatCache.getDateFormat("yyyy-MM-dd", Locale.UK, UTC);
+
+    // when
+    SimpleDateFormat sameDateFormat = FormatCache.getDateFormat("yyyy-MM-dd", Locale.UK, UTC);
+    SimpleDateFormat otherTimeZoneDateFormat =
+        FormatCache.getDateFormat("yyyy-MM-dd", Locale.UK, TimeZone.getTimeZone("GMT+10"));
+    SimpleDateFormat otherThreadDateFormat =
+        CompletableFuture.supplyAsync(() -> FormatCache.getDateFormat("yyyy-MM-dd", Locale.UK, UTC))
+            .get();
+
+    // test
+    assertSame(dateFormat, sameDateFormat);
+    assertNotSame(dateFormat, otherTimeZoneDateFormat);
+    assertNotSame(dateFormat, otherThreadDateFormat);
+    assertEquals("2023-06-01", dateFormat.format(1685577600000L));
+    assertEquals("2023-06-01", otherTimeZoneDateFormat.format(1685577600000L - 3_600_000L));
+  }
+
+  @Test
+  public void decimalFormatsShouldFormatLikeTheLocaleNumberInstance() {
+    // given
+    DecimalFormat expected = (DecimalFormat) NumberFormat.getNumberInstance(Locale.GERMANY);
+    expected.applyPattern("#,##0.###");
+
+    // when
+    DecimalFormat decimalFormat = FormatCache.getDecimalFormat("#,##0.###", Locale.GERMANY);
+    DecimalFormat otherPatternDecimalFormat = FormatCache.getDecimalFormat("0E0", Locale.GERMANY);
+
+    // test
+    assertEquals(expected.format(12345.6789), decimalFormat.format(12345.6789));
+    assertEquals("12.345,679", decimalFormat.format(12345.6789));
+    assertEquals("1E4", otherPatternDecimalFormat.format(12345.6789));
+    assertSame(decimalFormat, FormatCache.getDecimalFormat("#,##0.###", Locale.GERMANY));
+  }
+}
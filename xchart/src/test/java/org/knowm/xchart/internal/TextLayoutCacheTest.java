@@ -0,0 +1,71 @@
+package org.knowm.xchart.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.Font;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+public class TextLayoutCacheTest {
+
+  private static final Font FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+
+  @Test
+  public void shouldReuseLayoutsOfTheSameTextFontAndContextOnTheSameThread() {
+    // given
+    TextLayout layout =
+        TextLayoutCache.getTextLayout("Title", FONT, new FontRenderContext(null, true, false));
+
+    // when
+    TextLayout sameLayout =
+        TextLayoutCache.getTextLayout("Title", FONT, new FontRenderContext(null, true, false));
+    TextLayout otherFontLayout =
+        TextLayoutCache.getTextLayout(
+            "Title", FONT.deriveFont(14f), new FontRenderContext(null, true, false));
+    TextLayout otherThreadLayout =
+        CompletableFuture.supplyAsync(
+                () ->
+                    TextLayoutCache.getTextLayout(
+                        "Title", FONT, new FontRenderContext(null, true, false)))
+            .join();
+
+    // test
+    assertSame(layout, sameLayout);
+    assertNotSame(layout, otherFontLayout);
+    assertNotSame(layout, otherThreadLayout);
+  }
+
+  @Test
+  public void outlinesShouldMatchTheLayoutOutline() {
+    // given
+    FontRenderContext frc = new FontRenderContext(null, true, false);
+    TextLayout layout = new TextLayout("Axis 1.5", FONT, frc);
+
+    // when
+    Shape outline = TextLayoutCache.getOutline("Axis 1.5", FONT, frc);
+
+    // test
+    assertSame(outline, TextLayoutCache.getOutline("Axis 1.5", FONT, frc));
+    assertEquals(layout.getOutline(null).getBounds2D(), outline.getBounds2D());
+  }
+
+  @Test
+  public void shouldEvictTheLeastRecentlyUsedLayouts() {
+    // given
+    FontRenderContext frc = new FontRenderContext(null, true, false);
+    TextLayout layout = TextLayoutCache.getTextLayout("first", FONT, frc);
+
+    // when
+    for (int i = 0; i < 10000; i++) {
+      TextLayoutCache.getTextLayout(Integer.toString(i), FONT, frc);
+    }
+
+    // test
+    assertNotSame(layout, TextLayoutCache.getTextLayout("first", FONT, frc));
+  }
+}
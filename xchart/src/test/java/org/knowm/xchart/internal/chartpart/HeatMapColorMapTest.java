@@ -0,0 +1,59 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.Color;
+import org.junit.jupiter.api.Test;
+import org.knowm.xchart.HeatMapChartBuilder;
+import org.knowm.xchart.style.HeatMapStyler;
+
+public class HeatMapColorMapTest {
+
+  @Test
+  public void shouldOnlyRebuildWhenTheStylerChanges() {
+    // given
+    HeatMapStyler styler = new HeatMapChartBuilder().build().getStyler();
+    styler.setRangeColors(new Color[] {Color.BLACK, Color.WHITE});
+    HeatMapColorMap colorMap = new HeatMapColorMap();
+    colorMap.update(styler);
+    Color middle = colorMap.getColor(50, 0, 100);
+
+    // when
+    colorMap.update(styler);
+
+    // test
+    assertSame(middle, colorMap.getColor(50, 0, 100));
+    assertEquals(Color.BLACK, colorMap.getColor(-1, 0, 100));
+    assertEquals(Color.WHITE, colorMap.getColor(101, 0, 100));
+    assertEquals(127, middle.getRed(), 1);
+
+    // when
+    styler.setRangeColors(new Color[] {Color.BLACK, Color.RED});
+    colorMap.update(styler);
+
+    // test
+    assertNotSame(middle, colorMap.getColor(50, 0, 100));
+    assertEquals(0, colorMap.getColor(50, 0, 100).getGreen());
+  }
+
+  @Test
+  public void piecewiseShouldMapValuesToTheirSplit() {
+    // given
+    HeatMapStyler styler = new HeatMapChartBuilder().build().getStyler();
+    styler.setPiecewise(true);
+    styler.setSplitNumber(4);
+    HeatMapColorMap colorMap = new HeatMapColorMap();
+
+    // when
+    colorMap.update(styler);
+
+    // test
+    for (int split = 0; split < 4; split++) {
+      assertSame(colorMap.getSplitColor(split), colorMap.getColor(split * 25 + 10, 0, 100));
+    }
+    assertEquals(styler.getRangeColors()[0], colorMap.getSplitColor(0));
+    assertEquals(styler.getRangeColors()[2], colorMap.getSplitColor(3));
+  }
+}
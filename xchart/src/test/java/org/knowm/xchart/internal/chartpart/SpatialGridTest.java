@@ -0,0 +1,44 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class SpatialGridTest {
+
+  @Test
+  public void shouldFindSameItemsAsLinearScan() {
+    // given
+    Random random = new Random(7);
+    List<Rectangle2D> rectangles = new ArrayList<>();
+    SpatialGrid grid = new SpatialGrid();
+    for (int i = 0; i < 2_000; i++) {
+      double size = i % 100 == 0 ? 300 : 15;
+      Rectangle2D rectangle =
+          new Rectangle2D.Double(
+              random.nextDouble() * 800, random.nextDouble() * 600, size, size / 2);
+      rectangles.add(rectangle);
+      grid.add(rectangle.getMinX(), rectangle.getMinY(), rectangle.getMaxX(), rectangle.getMaxY());
+    }
+
+    // when & test
+    for (int x = -20; x < 1_200; x += 7) {
+      for (int y = -20; y < 700; y += 5) {
+        int expected = -1;
+        for (int i = 0; i < rectangles.size(); i++) {
+          if (rectangles.get(i).contains(x, y)) {
+            expected = i;
+            break;
+          }
+        }
+        final int px = x;
+        final int py = y;
+        assertEquals(expected, grid.findFirst(x, y, i -> rectangles.get(i).contains(px, py)));
+      }
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import javax.swing.JPanel;
+import org.junit.jupiter.api.Test;
+import org.knowm.xchart.BitmapEncoder;
+import org.knowm.xchart.StreamingXYSeries;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYChartBuilder;
+import org.knowm.xchart.XYSeries;
+import org.knowm.xchart.style.markers.SeriesMarkers;
+
+public class ToolTipsTest {
+
+  @Test
+  public void hoveredPointShouldShowItsLabelAtThePoint() {
+    // given
+    XYChart chart = getChart();
+    XYSeries series = chart.addSeries("point", new double[] {3}, new double[] {7});
+    series.setMarker(SeriesMarkers.CIRCLE);
+    series.setMarkerColor(Color.RED);
+    ToolTips toolTips = new ToolTips(chart);
+    double[] center = getCenter(BitmapEncoder.getBufferedImage(chart), Color.RED);
+
+    // when
+    toolTips.mouseMoved(getMouseMovedEvent(center[0], center[1]));
+    ToolTips.ToolTip shown = toolTips.getShownToolTip();
+    toolTips.mouseMoved(getMouseMovedEvent(center[0] + 100, center[1] + 100));
+
+    // test
+    assertNotNull(shown);
+    assertEquals("(3, 7)", shown.label);
+    assertEquals(center[0], shown.x, 1.0);
+    assertEquals(center[1], shown.y, 1.0);
+    assertNull(toolTips.getShownToolTip());
+  }
+
+  @Test
+  public void hoveredStreamingPointShouldShowThePaintedValues() {
+    // given
+    XYChart chart = getChart();
+    StreamingXYSeries series = chart.addStreamingSeries("point", 1);
+    series.setMarker(SeriesMarkers.CIRCLE);
+    series.setMarkerColor(Color.RED);
+    series.append(3, 7);
+    ToolTips toolTips = new ToolTips(chart);
+    double[] center = getCenter(BitmapEncoder.getBufferedImage(chart), Color.RED);
+
+    // when
+    series.append(4, 8);
+    series.getXData();
+    toolTips.mouseMoved(getMouseMovedEvent(center[0], center[1]));
+
+    // test
+    assertNotNull(toolTips.getShownToolTip());
+    assertEquals("(3, 7)", toolTips.getShownToolTip().label);
+  }
+
+  /** A chart with tool tips whose axes span 0 to 10, without a legend to paint markers into */
+  private static XYChart getChart() {
+
+    XYChart chart = new XYChartBuilder().width(400).height(300).build();
+    chart.getStyler().setToolTipsEnabled(true);
+    chart.getStyler().setLegendVisible(false);
+    XYSeries range = chart.addSeries("range", new double[] {0, 10}, new double[] {0, 10});
+    range.setMarker(SeriesMarkers.NONE);
+    range.setLineColor(Color.GRAY);
+    return chart;
+  }
+
+  /** Gets the center of the pixels of the given color */
+  private static double[] getCenter(BufferedImage image, Color color) {
+
+    double sumX = 0;
+    double sumY = 0;
+    int count = 0;
+    for (int y = 0; y < image.getHeight(); y++) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        if ((image.getRGB(x, y) & 0xFFFFFF) == (color.getRGB() & 0xFFFFFF)) {
+          sumX += x + 0.5;
+          sumY += y + 0.5;
+          count++;
+        }
+      }
+    }
+    assertTrue(count > 0, "no pixels of the color");
+    return new double[] {sumX / count, sumY / count};
+  }
+
+  private static MouseEvent getMouseMovedEvent(double x, double y) {
+
+    return new MouseEvent(new JPanel(), MouseEvent.MOUSE_MOVED, 0, 0, (int) x, (int) y, 0, false);
+  }
+}
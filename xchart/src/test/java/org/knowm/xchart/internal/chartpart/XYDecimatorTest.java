@@ -0,0 +1,149 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.knowm.xchart.style.XYStyler.DecimationMode;
+
+public class XYDecimatorTest {
+
+  @Test
+  public void shouldKeepExtremesOfEachColumn() {
+    // given
+    int n = 10_000;
+    double[] xData = new double[n];
+    double[] yData = new double[n];
+    for (int i = 0; i < n; i++) {
+      xData[i] = i;
+      yData[i] = Math.sin(i / 100.0);
+    }
+    yData[5_000] = 42;
+    yData[7_000] = -42;
+
+    // when
+    int[] indices =
+        XYDecimator.decimate(DecimationMode.MinMax, xData, yData, 0, n, 0, n, 100, false);
+
+    // test
+    assertTrue(indices.length <= 4 * 100);
+    assertEquals(0, indices[0]);
+    assertEquals(n - 1, indices[indices.length - 1]);
+    assertAscending(indices);
+    assertContains(indices, 5_000);
+    assertContains(indices, 7_000);
+  }
+
+  @Test
+  public void shouldKeepNaNGaps() {
+    // given
+    int n = 10_000;
+    double[] xData = new double[n];
+    double[] yData = new double[n];
+    for (int i = 0; i < n; i++) {
+      xData[i] = i;
+      yData[i] = i % 1_000 == 500 ? Double.NaN : i;
+    }
+
+    // when
+    int[] minMax = XYDecimator.decimate(DecimationMode.MinMax, xData, yData, 0, n, 0, n, 50, false);
+    int[] lttb = XYDecimator.decimate(DecimationMode.LTTB, xData, yData, 0, n, 0, n, 50, false);
+
+    // test
+    for (int i = 500; i < n; i += 1_000) {
+      assertContains(minMax, i);
+      assertContains(lttb, i);
+    }
+    assertAscending(minMax);
+    assertAscending(lttb);
+  }
+
+  @Test
+  public void shouldOnlyDecimateTheGivenRange() {
+    // given
+    int n = 10_000;
+    double[] xData = new double[n];
+    double[] yData = new double[n];
+    for (int i = 0; i < n; i++) {
+      xData[i] = i;
+      yData[i] = Math.cos(i / 50.0);
+    }
+
+    // when
+    int[] minMax =
+        XYDecimator.decimate(
+            DecimationMode.MinMax, xData, yData, 2_000, 6_000, 2_000, 6_000, 100, false);
+    int[] lttb =
+        XYDecimator.decimate(
+            DecimationMode.LTTB, xData, yData, 2_000, 6_000, 2_000, 6_000, 100, false);
+
+    // test
+    for (int[] indices : new int[][] {minMax, lttb}) {
+      assertEquals(2_000, indices[0]);
+      assertEquals(5_999, indices[indices.length - 1]);
+      assertAscending(indices);
+    }
+  }
+
+  @Test
+  public void lttbShouldSampleThePointsWithinTheXAxisRange() {
+    // given
+    int n = 100_000;
+    double[] xData = new double[n];
+    double[] yData = new double[n];
+    for (int i = 0; i < n; i++) {
+      xData[i] = i;
+      yData[i] = Math.sin(i / 10.0);
+    }
+
+    // when
+    int[] indices =
+        XYDecimator.decimate(DecimationMode.LTTB, xData, yData, 0, n, 50_000, 51_000, 100, false);
+
+    // test
+    assertEquals(49_999, indices[0]);
+    assertEquals(51_001, indices[indices.length - 1]);
+    assertTrue(indices.length >= 2 * 100);
+    assertAscending(indices);
+  }
+
+  @Test
+  public void shouldNotDecimateSmallOrUnsortedData() {
+    // given
+    double[] small = {1, 2, 3, 4, 5};
+    double[] unsorted = new double[1_000];
+    for (int i = 0; i < unsorted.length; i++) {
+      unsorted[i] = i % 2 == 0 ? i : -i;
+    }
+
+    // when & test
+    assertNull(decimate(DecimationMode.MinMax, small, 1, 5, 100));
+    assertNull(decimate(DecimationMode.LTTB, unsorted, -999, 999, 10));
+    assertNull(decimate(DecimationMode.None, unsorted, -999, 999, 10));
+  }
+
+  private static int[] decimate(
+      DecimationMode decimationMode, double[] data, double xMin, double xMax, int columns) {
+
+    return XYDecimator.decimate(
+        decimationMode, data, data, 0, data.length, xMin, xMax, columns, false);
+  }
+
+  private static void assertAscending(int[] indices) {
+
+    for (int i = 1; i < indices.length; i++) {
+      assertTrue(indices[i] > indices[i - 1], "indices not ascending at " + i);
+    }
+  }
+
+  private static void assertContains(int[] indices, int index) {
+
+    for (int i : indices) {
+      if (i == index) {
+        return;
+      }
+    }
+    assertTrue(false, "index " + index + " missing");
+  }
+}
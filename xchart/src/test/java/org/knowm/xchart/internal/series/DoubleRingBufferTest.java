@@ -0,0 +1,56 @@
+package org.knowm.xchart.internal.series;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class DoubleRingBufferTest {
+
+  @Test
+  public void shouldKeepNewestValuesInOrder() {
+    // given
+    DoubleRingBuffer buffer = new DoubleRingBuffer(3);
+
+    // when
+    for (int i = 1; i <= 5; i++) {
+      buffer.add(i);
+    }
+    double[] values = new double[buffer.getSize()];
+    buffer.copyTo(values);
+
+    // test
+    assertEquals(3, buffer.getSize());
+    assertArrayEquals(new double[] {3, 4, 5}, values);
+    assertEquals(3, buffer.get(0));
+    assertEquals(5, buffer.get(2));
+  }
+
+  @Test
+  public void shouldTrackMinAndMaxOfWindow() {
+    // given
+    int capacity = 50;
+    DoubleRingBuffer buffer = new DoubleRingBuffer(capacity);
+    double[] all = new double[1_000];
+    Random random = new Random(42);
+
+    for (int i = 0; i < all.length; i++) {
+      // when
+      all[i] = i % 17 == 0 ? Double.NaN : random.nextGaussian();
+      buffer.add(all[i]);
+
+      // test
+      double min = Double.MAX_VALUE;
+      double max = -Double.MAX_VALUE;
+      for (int j = Math.max(0, i - capacity + 1); j <= i; j++) {
+        if (!Double.isNaN(all[j])) {
+          min = Math.min(min, all[j]);
+          max = Math.max(max, all[j]);
+        }
+      }
+      assertEquals(min, buffer.getMin());
+      assertEquals(max, buffer.getMax());
+    }
+  }
+}
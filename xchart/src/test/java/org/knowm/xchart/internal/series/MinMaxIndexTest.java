@@ -0,0 +1,51 @@
+package org.knowm.xchart.internal.series;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class MinMaxIndexTest {
+
+  @Test
+  public void shouldMatchLinearScanForAllRanges() {
+    // given
+    Random random = new Random(42);
+    int n = 5 * MinMaxIndex.BLOCK_SIZE + 7;
+    double[] data = new double[n];
+    double[] errorBars = new double[n];
+    for (int i = 0; i < n; i++) {
+      data[i] = i % 50 == 0 ? Double.NaN : random.nextGaussian() * 100;
+      errorBars[i] = random.nextDouble();
+    }
+
+    // when
+    MinMaxIndex index = new MinMaxIndex(data, null);
+    MinMaxIndex indexWithErrorBars = new MinMaxIndex(data, errorBars);
+
+    // test
+    for (int from = 0; from <= n; from += 13) {
+      for (int to = from; to <= n; to += 17) {
+        assertArrayEquals(scan(data, null, from, to), index.findMinMax(from, to), 0);
+        assertArrayEquals(
+            scan(data, errorBars, from, to), indexWithErrorBars.findMinMax(from, to), 0);
+      }
+    }
+  }
+
+  private static double[] scan(double[] data, double[] errorBars, int from, int to) {
+
+    double min = Double.MAX_VALUE;
+    double max = -Double.MAX_VALUE;
+    for (int i = from; i < to; i++) {
+      double eb = errorBars == null ? 0 : errorBars[i];
+      if (data[i] - eb < min) {
+        min = data[i] - eb;
+      }
+      if (data[i] + eb > max) {
+        max = data[i] + eb;
+      }
+    }
+    return new double[] {min, max};
+  }
+}